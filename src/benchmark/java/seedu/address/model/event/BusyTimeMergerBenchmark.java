@@ -0,0 +1,92 @@
+package seedu.address.model.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares sequential and parallel gathering of busy periods, the dominant cost of {@code MeetCommand}.
+ * Not a test; run it with {@code gradlew benchmark}.
+ */
+public class BusyTimeMergerBenchmark {
+
+    private static final int[] PARTICIPANT_COUNTS = {10, 100, 1000};
+    private static final int EVENTS_PER_PARTICIPANT = 40;
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    public static void main(String[] args) {
+        System.out.printf("%12s %10s %16s %16s%n", "participants", "events", "sequential (us)", "parallel (us)");
+        for (int participantCount : PARTICIPANT_COUNTS) {
+            Set<Person> participants = new HashSet<>();
+            List<Event> events = generateEvents(participantCount, participants);
+
+            List<TimeRange> sequential = BusyTimeMerger.mergeSequentially(events, participants);
+            if (!sequential.equals(BusyTimeMerger.merge(events, participants))) {
+                throw new AssertionError("Parallel merge differs from sequential merge");
+            }
+
+            long sequentialMicros = time(() -> BusyTimeMerger.mergeSequentially(events, participants));
+            long parallelMicros = time(() -> BusyTimeMerger.merge(events, participants));
+            System.out.printf("%12d %10d %16d %16d%n", participantCount, events.size(), sequentialMicros,
+                    parallelMicros);
+        }
+    }
+
+    /**
+     * Returns events in which each of {@code participantCount} new persons takes part, and adds the persons
+     * to {@code participants}. Every event also involves one other person to mimic group activities.
+     */
+    private static List<Event> generateEvents(int participantCount, Set<Person> participants) {
+        Random random = new Random(participantCount);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < participantCount; i++) {
+            Person person = new PersonBuilder().withName("Participant " + i).withPhone(String.valueOf(10000000 + i))
+                    .build();
+            persons.add(person);
+            participants.add(person);
+        }
+
+        List<Event> events = new ArrayList<>();
+        LocalDateTime origin = LocalDateTime.of(2019, 1, 7, 8, 0);
+        for (int i = 0; i < participantCount * EVENTS_PER_PARTICIPANT; i++) {
+            LocalDateTime start = origin.plusMinutes(30L * random.nextInt(24 * 2 * 120));
+            LocalDateTime end = start.plusMinutes(30 + 30 * random.nextInt(4));
+            Event event = new EventBuilder()
+                    .withName("Event " + i)
+                    .withStartDateTime(start.format(DateTime.DATE_TIME_FORMATTER))
+                    .withEndDateTime(end.format(DateTime.DATE_TIME_FORMATTER))
+                    .build();
+            Person first = persons.get(i % participantCount);
+            Person second = persons.get(random.nextInt(participantCount));
+            event.addPerson(first);
+            if (second != first) {
+                event.addPerson(second);
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * Returns the mean running time of {@code task} in microseconds.
+     */
+    private static long time(Supplier<List<TimeRange>> task) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            task.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.get();
+        }
+        return (System.nanoTime() - start) / MEASURED_ROUNDS / 1000;
+    }
+}
@@ -3,10 +3,13 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.commons.core.BackgroundServices;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -23,8 +26,9 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AddressBookStorageConverter;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.LazyAddressBook;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -45,6 +49,9 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected BackgroundServices backgroundServices;
+    /** Completes once the events and reminders are read, if they are read after the persons. */
+    private CompletableFuture<ReadOnlyAddressBook> eventsAndRemindersLoaded;
 
     @Override
     public void init() throws Exception {
@@ -56,14 +63,16 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = AddressBookStorageConverter.toChosenFormat(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
+        backgroundServices = new BackgroundServices();
+
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, backgroundServices.getExecutor());
 
         ui = new UiManager(logic);
     }
@@ -72,13 +81,21 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * If lazy loading is chosen in {@code userPrefs}, the events and reminders are read in the background.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
 
         try {
-            addressBookOptional = storage.readAddressBook();
+            if (userPrefs.isLazyLoading()) {
+                Optional<LazyAddressBook> lazyAddressBook =
+                        storage.readAddressBookLazily(backgroundServices.getExecutor());
+                addressBookOptional = lazyAddressBook.map(LazyAddressBook::getPersons);
+                eventsAndRemindersLoaded = lazyAddressBook.map(LazyAddressBook::getEventsAndReminders).orElse(null);
+            } else {
+                addressBookOptional = storage.readAddressBook();
+            }
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
@@ -93,7 +110,11 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model modelManager = new ModelManager(initialData, userPrefs);
+        if (eventsAndRemindersLoaded != null) {
+            modelManager.loadEventsAndRemindersLater(eventsAndRemindersLoaded);
+        }
+        return modelManager;
     }
 
     private void initLogging(Config config) {
@@ -171,13 +192,33 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        backgroundServices.start(logic.getAutoSaver());
+        if (eventsAndRemindersLoaded == null) {
+            backgroundServices.start(logic.getThreadJob());
+            backgroundServices.start(logic.getDataFileWatcher());
+        } else {
+            // reminders are only checked, and the data file only compared against, once they have been read.
+            eventsAndRemindersLoaded.whenCompleteAsync((loaded, error) -> {
+                try {
+                    // rethrows the error the events and reminders were read with, if any.
+                    model.awaitEventsAndReminders();
+                } catch (DataConversionException dce) {
+                    // commands that would save are refused from now on, and tell the user why.
+                    logger.severe("Events and reminders could not be read, so reminders are not checked and the "
+                            + "data file is not watched: " + StringUtil.getDetails(error));
+                    return;
+                }
+                backgroundServices.start(logic.getThreadJob());
+                backgroundServices.start(logic.getDataFileWatcher());
+            }, Platform::runLater);
+        }
         ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
-        logic.getThreadJob().stopExecuting();
         logger.info("============================ [ Stopping Address Book ] =============================");
+        backgroundServices.stop();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
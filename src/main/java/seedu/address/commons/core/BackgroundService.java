@@ -0,0 +1,30 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * A long-running job of the app, such as checking reminders or saving data, that runs on the executor shared by
+ * all {@link BackgroundServices}.
+ */
+public interface BackgroundService {
+
+    /**
+     * Returns a short name identifying this service in logs and status reports.
+     */
+    String getName();
+
+    /**
+     * Starts this service. All of its work is to be scheduled on {@code executor}.
+     */
+    void start(ScheduledExecutorService executor);
+
+    /**
+     * Stops this service promptly. Work that must not be lost, such as unsaved data, is finished before returning.
+     */
+    void stop();
+
+    /**
+     * Returns true if this service is running and its last run did not fail.
+     */
+    boolean isHealthy();
+}
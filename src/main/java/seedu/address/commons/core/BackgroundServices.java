@@ -0,0 +1,112 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Starts and stops the background services of the app, all of which run on one small shared pool of daemon threads.
+ */
+public class BackgroundServices {
+
+    private static final int POOL_SIZE = 2;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 1000;
+
+    private final Logger logger = LogsCenter.getLogger(BackgroundServices.class);
+    private final List<BackgroundService> services = new CopyOnWriteArrayList<>();
+    private final ScheduledThreadPoolExecutor executor;
+
+    public BackgroundServices() {
+        executor = new ScheduledThreadPoolExecutor(POOL_SIZE, new DaemonThreadFactory());
+        // services reschedule their work often, so cancelled tasks must not pile up in the queue.
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Starts {@code service} on the shared executor, and stops it along with the others on {@link #stop()}.
+     */
+    public void start(BackgroundService service) {
+        requireNonNull(service);
+        services.add(service);
+        service.start(executor);
+        logger.info("Started background service " + service.getName());
+    }
+
+    /**
+     * Returns the shared executor, for one-off jobs that are not services of their own.
+     */
+    public ScheduledExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Returns true if every service is healthy.
+     */
+    public boolean isHealthy() {
+        return services.stream().allMatch(BackgroundService::isHealthy);
+    }
+
+    /**
+     * Returns the health of every service, and how busy the shared executor is.
+     */
+    public String getStatus() {
+        StringBuilder builder = new StringBuilder();
+        for (BackgroundService service : services) {
+            builder.append(service.getName())
+                    .append(service.isHealthy() ? ": healthy" : ": unhealthy")
+                    .append('\n');
+        }
+        builder.append("Threads: ").append(executor.getPoolSize())
+                .append(", tasks run: ").append(executor.getCompletedTaskCount())
+                .append(", tasks queued: ").append(executor.getQueue().size());
+        return builder.toString();
+    }
+
+    /**
+     * Stops every service, the last started first, then the shared executor, waiting briefly for running jobs to
+     * finish.
+     */
+    public void stop() {
+        List<BackgroundService> lastStartedFirst = new ArrayList<>(services);
+        Collections.reverse(lastStartedFirst);
+        for (BackgroundService service : lastStartedFirst) {
+            try {
+                service.stop();
+            } catch (RuntimeException e) {
+                logger.warning("Failed to stop background service " + service.getName() + ": " + e);
+            }
+        }
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                logger.warning("Background services did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.fine(getStatus());
+    }
+
+    /**
+     * Creates named daemon threads, so that background work never keeps the app from exiting.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "background-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
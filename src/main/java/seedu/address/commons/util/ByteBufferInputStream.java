@@ -0,0 +1,87 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@code InputStream} that reads the remaining bytes of a {@code ByteBuffer}, such as a file mapped into memory.
+ * The bytes are copied straight from the buffer into the reader's array, with no buffer of its own in between.
+ * Reading a mapped file that was truncated meanwhile fails with an {@code IOException}, rather than with the
+ * {@code InternalError} the buffer raises.
+ */
+public class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        requireNonNull(buffer);
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        try {
+            return buffer.get() & 0xff;
+        } catch (InternalError e) {
+            throw toIoException(e);
+        }
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.remaining());
+        try {
+            buffer.get(bytes, offset, count);
+        } catch (InternalError e) {
+            throw toIoException(e);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the failure to read a mapped page, raised by the JVM as an {@code InternalError}, as an
+     * {@code IOException}.
+     */
+    private static IOException toIoException(InternalError e) {
+        return new IOException("Could not read the file, which may have been truncated while it was read", e);
+    }
+
+    @Override
+    public long skip(long n) {
+        int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        buffer.mark();
+    }
+
+    @Override
+    public synchronized void reset() {
+        buffer.reset();
+    }
+}
@@ -1,19 +1,41 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /**
+     * Smallest file that is mapped into memory by {@link #openForReading(Path)}. Mapping costs more than reading a
+     * small file, and a mapped file cannot be overwritten on some systems until the mapping is garbage collected.
+     */
+    public static final long MAP_THRESHOLD_BYTES = 16 * 1024 * 1024;
+    /** Smallest file that is read through {@code LARGE_BUFFER_BYTES} at a time rather than the default buffer. */
+    public static final long LARGE_FILE_BYTES = 1024 * 1024;
+
     private static final String CHARSET = "UTF-8";
+    /** First two bytes of every gzip file. */
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+    private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+    private static final int BUFFER_BYTES = 8 * 1024;
+    private static final int LARGE_BUFFER_BYTES = 256 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -67,6 +89,58 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns a stream over the contents of {@code file}, which must exist.
+     * Files of at least {@code MAP_THRESHOLD_BYTES} are mapped into memory and read in place, rather than copied into
+     * the heap through a buffer first. Smaller files are read from their channel, a large one in large chunks.
+     * If another program, or this app, truncates a mapped file while it is read, reading fails with an
+     * {@code IOException}, as it does for a file read through a buffer.
+     * A gzip file is recognised by its first bytes, and decompressed as it is read.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        return openForReading(file, MAP_THRESHOLD_BYTES);
+    }
+
+    static InputStream openForReading(Path file, long mapThresholdBytes) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        InputStream in;
+        try {
+            long size = channel.size();
+            if (size >= mapThresholdBytes && size <= Integer.MAX_VALUE) {
+                // the mapping stays valid after the channel is closed.
+                in = new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+                channel.close();
+            } else {
+                in = new BufferedInputStream(Channels.newInputStream(channel),
+                        size >= LARGE_FILE_BYTES ? LARGE_BUFFER_BYTES : BUFFER_BYTES);
+            }
+        } catch (IOException ioe) {
+            channel.close();
+            throw ioe;
+        }
+        return isGzipped(in) ? new GZIPInputStream(in, GZIP_BUFFER_BYTES) : in;
+    }
+
+    /**
+     * Returns true if {@code in} starts with the gzip magic bytes, leaving its position unchanged.
+     */
+    private static boolean isGzipped(InputStream in) throws IOException {
+        assert in.markSupported();
+        in.mark(2);
+        boolean isGzipped = in.read() == GZIP_MAGIC_FIRST && in.read() == GZIP_MAGIC_SECOND;
+        in.reset();
+        return isGzipped;
+    }
+
+    /**
+     * Returns a stream that replaces the contents of {@code file}, creating it if it does not exist.
+     * @param isCompressed whether the contents are compressed with gzip as they are written.
+     */
+    public static OutputStream openForWriting(Path file, boolean isCompressed) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        return isCompressed ? new GZIPOutputStream(out, GZIP_BUFFER_BYTES) : out;
+    }
+
     /**
      * Assumes file exists
      */
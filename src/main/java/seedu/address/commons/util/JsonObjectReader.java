@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads the top-level fields of a json object one at a time, as the file is parsed.
+ * A caller can read the fields it needs first, and leave the rest of the file to be read later, possibly on another
+ * thread. The reader must only be used by one thread at a time.
+ */
+public class JsonObjectReader implements Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+
+    JsonObjectReader(ObjectMapper objectMapper, JsonParser parser) throws IOException {
+        this.objectMapper = objectMapper;
+        this.parser = parser;
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a json object at " + parser.getCurrentLocation());
+        }
+    }
+
+    /**
+     * Moves to the next field of the object and returns its name, or {@code Optional.empty()} at the end of the
+     * object. The value of the field must then be read or skipped.
+     */
+    public Optional<String> nextField() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_OBJECT || token == null) {
+            return Optional.empty();
+        }
+        if (token != JsonToken.FIELD_NAME) {
+            throw new IOException("Expected a field name at " + parser.getCurrentLocation());
+        }
+        String name = parser.getCurrentName();
+        parser.nextToken();
+        return Optional.of(name);
+    }
+
+    /**
+     * Reads the value of the current field as an instance of {@code valueClass}.
+     */
+    public <T> T readValue(Class<T> valueClass) throws IOException {
+        return objectMapper.readValue(parser, valueClass);
+    }
+
+    /**
+     * Reads the value of the current field as a list of {@code elementClass}. A null value is read as an empty list.
+     */
+    public <T> List<T> readList(Class<T> elementClass) throws IOException {
+        List<T> list = objectMapper.readValue(parser,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, elementClass));
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    /**
+     * Skips the value of the current field.
+     */
+    public void skipValue() throws IOException {
+        parser.skipChildren();
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Writes a json object one value at a time, as the values are produced.
+ * Only the value being written is held in memory, so that a caller can write lists of any length. The object is
+ * ended when the writer is closed.
+ */
+public class JsonObjectWriter implements Closeable {
+
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+
+    JsonObjectWriter(ObjectWriter objectWriter, JsonGenerator generator) throws IOException {
+        this.objectWriter = objectWriter;
+        this.generator = generator;
+        generator.writeStartObject();
+    }
+
+    /**
+     * Starts a field named {@code fieldName} whose value is a list. Its elements are then written with
+     * {@link #writeValue(Object)}, and the list is ended with {@link #endList()}.
+     */
+    public void startList(String fieldName) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+    }
+
+    /**
+     * Writes {@code value} as the next element of the current list.
+     */
+    public void writeValue(Object value) throws IOException {
+        objectWriter.writeValue(generator, value);
+    }
+
+    public void endList() throws IOException {
+        generator.writeEndArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            generator.writeEndObject();
+        } finally {
+            generator.close();
+        }
+    }
+}
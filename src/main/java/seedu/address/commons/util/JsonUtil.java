@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -40,13 +45,71 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, true, false);
     }
 
+    /**
+     * Writes {@code objectToSerialize} to {@code jsonFile} as it is converted, without first building the whole
+     * document as a string.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isPrettyPrinted,
+                                              boolean isCompressed) throws IOException {
+        try (OutputStream out = FileUtil.openForWriting(jsonFile, isCompressed);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+            objectMapper.writeValue(generator, objectToSerialize);
+        }
+    }
+
+    /**
+     * Reads an instance of {@code classOfObjectToDeserialize} from {@code jsonFile} as the file is parsed, without
+     * first reading the whole file into a string. Large files are read in large chunks, and gzip files are
+     * decompressed as they are parsed.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        T deserializedFile = fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
-        return deserializedFile;
+        try (InputStream in = FileUtil.openForReading(jsonFile);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            return objectMapper.readValue(parser, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Opens {@code jsonFile}, which must hold a json object, to read its fields one at a time.
+     * Like {@link #readJsonFile(Path, Class)}, large files are read in large chunks and gzip files are decompressed
+     * as they are read.
+     */
+    public static JsonObjectReader openObjectReader(Path jsonFile) throws IOException {
+        requireNonNull(jsonFile);
+        InputStream in = FileUtil.openForReading(jsonFile);
+        try {
+            return new JsonObjectReader(objectMapper, objectMapper.getFactory().createParser(in));
+        } catch (IOException ioe) {
+            in.close();
+            throw ioe;
+        }
+    }
+
+    /**
+     * Opens {@code jsonFile} to write a json object to it one value at a time, replacing the contents of the file.
+     * Values are not flushed to the file one by one, but as the buffer fills up and when the writer is closed.
+     */
+    public static JsonObjectWriter openObjectWriter(Path jsonFile, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(jsonFile);
+        OutputStream out = FileUtil.openForWriting(jsonFile, false);
+        try {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+            return new JsonObjectWriter(objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE),
+                    generator);
+        } catch (IOException ioe) {
+            out.close();
+            throw ioe;
+        }
     }
 
     /**
@@ -85,10 +148,27 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, true);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}.
+     * @param isPrettyPrinted whether the file is indented for reading, or written on a single line.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isPrettyPrinted) throws IOException {
+        saveJsonFile(jsonFile, filePath, isPrettyPrinted, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path, boolean)}.
+     * @param isCompressed whether the file is compressed with gzip as it is written.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isPrettyPrinted, boolean isCompressed)
+            throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isPrettyPrinted, isCompressed);
     }
 
 
@@ -111,6 +191,13 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line.
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
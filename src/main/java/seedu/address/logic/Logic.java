@@ -13,6 +13,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
+import seedu.address.storage.AutoSaver;
+import seedu.address.storage.DataFileWatcher;
 import seedu.address.ui.WindowViewState;
 
 /**
@@ -35,6 +37,17 @@ public interface Logic {
      * @return reminder check thread job
      */
     ReminderCheck getThreadJob();
+
+    /**
+     * Returns the saver that writes the address book to storage after each modifying command.
+     */
+    AutoSaver getAutoSaver();
+
+    /**
+     * Returns the watcher that applies changes made to the data file by other programs to the address book.
+     */
+    DataFileWatcher getDataFileWatcher();
+
     /**
      * Returns the AddressBook.
      *
@@ -2,23 +2,30 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.WrongViewException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookDiff;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
+import seedu.address.storage.AutoSaver;
+import seedu.address.storage.DataFileWatcher;
 import seedu.address.storage.Storage;
 import seedu.address.ui.WindowViewState;
 
@@ -27,23 +34,37 @@ import seedu.address.ui.WindowViewState;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_EVENTS_NOT_LOADED = "Events and reminders could not be read from the data file, "
+            + "so no changes are made, to keep them from being overwritten.\n"
+            + "Fix or remove the data file, then restart the app: %1$s";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final CommandHistory history;
     private final ReminderCheck threadJob;
+    private final AutoSaver autoSaver;
+    private final DataFileWatcher dataFileWatcher;
     private final AddressBookParser addressBookParser;
     private boolean addressBookModified;
 
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Creates a LogicManager whose commands run their background work on {@code executor}, which is shared with the
+     * background services.
+     */
+    public LogicManager(Model model, Storage storage, Executor executor) {
         this.model = model;
         this.storage = storage;
         history = new CommandHistory();
-        addressBookParser = new AddressBookParser();
-        threadJob = new ReminderCheck(this.model);
-        Thread checkThread = new Thread(threadJob);
-        checkThread.start();
+        addressBookParser = new AddressBookParser(executor);
+        autoSaver = new AutoSaver(storage);
+        threadJob = new ReminderCheck(this.model, autoSaver, Platform::runLater);
+        dataFileWatcher = new DataFileWatcher(model.getAddressBook(), autoSaver, storage.getAddressBookFilePath(),
+                changes -> Platform.runLater(() -> applyExternalChanges(changes)));
         // Set addressBookModified to true whenever the models' address book is modified.
         model.getAddressBook().addListener(observable -> addressBookModified = true);
     }
@@ -53,15 +74,49 @@ public class LogicManager implements Logic {
         return threadJob;
     }
 
+    @Override
+    public AutoSaver getAutoSaver() {
+        return autoSaver;
+    }
+
+    @Override
+    public DataFileWatcher getDataFileWatcher() {
+        return dataFileWatcher;
+    }
+
+    /**
+     * Applies {@code changes} made to the data file by another program to the model, as a change that can be undone
+     * if any of them was applied.
+     * The result is saved only if it differs from the data file as read, which it does if changes made in the app
+     * are not in the file yet, or were kept over the changes of the other program.
+     */
+    void applyExternalChanges(AddressBookDiff changes) {
+        int conflictCount = model.applyChanges(changes);
+        if (conflictCount < changes.size()) {
+            model.commitAddressBook();
+        }
+        logger.info("Applied changes made to the data file by another program, leaving out " + conflictCount
+                + " that conflict with changes made in the app.");
+        try {
+            autoSaver.saveIfChanged(model.getAddressBook());
+        } catch (IOException ioe) {
+            logger.warning("Failed to save the changes made to the data file by another program: " + ioe);
+        }
+    }
+
     @Override
     public CommandResult execute(String commandText, WindowViewState windowViewState)
             throws CommandException, ParseException, WrongViewException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
-        addressBookModified = false;
 
         CommandResult commandResult;
         try {
             Command command = addressBookParser.parseCommand(commandText);
+            if (!command.isPersonsOnly()) {
+                awaitEventsAndReminders();
+            }
+            // events and reminders added above are already in the data file.
+            addressBookModified = false;
             commandResult = command.execute(model, history, windowViewState);
         } finally {
             history.add(commandText);
@@ -70,15 +125,33 @@ public class LogicManager implements Logic {
         if (addressBookModified) {
             logger.info("Address book modified, saving to file.");
             try {
-                storage.saveAddressBook(model.getAddressBook());
+                autoSaver.save(model.getAddressBook());
             } catch (IOException ioe) {
                 throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
             }
         }
 
+        // a background save of an earlier command may have failed since.
+        Optional<IOException> saveFailure = autoSaver.takeFailure();
+        if (saveFailure.isPresent()) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + saveFailure.get(), saveFailure.get());
+        }
+
         return commandResult;
     }
 
+    /**
+     * Waits for the events and reminders being read, if any.
+     * @throws CommandException if they could not be read, as saving without them would remove them from the data file.
+     */
+    private void awaitEventsAndReminders() throws CommandException {
+        try {
+            model.awaitEventsAndReminders();
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_EVENTS_NOT_LOADED, dce.getMessage()), dce);
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -1,102 +1,351 @@
 package seedu.address.logic;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
 
-import javafx.application.Platform;
-import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.BackgroundService;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.Model;
 import seedu.address.model.reminder.Reminder;
+import seedu.address.storage.AutoSaver;
 
 
 /**
- *Represent the thread that reminder checking use
+ * Shows and deletes reminders when they are due.
+ * Rather than polling, the check sleeps until the earliest time at which a reminder is to be shown or deleted,
+ * and is rescheduled whenever the reminder list changes. No work is done while no reminder is due.
+ *
+ * The check runs on a background thread but never touches the model. It works from a snapshot of the reminders taken
+ * on the FX thread, and publishes what is due into a queue. A single drain, handed to the FX thread, applies everything
+ * published so far.
+ *
+ * On start, reminders that fell due while the app was closed are sorted out in one batch, and those that were missed
+ * are summed up in a single digest rather than shown one by one.
+ *
+ * Showing and hiding reminders only changes how they are displayed, and does not commit the address book. Neither
+ * does deleting expired reminders, which are taken out of the undo and redo history as well, so that undoing the
+ * user's last command undoes that command, and does not bring them back.
+ * The changes are saved through the auto-saver, which writes a burst of them only once.
  */
-public class ReminderCheck implements Runnable {
-    private Thread t;
-    private Model model;
+public class ReminderCheck implements Runnable, BackgroundService {
+    public static final String MESSAGE_MISSED_REMINDERS = "%1$d reminder(s) fell due while the app was closed:";
+    public static final String MESSAGE_MORE_MISSED_REMINDERS = "...and %1$d more";
+
+    /** Most missed reminders listed in the digest. */
+    private static final int MAX_MISSED_LISTED = 10;
+    /**
+     * Longest time the check sleeps, so that reminders still show on time after the system clock is changed or the
+     * computer wakes from sleep.
+     */
+    static final long MAX_DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final Logger logger = LogsCenter.getLogger(ReminderCheck.class);
+    private final Model model;
+    private final AutoSaver autoSaver;
+    private final Executor fxThread;
+    private final ObservableList<Reminder> lastShownReminder;
+    private final Queue<Due> dueReminders = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isDrainPending = new AtomicBoolean(false);
+    private volatile List<ReminderState> snapshot = Collections.emptyList();
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> nextCheck;
     private volatile boolean execute;
-    private List<Reminder> lastShownReminder;
-    //private ReminderList deleteReminderList = new ReminderList();
-    private boolean deleteChange = false;
+    private volatile boolean isLastRunFailed;
+    private String missedDigest;
 
-    ReminderCheck(Model model) {
+    /**
+     * Creates a check of the reminders in {@code model}, whose changes are applied by tasks run on {@code fxThread}.
+     * {@code fxThread} must run them on the thread that owns the model.
+     */
+    ReminderCheck(Model model, AutoSaver autoSaver, Executor fxThread) {
         this.model = model;
+        this.autoSaver = autoSaver;
+        this.fxThread = fxThread;
         lastShownReminder = model.getFilteredReminderList();
     }
 
     /**
-     * The inner logic of reminder check. Did a while loop to check which reminders should be shown, which reminders
-     * should be deleted.
+     * Catches up on reminders that fell due while the app was closed, runs the first check, and reschedules the
+     * check whenever reminders are added, edited or deleted.
+     * Must be called on the thread that owns the model.
+     */
+    @Override
+    public void start(ScheduledExecutorService executor) {
+        scheduler = executor;
+        execute = true;
+        catchUp(System.currentTimeMillis());
+        lastShownReminder.addListener((ListChangeListener<Reminder>) change -> takeSnapshotAndReschedule());
+        takeSnapshotAndReschedule();
+    }
+
+    /**
+     * Returns a summary of the reminders that expired while the app was closed, if there were any.
+     */
+    public Optional<String> getMissedDigest() {
+        return Optional.ofNullable(missedDigest);
+    }
+
+    /**
+     * Sorts out the reminders that fell due while the app was closed, in one pass over them in order of expiry.
+     * Those that have expired come first, and are deleted together and summed up in the missed digest. Those that
+     * are due come next, and are shown. The rest are in the future and are left to the scheduled check.
+     */
+    private void catchUp(long now) {
+        List<Reminder> byExpiry = new ArrayList<>(model.getAddressBook().getReminderList());
+        byExpiry.sort(Comparator.comparingLong(r -> r.getExpireAt(now)));
+
+        int i = 0;
+        List<Reminder> expired = new ArrayList<>();
+        List<Reminder> missed = new ArrayList<>();
+        for (; i < byExpiry.size() && byExpiry.get(i).isExpiredAt(now); i++) {
+            Reminder r = byExpiry.get(i);
+            expired.add(r);
+            if (!r.getNotShow()) {
+                missed.add(r);
+            }
+        }
+        for (; i < byExpiry.size() && byExpiry.get(i).isShownAt(now); i++) {
+            Reminder r = byExpiry.get(i);
+            if (!r.getNotShow()) {
+                model.setShow(r, true);
+                model.addShownReminder(r);
+            }
+        }
+
+        if (!expired.isEmpty()) {
+            model.expireReminders(expired);
+            save();
+        }
+        if (!missed.isEmpty()) {
+            missedDigest = describeMissed(missed);
+            logger.info(missed.size() + " reminders were missed while the app was closed");
+        }
+    }
+
+    private static String describeMissed(List<Reminder> missed) {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_MISSED_REMINDERS, missed.size()));
+        for (Reminder r : missed.subList(0, Math.min(missed.size(), MAX_MISSED_LISTED))) {
+            builder.append("\n  ").append(r.getEvent().getName())
+                    .append(" at ").append(r.getEvent().getStartDateTime());
+        }
+        if (missed.size() > MAX_MISSED_LISTED) {
+            builder.append("\n  ").append(String.format(MESSAGE_MORE_MISSED_REMINDERS,
+                    missed.size() - MAX_MISSED_LISTED));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Publishes the reminders that are due, then schedules the next check.
+     * If anything was published, the drain schedules the next check once it has been applied instead.
      */
-    public void run() {
-        //System.out.println("reminder testing thread is running now");
-        this.execute = true;
+    @Override
+    public synchronized void run() {
+        long now = System.currentTimeMillis();
+        List<ReminderState> reminders = snapshot;
         try {
-            while (this.execute) {
-                //System.out.println("one model passing");
-                ObservableList<Reminder> deleteReminderList = FXCollections.observableArrayList();
-                for (int i = 0; i < lastShownReminder.size(); i++) {
-                    Reminder r = lastShownReminder.get(i);
-                    //System.out.println("compare result"+r.compareWithCurrentTime());
-                    if (!r.getShow() && r.compareWithCurrentTime()) {
-                        model.setShow(r, true);
-                        Platform.runLater(new Runnable() {
-                            @Override
-                            public void run() {
-                                //System.out.println("should be running right after true");
-                                model.addShownReminder(r);
-                                model.commitAddressBook();
-                            }
-                        });
-                    } else if (model.isReminderPassed(r)) {
-                        //the reminder should end.
-                        model.setNotShow(r, true);
-                        deleteChange = true;
-                        deleteReminderList.add(r);
-                    }
-                }
-                if (deleteChange) {
-                    Platform.runLater(new Runnable() {
-                        @Override
-                        public void run() {
-                            for (int i = 0; i < deleteReminderList.size(); i++) {
-                                model.deleteReminder(deleteReminderList.get(i));
-                            }
-                            model.commitAddressBook();
-                        }
-                    });
-                    deleteChange = false;
+            isLastRunFailed = false;
+            if (publishDue(reminders, now)) {
+                return;
+            }
+        } catch (Exception e) {
+            isLastRunFailed = true;
+            logger.warning("Reminder check failed: " + StringUtil.getDetails(e));
+        }
+        reschedule(getDelayToNextDeadline(reminders, now));
+    }
+
+    /**
+     * The inner logic of reminder check. Decides which reminders should be shown, hidden or deleted, and publishes
+     * them for the drain.
+     * Returns true if any reminder was published.
+     */
+    boolean publishDue(List<ReminderState> reminders, long now) {
+        boolean isPublished = false;
+        for (ReminderState state : reminders) {
+            Reminder r = state.reminder;
+            if (state.notShow) {
+                continue;
+            }
+            if (!state.show && r.isShownAt(now)) {
+                isPublished |= publish(new Due(Due.Kind.SHOW, r));
+            } else if (state.show && !r.isShownAt(now) && !r.isExpiredAt(now)) {
+                // the reminder has moved on to a later occurrence of a repeating event.
+                isPublished |= publish(new Due(Due.Kind.HIDE, r));
+            } else if (r.isExpiredAt(now)) {
+                //the reminder should end.
+                isPublished |= publish(new Due(Due.Kind.EXPIRE, r));
+            }
+        }
+        return isPublished;
+    }
+
+    private boolean publish(Due due) {
+        dueReminders.offer(due);
+        if (isDrainPending.compareAndSet(false, true)) {
+            fxThread.execute(this::drain);
+        }
+        return true;
+    }
+
+    /**
+     * Applies every published reminder in one batch, on the FX thread, and saves if anything changed.
+     * Reminders that were changed or deleted since they were published are skipped.
+     */
+    void drain() {
+        isDrainPending.set(false);
+        boolean isModified = false;
+        List<Reminder> expired = new ArrayList<>();
+        Due due;
+        while ((due = dueReminders.poll()) != null) {
+            Reminder r = due.reminder;
+            if (!model.hasReminder(r) || r.getNotShow()) {
+                continue;
+            }
+            switch (due.kind) {
+            case SHOW:
+                if (!r.getShow()) {
+                    model.setShow(r, true);
+                    model.addShownReminder(r);
+                    isModified = true;
                 }
-                /*if (model.getAddressBook().getReminderList().size() > 0) {
-                    ReminderList temp = model.getAddressBook().getReminderListTest();
-                    for (int i = 0; i < model.getAddressBook().getReminderList().size(); i++) {
-                        Reminder tempR = temp.get(i);
-                        System.out.println("name is" + tempR.getName());
-                        System.out.println("time is" + tempR.getInterval());
-                        System.out.println("show is" + tempR.getShow());
-                        System.out.println("not show is" + tempR.getNotShow());
-                        System.out.println("--------------------------------------------------------");
-                    }
+                break;
+            case HIDE:
+                if (r.getShow()) {
+                    model.removeShownReminder(r);
+                    isModified = true;
                 }
-                //model.commitAddressBook();
+                break;
+            case EXPIRE:
+                model.setNotShow(r, true);
+                expired.add(r);
+                break;
+            default:
+                break;
+            }
+        }
+        if (!expired.isEmpty()) {
+            model.expireReminders(expired);
+        }
+        if (isModified || !expired.isEmpty()) {
+            save();
+        }
+        takeSnapshotAndReschedule();
+    }
 
-                System.out.println("-!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!-");*/
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
+    /**
+     * Records the reminders and their state for the next check, and runs the check right away.
+     */
+    private void takeSnapshotAndReschedule() {
+        List<ReminderState> reminders = new ArrayList<>(lastShownReminder.size());
+        for (Reminder r : lastShownReminder) {
+            reminders.add(new ReminderState(r));
+        }
+        snapshot = reminders;
+        reschedule(0);
+    }
+
+    /**
+     * Returns the time until the earliest reminder is to be shown or deleted, in milliseconds.
+     */
+    static long getDelayToNextDeadline(List<ReminderState> reminders, long now) {
+        long next = now + MAX_DELAY_MILLIS;
+        for (ReminderState state : reminders) {
+            if (state.notShow) {
+                continue;
             }
-        } catch (Exception e) {
-            e.printStackTrace();
+            Reminder r = state.reminder;
+            long deadline = state.show || r.isShownAt(now) ? r.getExpireAt(now) : r.getFireAt(now);
+            next = Math.min(next, deadline);
         }
+        return Math.max(0, next - now);
     }
 
     /**
-     * Call this method when javafx terminate
+     * Replaces the pending check with one that runs after {@code delayMillis}.
      */
-    public void stopExecuting() {
+    private synchronized void reschedule(long delayMillis) {
+        if (!execute) {
+            return;
+        }
+        if (nextCheck != null) {
+            nextCheck.cancel(false);
+        }
+        nextCheck = scheduler.schedule(this, delayMillis, TimeUnit.MILLISECONDS);
+        logger.fine("Next reminder check in " + delayMillis + " ms");
+    }
+
+    private void save() {
+        try {
+            autoSaver.save(model.getAddressBook());
+        } catch (IOException ioe) {
+            logger.warning("Could not save reminders to file: " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "reminder-check";
+    }
+
+    @Override
+    public boolean isHealthy() {
+        return execute && !isLastRunFailed;
+    }
+
+    /**
+     * Stops checking reminders.
+     */
+    @Override
+    public synchronized void stop() {
         this.execute = false;
+        if (nextCheck != null) {
+            nextCheck.cancel(false);
+        }
+    }
+
+    /**
+     * A reminder together with whether it was shown at the time of the snapshot.
+     */
+    static class ReminderState {
+        private final Reminder reminder;
+        private final boolean show;
+        private final boolean notShow;
+
+        ReminderState(Reminder reminder) {
+            this.reminder = reminder;
+            this.show = reminder.getShow();
+            this.notShow = reminder.getNotShow();
+        }
+    }
+
+    /**
+     * A reminder that is due to be shown, hidden or deleted.
+     */
+    private static class Due {
+        private enum Kind { SHOW, HIDE, EXPIRE }
+
+        private final Kind kind;
+        private final Reminder reminder;
+
+        Due(Kind kind, Reminder reminder) {
+            this.kind = kind;
+            this.reminder = reminder;
+        }
     }
 }
@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LABEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
 
@@ -29,7 +30,8 @@ public class AddECommand extends Command {
             + PREFIX_VENUE + "VENUE "
             + PREFIX_START_TIME + "START_TIME "
             + PREFIX_END_TIME + "END_TIME "
-            + PREFIX_LABEL + "LABEL\n"
+            + PREFIX_LABEL + "LABEL "
+            + "[" + PREFIX_REPEAT + "FREQUENCY until DATE [except DATE...]]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + " "
             + PREFIX_DESCRIPTION + "CS2103 project meeting "
@@ -59,6 +61,7 @@ public class AddECommand extends Command {
         if (model.hasEvent(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_EVENT);
         }
+        String clashWarning = ClashCheck.check(model, model.getClashingEvents(toAdd));
 
         model.addEvent(toAdd);
 
@@ -72,7 +75,8 @@ public class AddECommand extends Command {
         model.commitAddressBook();
 
         boolean shouldSwitch = windowViewState == WindowViewState.PERSONS;
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd), false, false, shouldSwitch);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd) + clashWarning, false, false,
+                shouldSwitch);
 
     }
 
@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+
+/**
+ * Reports events that clash with an event being saved, or refuses the event when strict clash checking is on.
+ */
+public class ClashCheck {
+
+    public static final String MESSAGE_CLASH_WARNING = "\nWarning: this clashes with %1$s";
+    public static final String MESSAGE_CLASH_REFUSED = "This event clashes with %1$s\n"
+            + "Strict clash checking is on, so the event was not saved.";
+
+    private ClashCheck() {}
+
+    /**
+     * Returns a warning listing {@code clashes}, or an empty string if there are none.
+     * @throws CommandException if there are clashes and strict clash checking is on.
+     */
+    public static String check(Model model, List<Event> clashes) throws CommandException {
+        if (clashes.isEmpty()) {
+            return "";
+        }
+        String clashingEvents = clashes.stream()
+                .map(e -> e.getName() + " (" + e.getStartDateTime() + " at " + e.getVenue() + ")")
+                .collect(Collectors.joining(", "));
+        if (model.getUserPrefs().isStrictClashCheck()) {
+            throw new CommandException(String.format(MESSAGE_CLASH_REFUSED, clashingEvents));
+        }
+        return String.format(MESSAGE_CLASH_WARNING, clashingEvents);
+    }
+}
@@ -22,4 +22,12 @@ public abstract class Command {
     public abstract CommandResult execute(Model model, CommandHistory history, WindowViewState view)
             throws CommandException, WrongViewException;
 
+    /**
+     * Returns true if the command only uses the persons of the address book, and so can be executed while the
+     * events and reminders are still being read.
+     */
+    public boolean isPersonsOnly() {
+        return false;
+    }
+
 }
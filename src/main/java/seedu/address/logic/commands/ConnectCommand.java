@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_INDEX;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -73,6 +74,9 @@ public class ConnectCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CONTACT);
         }
         Event updatedEvent = addContactToEvent(contactToAdd, eventToAdd);
+        String clashWarning = ClashCheck.check(model, model.getClashingEvents(updatedEvent).stream()
+                .filter(e -> e.hasPerson(contactToAdd))
+                .collect(Collectors.toList()));
 
         model.setEvent(eventToAdd, updatedEvent);
         model.setSelectedEvent(null);
@@ -81,7 +85,7 @@ public class ConnectCommand extends Command {
         model.commitAddressBook();
 
         boolean shouldSwitch = windowViewState == WindowViewState.PERSONS;
-        return new CommandResult(String.format(MESSAGE_CONNECT_SUCCESS, contactToAdd, eventToAdd),
+        return new CommandResult(String.format(MESSAGE_CONNECT_SUCCESS, contactToAdd, eventToAdd) + clashWarning,
                 false, false, shouldSwitch);
     }
 
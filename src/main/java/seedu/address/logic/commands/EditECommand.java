@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LABEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
@@ -27,6 +28,7 @@ import seedu.address.model.event.Description;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.Label;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Venue;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.ReminderList;
@@ -48,7 +50,8 @@ public class EditECommand extends Command {
             + "[" + PREFIX_VENUE + "VENUE] "
             + "[" + PREFIX_START_TIME + "START_TIME] "
             + "[" + PREFIX_END_TIME + "END_TIME] "
-            + "[" + PREFIX_LABEL + "LABEL] \n"
+            + "[" + PREFIX_LABEL + "LABEL] "
+            + "[" + PREFIX_REPEAT + "FREQUENCY until DATE [except DATE...]] \n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_VENUE + "BIZ2 level4 "
             + PREFIX_LABEL + "IMPORTANT";
@@ -92,11 +95,14 @@ public class EditECommand extends Command {
         if (!eventToEdit.isSameEvent(editedEvent) && model.hasEvent(editedEvent)) {
             throw new CommandException(MESSAGE_DUPLICATE_EVENT);
         }
+        List<Event> clashes = model.getClashingEvents(editedEvent);
+        clashes.remove(eventToEdit);
+        String clashWarning = ClashCheck.check(model, clashes);
 
         model.setEvent(eventToEdit, editedEvent);
         model.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
         model.commitAddressBook();
-        return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, editedEvent));
+        return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, editedEvent) + clashWarning);
     }
 
     /**
@@ -114,13 +120,15 @@ public class EditECommand extends Command {
         DateTime updatedEndTime = editEventDescriptor.getEndDateTime().orElse(eventToEdit.getEndDateTime());
         Label updatedLabel = editEventDescriptor.getLabel().orElse(eventToEdit.getLabel());
         Set<Person> updatedPersons = editEventDescriptor.getPersons().orElse(eventToEdit.getPersons());
+        Recurrence updatedRecurrence = editEventDescriptor.getRecurrence()
+                .orElse(eventToEdit.getRecurrence().orElse(null));
 
         if (!updatedStartTime.isBefore(updatedEndTime)) {
             throw new CommandException("End time should not be earlier than start time");
         }
 
         return new Event(updatedName, updatedDescription, updatedVenue, updatedStartTime, updatedEndTime, updatedLabel,
-                updatedPersons);
+                updatedPersons, updatedRecurrence);
     }
 
     @Override
@@ -154,6 +162,7 @@ public class EditECommand extends Command {
         private Label label;
         private Set<Person> persons;
         private ReminderList reminders;
+        private Recurrence recurrence;
 
         public EditEventDescriptor() {}
 
@@ -170,13 +179,15 @@ public class EditECommand extends Command {
             setLabel(toCopy.label);
             setPersons(toCopy.persons);
             setReminders(toCopy.reminders);
+            setRecurrence(toCopy.recurrence);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(name, description, venue, startDateTime, endDateTime, label);
+            return CollectionUtil.isAnyNonNull(name, description, venue, startDateTime, endDateTime, label,
+                    recurrence);
         }
 
         public void setName(Name name) {
@@ -227,6 +238,14 @@ public class EditECommand extends Command {
             return Optional.ofNullable(label);
         }
 
+        public void setRecurrence(Recurrence recurrence) {
+            this.recurrence = recurrence;
+        }
+
+        public Optional<Recurrence> getRecurrence() {
+            return Optional.ofNullable(recurrence);
+        }
+
         /**
          * Sets {@code persons} to this object's {@code persons}.
          * A defensive copy of {@code persons} is used internally.
@@ -280,7 +299,8 @@ public class EditECommand extends Command {
                     && getDescription().equals(e.getDescription())
                     && getVenue().equals(e.getVenue())
                     && getStartDateTime().equals(e.getStartDateTime())
-                    && getEndDateTime().equals(e.getEndDateTime());
+                    && getEndDateTime().equals(e.getEndDateTime())
+                    && getRecurrence().equals(e.getRecurrence());
         }
     }
 }
@@ -14,6 +14,11 @@ public class ExitCommand extends Command {
 
     public static final String MESSAGE_EXIT_ACKNOWLEDGEMENT = "Exiting Address Book as requested ...";
 
+    @Override
+    public boolean isPersonsOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history, WindowViewState windowViewState) {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true, false);
@@ -4,24 +4,18 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.exceptions.DuplicatePersonException;
-import seedu.address.model.reminder.Reminder;
 import seedu.address.model.tag.Tag;
-import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AddressBookExporter;
+import seedu.address.storage.ExportFormat;
 import seedu.address.ui.WindowViewState;
 
 /**
- * Import new contacts from the specified file path into the current address book.
+ * Exports the contacts, events and reminders shown to a file, in the format named by the extension of the file.
  */
 public class ExportCommand extends Command {
 
@@ -31,15 +25,17 @@ public class ExportCommand extends Command {
     protected static final String MESSAGE_INVALID_FILEPATH = "Please input a valid file path";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Exports contacts using a path to a .json file.\n"
-            + "Parameters: PATH\n"
-            + "Example: " + COMMAND_WORD + " data/exported.json";
+            + ": Exports contacts to a .json, .csv or .vcf file, or events to a .ics file. "
+            + "A file name without one of these extensions is exported as .json.\n"
+            + "Parameters: n/FILENAME p/PATH [t/TAG]\n"
+            + "Example: " + COMMAND_WORD + " n/exported p/data";
+
+    /** Tag given by the parser when no tag is specified, in which case all contacts are exported. */
+    private static final Tag NO_TAG = new Tag("shouldnotbethistag");
 
     private Path filePath;
     private String fileName;
     private Tag tag;
-    private AddressBookStorage addressBookStorage;
-    private AddressBook addressBookExported;
 
     public ExportCommand(String fileName, Path exportPath, Tag tagExport) {
         requireNonNull(exportPath);
@@ -47,22 +43,21 @@ public class ExportCommand extends Command {
         this.filePath = exportPath;
         this.fileName = fileName;
         this.tag = tagExport;
-        this.addressBookExported = new AddressBook();
-        addressBookStorage = new JsonAddressBookStorage(filePath);
     }
 
 
     @Override
     public CommandResult execute(Model model, CommandHistory history, WindowViewState windowViewState) {
-
-        // modify addressBookExported here
-        exportAddressBook(tag, model);
-
-        Path path = Paths.get(filePath + "/" + fileName + ".json");
-        addressBookStorage = new JsonAddressBookStorage(path);
-
+        ExportFormat format = ExportFormat.ofFileName(fileName).orElse(ExportFormat.JSON);
+        Path path = ExportFormat.ofFileName(fileName).isPresent()
+                ? filePath.resolve(fileName)
+                : filePath.resolve(fileName + ExportFormat.JSON.getExtension());
+
+        // the lists are walked as they are written, rather than copied into a new address book first.
+        AddressBookExporter exporter = new AddressBookExporter(model.getFilteredPersonList(),
+                model.getFilteredEventList(), model.getFilteredReminderList());
         try {
-            addressBookStorage.saveAddressBook(addressBookExported);
+            exporter.exportTo(path, format, getPersonFilter());
         } catch (IOException e) {
             return new CommandResult(MESSAGE_FAIL);
         }
@@ -71,31 +66,13 @@ public class ExportCommand extends Command {
     }
 
     /**
-     * Saves all people with tag matching the tag param into the to be exported address book
-     *
-     * @param tag
-     * @param model
-     * @throws DuplicatePersonException
+     * Returns the filter for the people to export: those with the tag given, or everyone if no tag is given.
      */
-    private void exportAddressBook(Tag tag, Model model) throws DuplicatePersonException {
-        ObservableList<Person> exportPeople = model.getFilteredPersonList();
-        ObservableList<Event> exportEvents = model.getFilteredEventList();
-        ObservableList<Reminder> exportReminders = model.getFilteredReminderList();
-
-        if (tag.equals(new Tag("shouldnotbethistag"))) {
-            addressBookExported.setPersons(exportPeople);
-        } else {
-            ArrayList<Person> exportAddition = new ArrayList<Person>();
-            for (int i = 0; i < exportPeople.size(); i++) {
-                if (exportPeople.get(i).getTags().contains(tag)) {
-                    exportAddition.add(exportPeople.get(i));
-                }
-            }
-            addressBookExported.setPersons(exportAddition);
+    private Predicate<Person> getPersonFilter() {
+        if (tag.equals(NO_TAG)) {
+            return person -> true;
         }
-
-        addressBookExported.setEvents(exportEvents);
-        addressBookExported.setReminders(exportReminders);
+        return person -> person.getTags().contains(tag);
     }
 
     @Override
@@ -47,6 +47,11 @@ public class FindCommand extends Command {
     }
 
 
+    @Override
+    public boolean isPersonsOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history, WindowViewState windowViewState) {
         requireNonNull(model);
@@ -0,0 +1,154 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.TimeRange;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.ui.WindowViewState;
+
+/**
+ * Lists the periods in which a group of contacts is busy, and the free gaps between them, over a range of time.
+ */
+public class FreeBusyCommand extends Command {
+
+    public static final String COMMAND_WORD = "freebusy";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows when the given contacts are busy and free between two times.\n"
+            + "Parameters: [INDEX]... [" + PREFIX_TAG + "TAG]... "
+            + PREFIX_START_TIME + "START_TIME "
+            + PREFIX_END_TIME + "END_TIME\n"
+            + "Example: " + COMMAND_WORD + " 1 3 " + PREFIX_TAG + "friends "
+            + PREFIX_START_TIME + "2019-03-04 08:00:00 "
+            + PREFIX_END_TIME + "2019-03-08 20:00:00";
+
+    public static final String MESSAGE_SUCCESS = "Schedule of %1$d contacts from %2$s to %3$s";
+    public static final String MESSAGE_NO_PERSONS = "No contacts match the given indices and tags.";
+    public static final String MESSAGE_INVALID_RANGE = "The end time must not be before the start time.";
+    public static final String MESSAGE_BUSY = "Busy:";
+    public static final String MESSAGE_FREE = "Free:";
+    public static final String MESSAGE_NONE = "  (none)";
+
+    private final Set<Index> indices;
+    private final Set<Tag> tags;
+    private final DateTime start;
+    private final DateTime end;
+
+    /**
+     * Creates a FreeBusyCommand for the contacts at {@code indices} and those with any of {@code tags}.
+     */
+    public FreeBusyCommand(Set<Index> indices, Set<Tag> tags, DateTime start, DateTime end) {
+        requireAllNonNull(indices, tags, start, end);
+        this.indices = indices;
+        this.tags = tags;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history, WindowViewState windowViewState)
+            throws CommandException {
+        requireNonNull(model);
+
+        List<Person> lastShownList = model.getFilteredPersonList();
+        Set<Person> participants = new HashSet<>();
+        for (Index i : indices) {
+            if (i.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            participants.add(lastShownList.get(i.getZeroBased()));
+        }
+        for (Person p : lastShownList) {
+            if (!Collections.disjoint(p.getTags(), tags)) {
+                participants.add(p);
+            }
+        }
+        if (participants.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS);
+        }
+
+        long from = TimeRange.toEpochSecond(start);
+        long to = TimeRange.toEpochSecond(end);
+        if (from > to) {
+            throw new CommandException(MESSAGE_INVALID_RANGE);
+        }
+        TimeRange window = new TimeRange(from, to);
+        List<TimeRange> busy = clip(model.getBusyTimes(participants, window), window);
+        List<TimeRange> free = getGaps(busy, window);
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, participants.size(), start, end));
+        appendRanges(builder.append('\n').append(MESSAGE_BUSY), busy);
+        appendRanges(builder.append('\n').append(MESSAGE_FREE), free);
+        return new CommandResult(builder.toString());
+    }
+
+    /**
+     * Returns the parts of the sorted, disjoint {@code ranges} that lie within {@code window}.
+     * Ranges that only touch the window are dropped.
+     */
+    static List<TimeRange> clip(List<TimeRange> ranges, TimeRange window) {
+        List<TimeRange> clipped = new ArrayList<>(ranges.size());
+        for (TimeRange range : ranges) {
+            long clippedStart = Math.max(range.getStart(), window.getStart());
+            long clippedEnd = Math.min(range.getEnd(), window.getEnd());
+            if (clippedStart < clippedEnd) {
+                clipped.add(new TimeRange(clippedStart, clippedEnd));
+            }
+        }
+        return clipped;
+    }
+
+    /**
+     * Returns the gaps within {@code window} between the sorted, disjoint {@code busy} ranges.
+     */
+    static List<TimeRange> getGaps(List<TimeRange> busy, TimeRange window) {
+        List<TimeRange> gaps = new ArrayList<>(busy.size() + 1);
+        long gapStart = window.getStart();
+        for (TimeRange range : busy) {
+            if (range.getStart() > gapStart) {
+                gaps.add(new TimeRange(gapStart, range.getStart()));
+            }
+            gapStart = Math.max(gapStart, range.getEnd());
+        }
+        if (gapStart < window.getEnd()) {
+            gaps.add(new TimeRange(gapStart, window.getEnd()));
+        }
+        return gaps;
+    }
+
+    private static void appendRanges(StringBuilder builder, List<TimeRange> ranges) {
+        if (ranges.isEmpty()) {
+            builder.append('\n').append(MESSAGE_NONE);
+        }
+        for (TimeRange range : ranges) {
+            builder.append("\n  ").append(range);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FreeBusyCommand // instanceof handles nulls
+                && indices.equals(((FreeBusyCommand) other).indices)
+                && tags.equals(((FreeBusyCommand) other).tags)
+                && start.equals(((FreeBusyCommand) other).start)
+                && end.equals(((FreeBusyCommand) other).end));
+    }
+}
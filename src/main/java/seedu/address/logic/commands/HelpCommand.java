@@ -16,6 +16,11 @@ public class HelpCommand extends Command {
 
     public static final String SHOWING_HELP_MESSAGE = "Opened help window.";
 
+    @Override
+    public boolean isPersonsOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history, WindowViewState windowViewState) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false, false);
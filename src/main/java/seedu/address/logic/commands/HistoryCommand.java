@@ -18,6 +18,11 @@ public class HistoryCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Entered commands (from most recent to earliest):\n%1$s";
     public static final String MESSAGE_NO_HISTORY = "You have not yet entered any commands.";
 
+    @Override
+    public boolean isPersonsOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history, WindowViewState windowViewState) {
         requireNonNull(history);
@@ -4,9 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
@@ -18,6 +20,7 @@ import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.reminder.DuplicateReminderException;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.ContactImporter;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.ui.WindowViewState;
 
@@ -32,18 +35,31 @@ public class ImportCommand extends Command {
     public static final String MESSAGE_SUCCESS = "New contacts successfully imported!";
     protected static final String MESSAGE_INVALID_FILE = "Please input a valid file path";
 
+    public static final String MESSAGE_CONTACTS_SUCCESS = "%1$d new contacts imported, %2$d already existed.";
+    public static final String MESSAGE_INVALID_CONTACTS = "%1$d contacts could not be imported:";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Imports contacts using a path to a .json file.\n"
+            + ": Imports contacts using a path to a .json file, or contacts only from a .csv or .vcf file.\n"
             + "Parameters: PATH\n"
             + "Example: " + COMMAND_WORD + " data/contacts.json";
 
     private Path filePath;
     private AddressBookStorage addressBookStorage;
     private AddressBook addressBookImported;
+    private final Executor executor;
 
     public ImportCommand(Path importPath) {
+        this(importPath, Runnable::run);
+    }
+
+    /**
+     * Creates an ImportCommand that validates the contacts of a .csv or .vcf file on {@code executor}.
+     */
+    public ImportCommand(Path importPath, Executor executor) {
         requireNonNull(importPath);
+        requireNonNull(executor);
         this.filePath = importPath;
+        this.executor = executor;
 
         addressBookStorage = new JsonAddressBookStorage(filePath);
     }
@@ -51,6 +67,9 @@ public class ImportCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history, WindowViewState windowViewState)
             throws CommandException {
+        if (ContactImporter.isContactFile(filePath)) {
+            return importContacts(model);
+        }
         try {
             if (addressBookStorage.readAddressBook(filePath).isPresent()) {
 
@@ -98,6 +117,33 @@ public class ImportCommand extends Command {
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
+    /**
+     * Adds the new contacts in the .csv or .vcf file at {@code filePath} to the address book in one change.
+     * Contacts that are not valid are reported, and do not stop the others from being imported.
+     */
+    private CommandResult importContacts(Model model) throws CommandException {
+        ContactImporter.Result result;
+        try {
+            result = new ContactImporter(model.getAddressBook().getPersonList(), executor).importFrom(filePath);
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_INVALID_FILE);
+        } catch (IllegalValueException e) {
+            throw new CommandException(e.getMessage());
+        }
+
+        if (!result.getPersons().isEmpty()) {
+            model.addPersons(result.getPersons());
+            model.commitAddressBook();
+        }
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_CONTACTS_SUCCESS,
+                result.getPersons().size(), result.getDuplicateCount()));
+        if (result.getInvalidCount() > 0) {
+            message.append('\n').append(String.format(MESSAGE_INVALID_CONTACTS, result.getInvalidCount()));
+            result.getErrors().forEach(error -> message.append('\n').append(error));
+        }
+        return new CommandResult(message.toString());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
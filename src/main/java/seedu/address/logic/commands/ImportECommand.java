@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.EventImporter;
+import seedu.address.ui.WindowViewState;
+
+/**
+ * Imports new events from the specified .ics file into the current address book.
+ */
+public class ImportECommand extends Command {
+
+    public static final String COMMAND_WORD = "importE";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports events using a path to a .ics file.\n"
+            + "Parameters: PATH\n"
+            + "Example: " + COMMAND_WORD + " data/calendar.ics";
+
+    public static final String MESSAGE_SUCCESS = "%1$d new events imported, %2$d already existed.";
+    public static final String MESSAGE_PARTIAL_EVENTS = "%1$d repeating events were imported only in part, as their "
+            + "rules repeat in ways that events cannot.";
+    public static final String MESSAGE_INVALID_EVENTS = "%1$d events could not be imported:";
+    public static final String MESSAGE_INVALID_FILE = "Please input a valid path to a .ics file";
+
+    private final Path filePath;
+
+    public ImportECommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history, WindowViewState windowViewState)
+            throws CommandException {
+        requireNonNull(model);
+        EventImporter.Result result;
+        try {
+            result = new EventImporter(model.getAddressBook().getEventList(), LocalDate.now(), ZoneId.systemDefault())
+                    .importFrom(filePath);
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_INVALID_FILE);
+        }
+
+        if (!result.getEvents().isEmpty()) {
+            model.addEvents(result.getEvents());
+            model.commitAddressBook();
+        }
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, result.getEvents().size(),
+                result.getDuplicateCount()));
+        if (result.getPartialCount() > 0) {
+            message.append('\n').append(String.format(MESSAGE_PARTIAL_EVENTS, result.getPartialCount()));
+        }
+        if (result.getInvalidCount() > 0) {
+            message.append('\n').append(String.format(MESSAGE_INVALID_EVENTS, result.getInvalidCount()));
+            result.getErrors().forEach(error -> message.append('\n').append(error));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportECommand // instanceof handles nulls
+                && filePath.equals(((ImportECommand) other).filePath));
+    }
+}
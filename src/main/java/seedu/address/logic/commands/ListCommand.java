@@ -17,6 +17,11 @@ public class ListCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
 
+    @Override
+    public boolean isPersonsOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history, WindowViewState windowViewState) {
         requireNonNull(model);
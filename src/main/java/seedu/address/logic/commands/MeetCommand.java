@@ -4,10 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
@@ -16,11 +16,13 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Block;
+import seedu.address.model.event.BusyTimeMerger;
 import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Description;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.Label;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.TimeRange;
 import seedu.address.model.event.Venue;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
@@ -141,31 +143,28 @@ public class MeetCommand extends Command {
         // Ensure that all events will be retrieved from the model.
         model.updateFilteredEventList(x -> true);
 
-        // Reduce meetingEvent to get the earliest event given other potentially clashing events.
-        Event meetingEvent = model.getFilteredEventList()
-                .stream()
-                .filter(e -> {
-                    for (Person p : personsOperatedOn) {
-                        if (e.hasPerson(p)) {
-                            return true;
-                        }
-                    }
-                    return false;
-                })
-                .sorted(new EventComparator())
-                .reduce(meeting, (x, y) -> {
-                    LocalDateTime xEnd = toDateTime(x.getEndDateTime());
-                    LocalDateTime yStart = toDateTime(y.getStartDateTime());
-                    LocalDateTime yEnd = toDateTime(y.getEndDateTime());
-                    if (toDateTime(x.getStartDateTime()).isAfter(yEnd)
-                            || !xEnd.isAfter(yStart)) {
-                        return x;
-                    }
-                    LocalDateTime start = yEnd;
-                    return transformEventToFitBlock(new Event(name, description, venue,
-                            new DateTime(start.format(DateTime.DATE_TIME_FORMATTER)),
-                            new DateTime(start.plus(duration).format(DateTime.DATE_TIME_FORMATTER)), label));
-                });
+        // Gather the busy periods of every participant and merge them into disjoint, sorted ranges.
+        // The merge runs in parallel, and its result is the same however the work is split.
+        // Repeating events are only expanded between the earliest start and the latest end of the meeting.
+        TimeRange window = new TimeRange(TimeRange.toEpochSecond(meeting.getStartDateTime()),
+                Math.max(TimeRange.toEpochSecond(meeting.getEndDateTime()), TimeRange.toEpochSecond(end)));
+        List<TimeRange> busyRanges = BusyTimeMerger.merge(new ArrayList<>(model.getFilteredEventList()),
+                personsOperatedOn, window);
+
+        // Push meetingEvent past every busy range that clashes with it to get the earliest event.
+        Event meetingEvent = meeting;
+        for (TimeRange busy : busyRanges) {
+            LocalDateTime xEnd = toDateTime(meetingEvent.getEndDateTime());
+            LocalDateTime yStart = busy.getStartDateTime();
+            LocalDateTime yEnd = busy.getEndDateTime();
+            if (toDateTime(meetingEvent.getStartDateTime()).isAfter(yEnd)
+                    || !xEnd.isAfter(yStart)) {
+                continue;
+            }
+            meetingEvent = transformEventToFitBlock(new Event(name, description, venue,
+                    new DateTime(yEnd.format(DateTime.DATE_TIME_FORMATTER)),
+                    new DateTime(yEnd.plus(duration).format(DateTime.DATE_TIME_FORMATTER)), label));
+        }
 
         // If the meeting event is after the specified end point, then no possible event
         // can be created.
@@ -205,8 +204,9 @@ public class MeetCommand extends Command {
     }
 
     /**
-     * Transforms an {@code event} such that the start time fits the earliest point of the block.
+     * Transforms an {@code event} such that it starts at the earliest point at which it fits the block.
      * A copy of the {@code event} is return if it is transformed, to maintain its state.
+     * The {@code event} is returned unchanged if it cannot fit the block at all.
      *
      * @param x The event to transform.
      * @return The resulting event.
@@ -215,13 +215,11 @@ public class MeetCommand extends Command {
         if (doesEventFallWithinBlock(x)) {
             return x;
         }
-        LocalDateTime start = toDateTime(x.getStartDateTime());
-        LocalDateTime tester = start.with(block.getFirst());
-        if (start.isBefore(tester) || start.equals(tester)) {
-            start = tester;
-        } else {
-            start = tester.plusDays(1);
+        Optional<LocalDateTime> validStart = block.nextValidStart(toDateTime(x.getStartDateTime()), duration);
+        if (!validStart.isPresent()) {
+            return x;
         }
+        LocalDateTime start = validStart.get();
         return new Event(x.getName(), x.getDescription(), x.getVenue(),
                 new DateTime(start.format(DateTime.DATE_TIME_FORMATTER)),
                 new DateTime(start.plus(duration).format(DateTime.DATE_TIME_FORMATTER)),
@@ -274,17 +272,4 @@ public class MeetCommand extends Command {
 
     }
 
-    /**
-     * Comparator for chronological events.
-     */
-    static class EventComparator implements Comparator<Event> {
-
-        @Override
-        public int compare(Event e1, Event e2) {
-            final DateTimeFormatter pattern = DateTime.DATE_TIME_FORMATTER;
-            return LocalDateTime.parse(e1.getStartDateTime().toString(), pattern).compareTo(
-                    LocalDateTime.parse(e2.getStartDateTime().toString(), pattern));
-        }
-    }
-
 }
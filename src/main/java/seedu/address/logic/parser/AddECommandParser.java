@@ -5,9 +5,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LABEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
 
+import java.util.HashSet;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.AddECommand;
@@ -17,6 +19,7 @@ import seedu.address.model.event.Description;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.Label;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Venue;
 
 /**
@@ -32,7 +35,7 @@ public class AddECommandParser implements Parser<AddECommand> {
     public AddECommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_DESCRIPTION, PREFIX_VENUE, PREFIX_START_TIME,
-                        PREFIX_END_TIME, PREFIX_LABEL);
+                        PREFIX_END_TIME, PREFIX_LABEL, PREFIX_REPEAT);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_DESCRIPTION, PREFIX_VENUE, PREFIX_START_TIME,
                 PREFIX_END_TIME, PREFIX_LABEL)
@@ -50,7 +53,11 @@ public class AddECommandParser implements Parser<AddECommand> {
         if (!startTime.isBefore(endTime)) {
             throw new ParseException("End time should not be earlier than start time");
         }
-        Event event = new Event(name, description, venue, startTime, endTime, label);
+        Recurrence recurrence = null;
+        if (argMultimap.getValue(PREFIX_REPEAT).isPresent()) {
+            recurrence = ParserUtilForEvent.parseRecurrence(argMultimap.getValue(PREFIX_REPEAT).get());
+        }
+        Event event = new Event(name, description, venue, startTime, endTime, label, new HashSet<>(), recurrence);
 
         return new AddECommand(event);
     }
@@ -1,8 +1,10 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.concurrent.Executor;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -22,9 +24,11 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindECommand;
+import seedu.address.logic.commands.FreeBusyCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ImportECommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListECommand;
 import seedu.address.logic.commands.ListFrCommand;
@@ -48,6 +52,21 @@ public class AddressBookParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final Executor executor;
+
+    public AddressBookParser() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Creates a parser whose commands run their background work, such as validating imported contacts, on
+     * {@code executor}.
+     */
+    public AddressBookParser(Executor executor) {
+        requireNonNull(executor);
+        this.executor = executor;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -103,7 +122,10 @@ public class AddressBookParser {
             return new ClearCommand();
 
         case ImportCommand.COMMAND_WORD:
-            return new ImportCommandParser().parse(arguments);
+            return new ImportCommandParser(executor).parse(arguments);
+
+        case ImportECommand.COMMAND_WORD:
+            return new ImportECommandParser().parse(arguments);
 
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
@@ -135,6 +157,9 @@ public class AddressBookParser {
         case MeetCommand.COMMAND_WORD:
             return new MeetCommandParser().parse(arguments);
 
+        case FreeBusyCommand.COMMAND_WORD:
+            return new FreeBusyCommandParser().parse(arguments);
+
         case PhotoCommand.COMMAND_WORD:
             return new PhotoCommand().parse(arguments);
 
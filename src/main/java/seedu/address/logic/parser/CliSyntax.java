@@ -29,5 +29,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_BLOCK = new Prefix("block/");
     public static final Prefix PREFIX_REMINDER_RELATED_EVENT_INDEX = new Prefix("e/");
     public static final Prefix PREFIX_REMINDER_INDEX = new Prefix("r/");
+    public static final Prefix PREFIX_REPEAT = new Prefix("repeat/");
 }
 
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LABEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
 
@@ -30,7 +31,7 @@ public class EditECommandParser implements Parser<EditECommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_DESCRIPTION, PREFIX_VENUE, PREFIX_START_TIME,
-                        PREFIX_END_TIME, PREFIX_LABEL);
+                        PREFIX_END_TIME, PREFIX_LABEL, PREFIX_REPEAT);
 
         Index index;
 
@@ -62,6 +63,10 @@ public class EditECommandParser implements Parser<EditECommand> {
         if (argMultimap.getValue(PREFIX_LABEL).isPresent()) {
             editEventDescriptor.setLabel(ParserUtilForEvent.parseLabel(argMultimap.getValue(PREFIX_LABEL).get()));
         }
+        if (argMultimap.getValue(PREFIX_REPEAT).isPresent()) {
+            editEventDescriptor.setRecurrence(ParserUtilForEvent.parseRecurrence(argMultimap
+                    .getValue(PREFIX_REPEAT).get()));
+        }
 
         if (!editEventDescriptor.isAnyFieldEdited()) {
             throw new ParseException(EditECommand.MESSAGE_NOT_EDITED);
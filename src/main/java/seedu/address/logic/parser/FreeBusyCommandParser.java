@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.FreeBusyCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FreeBusyCommand object.
+ */
+public class FreeBusyCommandParser implements Parser<FreeBusyCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeBusyCommand
+     * and returns a FreeBusyCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FreeBusyCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_START_TIME,
+                PREFIX_END_TIME);
+
+        String preamble = argMultimap.getPreamble();
+        if ((preamble.isEmpty() && argMultimap.getAllValues(PREFIX_TAG).isEmpty())
+                || !argMultimap.getValue(PREFIX_START_TIME).isPresent()
+                || !argMultimap.getValue(PREFIX_END_TIME).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeBusyCommand.MESSAGE_USAGE));
+        }
+
+        Set<Index> indices = new HashSet<>();
+        if (!preamble.isEmpty()) {
+            for (String index : preamble.split("\\s+")) {
+                indices.add(ParserUtil.parseIndex(index));
+            }
+        }
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        DateTime start = ParserUtilForEvent.parseDateTime(argMultimap.getValue(PREFIX_START_TIME).get());
+        DateTime end = ParserUtilForEvent.parseDateTime(argMultimap.getValue(PREFIX_END_TIME).get());
+
+        return new FreeBusyCommand(indices, tags, start, end);
+    }
+}
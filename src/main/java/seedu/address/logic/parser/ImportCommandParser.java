@@ -5,6 +5,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.Executor;
 
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -15,6 +16,19 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ImportCommandParser implements Parser<ImportCommand> {
 
+    private final Executor executor;
+
+    public ImportCommandParser() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Creates a parser of ImportCommands that validate imported contacts on {@code executor}.
+     */
+    public ImportCommandParser(Executor executor) {
+        requireNonNull(executor);
+        this.executor = executor;
+    }
 
     /**
      * Parses the given {@code String} of arguments in the context of the ImportCommand
@@ -37,7 +51,7 @@ public class ImportCommandParser implements Parser<ImportCommand> {
         // TODO: check invalid args
         Path filePath = Paths.get(trimmedArgs);
 
-        return new ImportCommand(filePath);
+        return new ImportCommand(filePath, executor);
     }
 
 }
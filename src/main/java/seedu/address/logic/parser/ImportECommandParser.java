@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.ImportECommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.EventImporter;
+
+/**
+ * Parses input arguments and creates a new ImportECommand object
+ */
+public class ImportECommandParser implements Parser<ImportECommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportECommand
+     * and returns an ImportECommand object for execution.
+     *
+     * @throws ParseException if the user input is not a path to a .ics file
+     */
+    public ImportECommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportECommand.MESSAGE_USAGE));
+        }
+
+        Path filePath = Paths.get(trimmedArgs);
+        if (filePath.getFileName() == null || !EventImporter.isEventFile(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportECommand.MESSAGE_USAGE));
+        }
+        return new ImportECommand(filePath);
+    }
+}
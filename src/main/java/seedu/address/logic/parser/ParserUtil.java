@@ -2,10 +2,15 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -143,14 +148,74 @@ public class ParserUtil {
 
     /**
      * Parses a {@code String} into a {@code Block}.
+     * The String may combine several blocks and days, separated by commas. The resulting block allows any time
+     * allowed by one of the blocks, on one of the days, and not on one of the negated days.
      * @param s                 The String representation of this block.
      * @return                  The resulting block.
      * @throws ParseException   If the String cannot be parsed.
      */
     public static Block parseBlock(String s) throws ParseException {
         requireNonNull(s);
-        String t = s;
-        t.trim();
+        Block times = null;
+        Set<DayOfWeek> days = new HashSet<>();
+        Set<DayOfWeek> excludedDays = new HashSet<>();
+        for (String part : s.split(",")) {
+            String t = part.trim();
+            boolean isNegated = t.startsWith("!");
+            Optional<Set<DayOfWeek>> parsedDays = parseDays(isNegated ? t.substring(1).trim() : t);
+            if (parsedDays.isPresent() && isNegated) {
+                excludedDays.addAll(parsedDays.get());
+                continue;
+            }
+            if (parsedDays.isPresent()) {
+                days.addAll(parsedDays.get());
+                continue;
+            }
+            Block block = parseSingleBlock(t);
+            times = times == null ? block : times.or(block);
+        }
+
+        Block result = times == null ? new Block(LocalTime.MIDNIGHT, LocalTime.MIDNIGHT, false) : times;
+        if (!days.isEmpty()) {
+            result = result.onlyOn(days);
+        }
+        if (!excludedDays.isEmpty()) {
+            result = result.except(Block.onDays(excludedDays));
+        }
+        return result;
+    }
+
+    /**
+     * Parses a {@code String} naming a day, or a group of days, into the set of days it denotes.
+     * Returns an empty {@code Optional} if the String does not name any days.
+     */
+    private static Optional<Set<DayOfWeek>> parseDays(String s) {
+        switch (s) {
+        case Block.WEEKDAYS:
+            return Optional.of(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+
+        case Block.WEEKENDS:
+            return Optional.of(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+
+        default:
+            break;
+        }
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.getDisplayName(TextStyle.SHORT, Locale.ENGLISH).equalsIgnoreCase(s)) {
+                return Optional.of(EnumSet.of(day));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Parses a {@code String} denoting a single, possibly negated, block of time into a {@code Block}.
+     */
+    private static Block parseSingleBlock(String s) throws ParseException {
+        String t = s.trim();
+        if (t.isEmpty()) {
+            throw new ParseException(Block.MESSAGE_CONSTRAINTS);
+        }
         boolean isAntiBlock = t.charAt(0) == '!';
         if (isAntiBlock) {
             t = t.substring(1).trim();
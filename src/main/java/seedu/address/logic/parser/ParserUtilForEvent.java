@@ -12,6 +12,7 @@ import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Description;
 import seedu.address.model.event.Label;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Venue;
 
 /**
@@ -111,6 +112,21 @@ public class ParserUtilForEvent {
         return new Label(trimmedLabel);
     }
 
+    /**
+     * Parses a {@code String rule} into a {@code Recurrence}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code rule} is invalid.
+     */
+    public static Recurrence parseRecurrence(String rule) throws ParseException {
+        requireNonNull(rule);
+        String trimmedRule = rule.trim();
+        if (!Recurrence.isValidRecurrence(trimmedRule)) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        return new Recurrence(trimmedRule);
+    }
+
     /**
      * Parses a {@code String duration} into a {@code Duration}.
      * @param duration The string to be parsed into a duration.
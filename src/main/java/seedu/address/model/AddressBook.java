@@ -2,12 +2,22 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeRange;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -19,10 +29,16 @@ import seedu.address.model.reminder.ReminderList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** Source of the change stamps, which are unique across all address books. Stamps start at 1. */
+    private static final AtomicLong lastChangeStamp = new AtomicLong();
+
     private final UniquePersonList persons;
     private final UniqueEventList events;
     private final ReminderList reminders;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private long personsStamp = nextChangeStamp();
+    private long eventsStamp = nextChangeStamp();
+    private long remindersStamp = nextChangeStamp();
 
     /**
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -55,6 +71,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        personsStamp = nextChangeStamp();
         indicateModified();
     }
 
@@ -67,6 +84,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
         setEvents(newData.getEventList());
         setReminders(newData.getReminderList());
+        if (newData instanceof AddressBook) {
+            // the lists are now the same as those of newData, and so keep its stamps.
+            AddressBook source = (AddressBook) newData;
+            personsStamp = source.personsStamp;
+            eventsStamp = source.eventsStamp;
+            remindersStamp = source.remindersStamp;
+        }
     }
 
     //// person-level operations
@@ -85,6 +109,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        personsStamp = nextChangeStamp();
+        indicateModified();
+    }
+
+    /**
+     * Adds {@code toAdd} to the address book in one change.
+     * None of them may already exist in the address book, nor be the same as another of them.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+        personsStamp = nextChangeStamp();
         indicateModified();
     }
 
@@ -92,11 +127,30 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * Events that {@code target} takes part in are replaced by events that {@code editedPerson} takes part in, and
+     * their reminders by reminders of the replaced events, as in {@link #setEvent(Event, Event)}.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        personsStamp = nextChangeStamp();
+        Map<List<Object>, Event> changedEvents = new HashMap<>();
+        for (Event event : new ArrayList<>(events.asUnmodifiableObservableList())) {
+            if (event.hasPerson(target)) {
+                Event changed = event.clone();
+                changed.removePerson(target);
+                changed.addPerson(editedPerson);
+                events.setEvent(event, changed);
+                changedEvents.put(AddressBookDiff.identityOf(event), changed);
+            }
+        }
+        if (!changedEvents.isEmpty()) {
+            eventsStamp = nextChangeStamp();
+        }
+        if (moveReminders(changedEvents)) {
+            remindersStamp = nextChangeStamp();
+        }
         indicateModified();
     }
 
@@ -106,9 +160,203 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        personsStamp = nextChangeStamp();
         indicateModified();
     }
 
+    /**
+     * Applies {@code diff}, which holds changes made to another copy of this address book, record by record, so that
+     * the records it does not touch are left as they are. A change to a record that is not as it was before the change,
+     * such as one also edited in this address book, is left out, so that no change made here is lost. Listeners are
+     * notified once.
+     *
+     * @return the number of changes left out.
+     */
+    public int applyChanges(AddressBookDiff diff) {
+        requireNonNull(diff);
+        Map<List<Object>, Event> changedEvents = new HashMap<>();
+        int conflictCount = applyPersonChanges(diff) + applyEventChanges(diff, changedEvents);
+        applyReminderChanges(diff, changedEvents);
+        indicateModified();
+        return conflictCount;
+    }
+
+    private int applyPersonChanges(AddressBookDiff diff) {
+        int conflictCount = 0;
+        Map<List<Object>, Person> currentPersons = new HashMap<>();
+        Set<List<Object>> namesAndEmails = new HashSet<>();
+        for (Person person : persons) {
+            currentPersons.put(AddressBookDiff.identityOf(person), person);
+            namesAndEmails.add(Arrays.asList(person.getName(), person.getEmail()));
+        }
+
+        List<Person> removedPersons = new ArrayList<>();
+        for (Person removed : diff.getRemovedPersons()) {
+            if (currentPersons.remove(AddressBookDiff.identityOf(removed), removed)) {
+                namesAndEmails.remove(Arrays.asList(removed.getName(), removed.getEmail()));
+                removedPersons.add(removed);
+            } else {
+                conflictCount++;
+            }
+        }
+        persons.removeAll(removedPersons);
+
+        int changedCount = 0;
+        for (AddressBookDiff.Change<Person> change : diff.getChangedPersons()) {
+            Person before = change.getBefore();
+            Person after = change.getAfter();
+            boolean isEmailChanged = !before.getEmail().equals(after.getEmail());
+            if (!before.equals(currentPersons.get(AddressBookDiff.identityOf(before)))
+                    || (isEmailChanged && !namesAndEmails.add(Arrays.asList(after.getName(), after.getEmail())))) {
+                conflictCount++;
+                continue;
+            }
+            if (isEmailChanged) {
+                namesAndEmails.remove(Arrays.asList(before.getName(), before.getEmail()));
+            }
+            persons.setPerson(before, after);
+            currentPersons.put(AddressBookDiff.identityOf(after), after);
+            changedCount++;
+        }
+
+        List<Person> addedPersons = new ArrayList<>();
+        for (Person added : diff.getAddedPersons()) {
+            if (!currentPersons.containsKey(AddressBookDiff.identityOf(added))
+                    && namesAndEmails.add(Arrays.asList(added.getName(), added.getEmail()))) {
+                currentPersons.put(AddressBookDiff.identityOf(added), added);
+                addedPersons.add(added);
+            } else {
+                conflictCount++;
+            }
+        }
+        persons.addAll(addedPersons);
+
+        if (!removedPersons.isEmpty() || changedCount > 0 || !addedPersons.isEmpty()) {
+            personsStamp = nextChangeStamp();
+        }
+        return conflictCount;
+    }
+
+    /**
+     * Applies the event changes of {@code diff}, and puts the events that were changed into {@code changedEvents}
+     * under their identity.
+     */
+    private int applyEventChanges(AddressBookDiff diff, Map<List<Object>, Event> changedEvents) {
+        int conflictCount = 0;
+        Map<List<Object>, Event> currentEvents = new HashMap<>();
+        events.forEach(event -> currentEvents.put(AddressBookDiff.identityOf(event), event));
+
+        List<Event> removedEvents = new ArrayList<>();
+        for (Event removed : diff.getRemovedEvents()) {
+            if (currentEvents.remove(AddressBookDiff.identityOf(removed), removed)) {
+                removedEvents.add(removed);
+            } else {
+                conflictCount++;
+            }
+        }
+        events.removeAll(removedEvents);
+
+        for (AddressBookDiff.Change<Event> change : diff.getChangedEvents()) {
+            List<Object> identity = AddressBookDiff.identityOf(change.getBefore());
+            if (change.getBefore().equals(currentEvents.get(identity))) {
+                events.setEvent(change.getBefore(), change.getAfter());
+                currentEvents.put(identity, change.getAfter());
+                changedEvents.put(identity, change.getAfter());
+            } else {
+                conflictCount++;
+            }
+        }
+
+        List<Event> addedEvents = new ArrayList<>();
+        for (Event added : diff.getAddedEvents()) {
+            if (currentEvents.putIfAbsent(AddressBookDiff.identityOf(added), added) == null) {
+                addedEvents.add(added);
+            } else {
+                conflictCount++;
+            }
+        }
+        events.addAll(addedEvents);
+
+        if (!removedEvents.isEmpty() || !changedEvents.isEmpty() || !addedEvents.isEmpty()) {
+            eventsStamp = nextChangeStamp();
+        }
+        return conflictCount;
+    }
+
+    /**
+     * Applies the reminder changes of {@code diff}, after its event changes, of which {@code changedEvents} were
+     * applied. Reminders are changed only along with their events, and so have no conflicts of their own.
+     */
+    private void applyReminderChanges(AddressBookDiff diff, Map<List<Object>, Event> changedEvents) {
+        boolean isReminderChanged = moveReminders(changedEvents);
+
+        Map<List<Object>, Event> currentEvents = new HashMap<>();
+        events.forEach(event -> currentEvents.put(AddressBookDiff.identityOf(event), event));
+        Map<List<String>, Reminder> currentReminders = new HashMap<>();
+        reminders.forEach(reminder -> currentReminders.put(ReminderList.getEqualityKey(reminder), reminder));
+
+        List<Reminder> removedReminders = new ArrayList<>();
+        for (Reminder removed : diff.getRemovedReminders()) {
+            Reminder current = currentReminders.remove(ReminderList.getEqualityKey(removed));
+            if (current != null) {
+                removedReminders.add(current);
+            }
+        }
+        for (Reminder reminder : reminders) {
+            // reminders of removed events go with them, even those added here.
+            if (!currentEvents.containsKey(AddressBookDiff.identityOf(reminder.getEvent()))
+                    && currentReminders.remove(ReminderList.getEqualityKey(reminder)) != null) {
+                removedReminders.add(reminder);
+            }
+        }
+        reminders.removeAll(removedReminders);
+
+        List<Reminder> addedReminders = new ArrayList<>();
+        for (Reminder added : diff.getAddedReminders()) {
+            // reminders of an event whose change was left out are left out with it.
+            if (added.getEvent().equals(currentEvents.get(AddressBookDiff.identityOf(added.getEvent())))
+                    && currentReminders.putIfAbsent(ReminderList.getEqualityKey(added), added) == null) {
+                addedReminders.add(added);
+            }
+        }
+        addedReminders.forEach(reminders::add);
+
+        if (isReminderChanged || !removedReminders.isEmpty() || !addedReminders.isEmpty()) {
+            remindersStamp = nextChangeStamp();
+        }
+    }
+
+    /**
+     * Replaces the reminders of each event in {@code changedEvents}, which are held under the identity the event had
+     * before it was changed, by reminders of the event as changed, so that they keep referring to an event in the
+     * address book.
+     *
+     * @return true if any reminder was replaced.
+     */
+    private boolean moveReminders(Map<List<Object>, Event> changedEvents) {
+        if (changedEvents.isEmpty()) {
+            return false;
+        }
+        List<Reminder> movedReminders = new ArrayList<>();
+        boolean isReminderChanged = false;
+        for (Reminder reminder : reminders) {
+            Event changed = changedEvents.get(AddressBookDiff.identityOf(reminder.getEvent()));
+            if (changed == null) {
+                movedReminders.add(reminder);
+                continue;
+            }
+            Reminder moved = new Reminder(changed, reminder.getInterval(), reminder.getMessage());
+            moved.setShow(reminder.getShow());
+            moved.setNotShow(reminder.getNotShow());
+            movedReminders.add(moved);
+            isReminderChanged = true;
+        }
+        if (isReminderChanged) {
+            reminders.setReminders(movedReminders);
+        }
+        return isReminderChanged;
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
@@ -119,6 +367,34 @@ public class AddressBook implements ReadOnlyAddressBook {
         invalidationListenerManager.removeListener(listener);
     }
 
+    /**
+     * Returns a stamp that changes whenever the persons change. A copy of this address book keeps its stamps, so two
+     * address books with the same persons stamp have the same persons. Storages use the stamps to write only the
+     * parts of the address book that changed since they last wrote it.
+     */
+    public long getPersonsStamp() {
+        return personsStamp;
+    }
+
+    /**
+     * Returns a stamp that changes whenever the events change, like {@link #getPersonsStamp()}.
+     */
+    public long getEventsStamp() {
+        return eventsStamp;
+    }
+
+    /**
+     * Returns a stamp that changes whenever the reminders, or whether they are shown, change, like
+     * {@link #getPersonsStamp()}.
+     */
+    public long getRemindersStamp() {
+        return remindersStamp;
+    }
+
+    private static long nextChangeStamp() {
+        return lastChangeStamp.incrementAndGet();
+    }
+
     /**
      * Notifies listeners that the address book has been modified.
      */
@@ -159,6 +435,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setEvents(List<Event> events) {
         this.events.setEvents(events);
+        eventsStamp = nextChangeStamp();
         indicateModified();
     }
 
@@ -172,12 +449,39 @@ public class AddressBook implements ReadOnlyAddressBook {
         return events.contains(event);
     }
 
+    /**
+     * Returns the events, other than {@code event} itself, that take place at the same time as {@code event} and
+     * share one of its participants or its venue.
+     */
+    public List<Event> getClashingEvents(Event event) {
+        requireNonNull(event);
+        return events.getClashingEvents(event);
+    }
+
+    /**
+     * Returns the sorted, disjoint periods within {@code window} in which any of {@code participants} is busy.
+     */
+    public List<TimeRange> getBusyTimes(Set<Person> participants, TimeRange window) {
+        return events.getBusyTimes(participants, window);
+    }
+
     /**
      * Adds an event to the address book.
      * The event must not already exist in the address book.
      */
     public void addEvent(Event event) {
         events.add(event);
+        eventsStamp = nextChangeStamp();
+        indicateModified();
+    }
+
+    /**
+     * Adds {@code toAdd} to the address book in one change.
+     * None of them may already exist in the address book, nor be the same as another of them.
+     */
+    public void addEvents(List<Event> toAdd) {
+        events.addAll(toAdd);
+        eventsStamp = nextChangeStamp();
         indicateModified();
     }
 
@@ -185,20 +489,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Replaces the given event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the address book.
      * The event identity of {@code editedEvent} must not be the same as another existing event in the address book.
+     * Reminders of {@code target} are replaced by reminders of {@code editedEvent}, so that they keep referring to an
+     * event in the address book.
      */
     public void setEvent(Event target, Event editedEvent) {
         requireNonNull(editedEvent);
 
         events.setEvent(target, editedEvent);
+        eventsStamp = nextChangeStamp();
+        if (moveReminders(Collections.singletonMap(AddressBookDiff.identityOf(target), editedEvent))) {
+            remindersStamp = nextChangeStamp();
+        }
         indicateModified();
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key}, and the reminders set for it, from this {@code AddressBook}.
      * {@code key} must exist in the address book.
      */
     public void removeEvent(Event key) {
         events.remove(key);
+        eventsStamp = nextChangeStamp();
+        if (reminders.isRemove(key)) {
+            reminders.remove(key);
+            remindersStamp = nextChangeStamp();
+        }
         indicateModified();
     }
 
@@ -223,6 +538,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setReminders(List<Reminder> reminders) {
         this.reminders.setReminders(reminders);
+        remindersStamp = nextChangeStamp();
         indicateModified();
     }
 
@@ -253,25 +569,36 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addReminder(Reminder reminder) {
         reminders.add(reminder);
+        remindersStamp = nextChangeStamp();
         indicateModified();
     }
 
     /**
-     * connect AddR command with GUI
-     *
-     * @param reminder
+     * Shows {@code reminder} in the UI.
+     * This only changes how the reminder is displayed, so listeners of the address book are not notified.
      */
     public void addShownReminder(Reminder reminder) {
         reminders.addShown(reminder);
-        indicateModified();
+        remindersStamp = nextChangeStamp();
+    }
+
+    /**
+     * Stops showing {@code reminder} in the UI.
+     * This only changes how the reminder is displayed, so listeners of the address book are not notified.
+     */
+    public void removeShownReminder(Reminder reminder) {
+        reminders.removeShown(reminder);
+        remindersStamp = nextChangeStamp();
     }
 
     public void setShow(Reminder r, boolean v) {
         r.setShow(v);
+        remindersStamp = nextChangeStamp();
     }
 
     public void setNotShow(Reminder r, boolean v) {
         r.setNotShow(v);
+        remindersStamp = nextChangeStamp();
     }
 
 
@@ -288,6 +615,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeReminder(Reminder key) {
         reminders.remove(key);
+        remindersStamp = nextChangeStamp();
+        indicateModified();
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} at once.
+     * {@code keys} must exist in the address book.
+     */
+    public void removeReminders(Collection<Reminder> keys) {
+        reminders.removeAll(keys);
+        remindersStamp = nextChangeStamp();
         indicateModified();
     }
 
@@ -298,6 +636,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeReminder(Event key) {
         reminders.remove(key);
+        remindersStamp = nextChangeStamp();
         indicateModified();
     }
 
@@ -0,0 +1,165 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.ReminderList;
+
+/**
+ * The persons, events and reminders that were added, removed or changed between two versions of an address book.
+ *
+ * Records of the two versions are matched by their identity, which is hashed, so that each version is read once and a
+ * record whose other fields were changed is one change rather than a removal and an addition. Persons are matched by
+ * name and phone, and events by name, venue, start and end, as in {@code Event#isSameEvent(Event)}. A reminder has no
+ * identity apart from the fields it is compared by, and so is only ever added or removed.
+ */
+public class AddressBookDiff {
+
+    private final List<Person> addedPersons = new ArrayList<>();
+    private final List<Person> removedPersons = new ArrayList<>();
+    private final List<Change<Person>> changedPersons = new ArrayList<>();
+    private final List<Event> addedEvents = new ArrayList<>();
+    private final List<Event> removedEvents = new ArrayList<>();
+    private final List<Change<Event>> changedEvents = new ArrayList<>();
+    private final List<Reminder> addedReminders = new ArrayList<>();
+    private final List<Reminder> removedReminders = new ArrayList<>();
+
+    private AddressBookDiff() {
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}.
+     */
+    public static AddressBookDiff between(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+        requireAllNonNull(before, after);
+        AddressBookDiff diff = new AddressBookDiff();
+        compare(before.getPersonList(), after.getPersonList(), AddressBookDiff::identityOf,
+                diff.addedPersons, diff.removedPersons, diff.changedPersons);
+        compare(before.getEventList(), after.getEventList(), AddressBookDiff::identityOf,
+                diff.addedEvents, diff.removedEvents, diff.changedEvents);
+        List<Change<Reminder>> changedReminders = new ArrayList<>();
+        compare(before.getReminderList(), after.getReminderList(), ReminderList::getEqualityKey,
+                diff.addedReminders, diff.removedReminders, changedReminders);
+        assert changedReminders.isEmpty() : "reminders with the same fields are equal";
+        return diff;
+    }
+
+    /**
+     * Sorts the records of {@code before} and {@code after} into those only in {@code after}, those only in
+     * {@code before} and those in both that are not equal, by matching records of the same {@code identity}.
+     */
+    private static <T> void compare(List<T> before, List<T> after, Function<T, ?> identity, List<T> added,
+            List<T> removed, List<Change<T>> changed) {
+        Map<Object, T> unmatched = new LinkedHashMap<>();
+        before.forEach(record -> unmatched.put(identity.apply(record), record));
+        for (T record : after) {
+            T earlier = unmatched.remove(identity.apply(record));
+            if (earlier == null) {
+                added.add(record);
+            } else if (!earlier.equals(record)) {
+                changed.add(new Change<>(earlier, record));
+            }
+        }
+        removed.addAll(unmatched.values());
+    }
+
+    /**
+     * Returns the fields that {@code person} is matched by.
+     */
+    public static List<Object> identityOf(Person person) {
+        return Arrays.asList(person.getName(), person.getPhone());
+    }
+
+    /**
+     * Returns the fields that {@code event} is matched by, which are those compared by
+     * {@code Event#isSameEvent(Event)}.
+     */
+    public static List<Object> identityOf(Event event) {
+        return Arrays.asList(event.getName(), event.getVenue(), event.getStartDateTime(), event.getEndDateTime());
+    }
+
+    /**
+     * Returns true if the two versions hold the same records.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of records added, removed or changed.
+     */
+    public int size() {
+        return addedPersons.size() + removedPersons.size() + changedPersons.size() + addedEvents.size()
+                + removedEvents.size() + changedEvents.size() + addedReminders.size() + removedReminders.size();
+    }
+
+    public List<Person> getAddedPersons() {
+        return Collections.unmodifiableList(addedPersons);
+    }
+
+    public List<Person> getRemovedPersons() {
+        return Collections.unmodifiableList(removedPersons);
+    }
+
+    public List<Change<Person>> getChangedPersons() {
+        return Collections.unmodifiableList(changedPersons);
+    }
+
+    public List<Event> getAddedEvents() {
+        return Collections.unmodifiableList(addedEvents);
+    }
+
+    public List<Event> getRemovedEvents() {
+        return Collections.unmodifiableList(removedEvents);
+    }
+
+    public List<Change<Event>> getChangedEvents() {
+        return Collections.unmodifiableList(changedEvents);
+    }
+
+    public List<Reminder> getAddedReminders() {
+        return Collections.unmodifiableList(addedReminders);
+    }
+
+    public List<Reminder> getRemovedReminders() {
+        return Collections.unmodifiableList(removedReminders);
+    }
+
+    @Override
+    public String toString() {
+        return (addedPersons.size() + addedEvents.size() + addedReminders.size()) + " added, "
+                + (removedPersons.size() + removedEvents.size() + removedReminders.size()) + " removed, "
+                + (changedPersons.size() + changedEvents.size()) + " changed";
+    }
+
+    /**
+     * A record as it was before and after it was changed.
+     */
+    public static class Change<T> {
+        private final T before;
+        private final T after;
+
+        private Change(T before, T after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        public T getBefore() {
+            return before;
+        }
+
+        public T getAfter() {
+            return after;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.ReminderList;
+
+/**
+ * An unmodifiable copy of an address book as it was at one moment, such as one that is to be written in the
+ * background while the address book goes on changing.
+ *
+ * Only the lists of the address book are copied, and not the records in them or its indexes, so a snapshot is taken
+ * in time linear in the size of the address book. A snapshot of an {@code AddressBook} keeps its change stamps.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    /** Stamp of a snapshot of an address book that does not keep change stamps. Stamps start at 1. */
+    public static final long UNKNOWN_STAMP = 0;
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Event> events;
+    private final ObservableList<Reminder> reminders;
+    private final long personsStamp;
+    private final long eventsStamp;
+    private final long remindersStamp;
+
+    private AddressBookSnapshot(ReadOnlyAddressBook source, long personsStamp, long eventsStamp,
+            long remindersStamp) {
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        events = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getEventList()));
+        reminders = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getReminderList()));
+        this.personsStamp = personsStamp;
+        this.eventsStamp = eventsStamp;
+        this.remindersStamp = remindersStamp;
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook}, or {@code addressBook} itself if it is already a snapshot.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        if (addressBook instanceof AddressBook) {
+            AddressBook stamped = (AddressBook) addressBook;
+            return new AddressBookSnapshot(stamped, stamped.getPersonsStamp(), stamped.getEventsStamp(),
+                    stamped.getRemindersStamp());
+        }
+        return new AddressBookSnapshot(addressBook, UNKNOWN_STAMP, UNKNOWN_STAMP, UNKNOWN_STAMP);
+    }
+
+    /**
+     * Returns true if this is a snapshot of an address book that keeps change stamps.
+     */
+    public boolean hasStamps() {
+        return personsStamp != UNKNOWN_STAMP;
+    }
+
+    /**
+     * Returns the persons stamp of the address book when this snapshot was taken.
+     *
+     * @see AddressBook#getPersonsStamp()
+     */
+    public long getPersonsStamp() {
+        return personsStamp;
+    }
+
+    /**
+     * Returns the events stamp of the address book when this snapshot was taken.
+     *
+     * @see AddressBook#getEventsStamp()
+     */
+    public long getEventsStamp() {
+        return eventsStamp;
+    }
+
+    /**
+     * Returns the reminders stamp of the address book when this snapshot was taken.
+     *
+     * @see AddressBook#getRemindersStamp()
+     */
+    public long getRemindersStamp() {
+        return remindersStamp;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    @Override
+    public ObservableList<Reminder> getReminderList() {
+        return reminders;
+    }
+
+    @Override
+    public ReminderList getReminderListTest() {
+        ReminderList reminderList = new ReminderList();
+        reminderList.setReminders(reminders);
+        return reminderList;
+    }
+
+    /**
+     * Does nothing, as a snapshot never changes.
+     */
+    @Override
+    public void addListener(InvalidationListener listener) {
+    }
+
+    /**
+     * Does nothing, as a snapshot never changes.
+     */
+    @Override
+    public void removeListener(InvalidationListener listener) {
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons";
+    }
+}
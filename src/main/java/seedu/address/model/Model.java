@@ -1,12 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeRange;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
 
@@ -56,6 +62,30 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Applies {@code changes}, made to another copy of the address book such as the data file, record by record.
+     * Unlike adding records, this leaves the filters and the selections as they are. Changes to records that were also
+     * changed in this address book are left out.
+     *
+     * @return the number of changes left out.
+     * @see AddressBook#applyChanges(AddressBookDiff)
+     */
+    int applyChanges(AddressBookDiff changes);
+
+    /**
+     * Adds the events and reminders in {@code eventsAndReminders} to the address book once they have been read, for
+     * an address book whose persons were read first. Commands that need them call {@link #awaitEventsAndReminders()}.
+     */
+    void loadEventsAndRemindersLater(CompletableFuture<? extends ReadOnlyAddressBook> eventsAndReminders);
+
+    /**
+     * Waits for the events and reminders being read, if any, and adds them to the address book.
+     *
+     * @throws DataConversionException if they could not be read, now or on an earlier call. The address book is then
+     *     without them, and must not be saved over the data file that still holds them.
+     */
+    void awaitEventsAndReminders() throws DataConversionException;
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -73,6 +103,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons in one change, which listeners of the address book are notified of once.
+     * None of {@code persons} may already exist in the address book, nor be the same as another of them.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -136,6 +172,17 @@ public interface Model {
      */
     boolean hasEvent(Event event);
 
+    /**
+     * Returns the events, other than {@code event} itself, that take place at the same time as {@code event} and
+     * share one of its participants or its venue.
+     */
+    List<Event> getClashingEvents(Event event);
+
+    /**
+     * Returns the sorted, disjoint periods within {@code window} in which any of {@code participants} is busy.
+     */
+    List<TimeRange> getBusyTimes(Set<Person> participants, TimeRange window);
+
     /**
      * Deletes the given event.
      * The event must exist in the address book.
@@ -148,6 +195,12 @@ public interface Model {
      */
     void addEvent(Event event);
 
+    /**
+     * Adds the given events in one change, which listeners of the address book are notified of once.
+     * None of {@code events} may already exist in the address book, nor be the same as another of them.
+     */
+    void addEvents(List<Event> events);
+
     /**
      * Replaces the given event {@code target} with {@code editedEvent}.
      * {@code target} must exist in the address book.
@@ -213,6 +266,13 @@ public interface Model {
      */
     void deleteReminder(Reminder reminder);
     void deleteReminder(Event event);
+
+    /**
+     * Deletes all the given expired reminders at once, from the address book and from its undo and redo history,
+     * without committing. Undoing or redoing a command thus neither brings them back nor reverts their deletion.
+     * The reminders must exist in the address book.
+     */
+    void expireReminders(Collection<Reminder> reminders);
     boolean isRemove(Event target);
 
 
@@ -222,6 +282,7 @@ public interface Model {
      */
     void addReminder(Reminder reminder);
     void addShownReminder(Reminder reminder);
+    void removeShownReminder(Reminder reminder);
     ObservableList<Reminder> getFilteredReminderList();
     void updateFilteredReminderList(Predicate<Reminder> predicate);
     ReadOnlyProperty<Reminder> selectedReminderProperty();
@@ -4,7 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,7 +21,9 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeRange;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -35,6 +43,10 @@ public class ModelManager implements Model {
     private final SimpleObjectProperty<Person> selectedPerson = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Event> selectedEvent = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Reminder> selectedReminder = new SimpleObjectProperty<>();
+    /** Events and reminders still being read, or null if there are none. */
+    private CompletableFuture<? extends ReadOnlyAddressBook> pendingEventsAndReminders;
+    /** Why the events and reminders could not be read, or null if they have not failed to be read. */
+    private DataConversionException eventsAndRemindersFailure;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -106,6 +118,40 @@ public class ModelManager implements Model {
         return versionedAddressBook;
     }
 
+    @Override
+    public int applyChanges(AddressBookDiff changes) {
+        requireNonNull(changes);
+        return versionedAddressBook.applyChanges(changes);
+    }
+
+    @Override
+    public void loadEventsAndRemindersLater(CompletableFuture<? extends ReadOnlyAddressBook> eventsAndReminders) {
+        requireNonNull(eventsAndReminders);
+        pendingEventsAndReminders = eventsAndReminders;
+    }
+
+    @Override
+    public void awaitEventsAndReminders() throws DataConversionException {
+        if (eventsAndRemindersFailure != null) {
+            throw eventsAndRemindersFailure;
+        }
+        if (pendingEventsAndReminders == null) {
+            return;
+        }
+        CompletableFuture<? extends ReadOnlyAddressBook> pending = pendingEventsAndReminders;
+        pendingEventsAndReminders = null;
+        try {
+            versionedAddressBook.addLoadedEventsAndReminders(pending.join());
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            eventsAndRemindersFailure = cause instanceof DataConversionException
+                    ? (DataConversionException) cause
+                    : new DataConversionException(cause instanceof Exception ? (Exception) cause : e);
+            logger.severe("Events and reminders could not be read: " + cause);
+            throw eventsAndRemindersFailure;
+        }
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -123,6 +169,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        versionedAddressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -136,6 +189,18 @@ public class ModelManager implements Model {
         return versionedAddressBook.hasEvent(event);
     }
 
+    @Override
+    public List<Event> getClashingEvents(Event event) {
+        requireNonNull(event);
+        return versionedAddressBook.getClashingEvents(event);
+    }
+
+    @Override
+    public List<TimeRange> getBusyTimes(Set<Person> participants, TimeRange window) {
+        requireAllNonNull(participants, window);
+        return versionedAddressBook.getBusyTimes(participants, window);
+    }
+
     @Override
     public void deleteEvent(Event target) {
         versionedAddressBook.removeEvent(target);
@@ -147,6 +212,13 @@ public class ModelManager implements Model {
         updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
     }
 
+    @Override
+    public void addEvents(List<Event> events) {
+        requireNonNull(events);
+        versionedAddressBook.addEvents(events);
+        updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+    }
+
     @Override
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
@@ -172,6 +244,12 @@ public class ModelManager implements Model {
         versionedAddressBook.removeReminder(target);
     }
 
+    @Override
+    public void expireReminders(Collection<Reminder> reminders) {
+        requireNonNull(reminders);
+        versionedAddressBook.removeExpiredReminders(reminders);
+    }
+
     @Override
     public void deleteReminder(Event target) {
         versionedAddressBook.removeReminder(target);
@@ -196,6 +274,12 @@ public class ModelManager implements Model {
         //System.out.println("model, should finish now ");
     }
 
+    @Override
+    public void removeShownReminder(Reminder reminder) {
+        versionedAddressBook.removeShownReminder(reminder);
+        updateFilteredReminderList(PREDICATE_SHOW_ALL_REMINDERS);
+    }
+
     @Override
     public void setShow(Reminder r, boolean v) {
         versionedAddressBook.setShow(r, v);
@@ -13,4 +13,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    boolean isStrictClashCheck();
+
+    boolean isJournaledStorage();
+
+    boolean isBinaryStorage();
+
+    boolean isCompressedStorage();
+
+    boolean isLazyLoading();
+
+    boolean isShardedStorage();
+
 }
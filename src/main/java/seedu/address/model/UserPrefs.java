@@ -17,6 +17,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path eventListFilePath = Paths.get("data", "eventlist.json");
     private Path reminderListFilePath = Paths.get("data", "reminderlist.json");
+    private boolean strictClashCheck = false;
+    private boolean journaledStorage = false;
+    private boolean binaryStorage = false;
+    private boolean compressedStorage = false;
+    private boolean lazyLoading = false;
+    private boolean shardedStorage = false;
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -37,6 +43,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setStrictClashCheck(newUserPrefs.isStrictClashCheck());
+        setJournaledStorage(newUserPrefs.isJournaledStorage());
+        setBinaryStorage(newUserPrefs.isBinaryStorage());
+        setCompressedStorage(newUserPrefs.isCompressedStorage());
+        setLazyLoading(newUserPrefs.isLazyLoading());
+        setShardedStorage(newUserPrefs.isShardedStorage());
     }
 
     public GuiSettings getGuiSettings() {
@@ -65,6 +77,76 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    /**
+     * Returns true if events that clash with existing events should be refused rather than only reported.
+     */
+    public boolean isStrictClashCheck() {
+        return strictClashCheck;
+    }
+
+    public void setStrictClashCheck(boolean strictClashCheck) {
+        this.strictClashCheck = strictClashCheck;
+    }
+
+    /**
+     * Returns true if changes to the address book should be appended to a journal rather than rewriting the whole
+     * data file each time.
+     */
+    public boolean isJournaledStorage() {
+        return journaledStorage;
+    }
+
+    public void setJournaledStorage(boolean journaledStorage) {
+        this.journaledStorage = journaledStorage;
+    }
+
+    /**
+     * Returns true if the address book should be kept in a compact binary file next to the json data file, rather
+     * than in the json data file itself.
+     */
+    public boolean isBinaryStorage() {
+        return binaryStorage;
+    }
+
+    public void setBinaryStorage(boolean binaryStorage) {
+        this.binaryStorage = binaryStorage;
+    }
+
+    /**
+     * Returns true if the json data file should be compressed with gzip.
+     */
+    public boolean isCompressedStorage() {
+        return compressedStorage;
+    }
+
+    public void setCompressedStorage(boolean compressedStorage) {
+        this.compressedStorage = compressedStorage;
+    }
+
+    /**
+     * Returns true if the persons should be shown as soon as they are read, with the events and reminders read in
+     * the background.
+     */
+    public boolean isLazyLoading() {
+        return lazyLoading;
+    }
+
+    public void setLazyLoading(boolean lazyLoading) {
+        this.lazyLoading = lazyLoading;
+    }
+
+    /**
+     * Returns true if the persons, events and reminders should each be kept in a json file of their own, so that
+     * only the files of the parts that changed are written.
+     */
+    public boolean isShardedStorage() {
+        return shardedStorage;
+    }
+
+    public void setShardedStorage(boolean shardedStorage) {
+        this.shardedStorage = shardedStorage;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -77,12 +159,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && strictClashCheck == o.strictClashCheck
+                && journaledStorage == o.journaledStorage
+                && binaryStorage == o.binaryStorage
+                && compressedStorage == o.compressedStorage
+                && lazyLoading == o.lazyLoading
+                && shardedStorage == o.shardedStorage;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, strictClashCheck, journaledStorage, binaryStorage,
+                compressedStorage, lazyLoading, shardedStorage);
     }
 
     @Override
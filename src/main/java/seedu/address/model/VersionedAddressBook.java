@@ -1,14 +1,20 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+import seedu.address.model.event.Event;
+import seedu.address.model.reminder.Reminder;
+
 /**
  * {@code AddressBook} that keeps track of its own history.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    private final List<AddressBook> addressBookStateList;
     private int currentStatePointer;
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
@@ -30,6 +36,44 @@ public class VersionedAddressBook extends AddressBook {
         indicateModified();
     }
 
+    /**
+     * Adds the events and reminders of {@code loaded}, which were read after this address book was created, to the
+     * current state and to every saved state, so that undoing or redoing does not drop them.
+     */
+    public void addLoadedEventsAndReminders(ReadOnlyAddressBook loaded) {
+        requireNonNull(loaded);
+        for (AddressBook state : addressBookStateList) {
+            addEventsAndReminders(state, loaded);
+        }
+        addEventsAndReminders(this, loaded);
+    }
+
+    private static void addEventsAndReminders(AddressBook addressBook, ReadOnlyAddressBook loaded) {
+        List<Event> events = new ArrayList<>(addressBook.getEventList());
+        events.addAll(loaded.getEventList());
+        addressBook.setEvents(events);
+        List<Reminder> reminders = new ArrayList<>(addressBook.getReminderList());
+        reminders.addAll(loaded.getReminderList());
+        addressBook.setReminders(reminders);
+    }
+
+    /**
+     * Removes the {@code expired} reminders from the current state and from every saved state, without saving a new
+     * state, so that undoing or redoing neither brings them back nor reverts their removal.
+     * {@code expired} must exist in the current state.
+     */
+    public void removeExpiredReminders(Collection<Reminder> expired) {
+        requireNonNull(expired);
+        for (AddressBook state : addressBookStateList) {
+            List<Reminder> expiredInState = new ArrayList<>(expired);
+            expiredInState.removeIf(reminder -> !state.hasReminder(reminder));
+            if (!expiredInState.isEmpty()) {
+                state.removeReminders(expiredInState);
+            }
+        }
+        removeReminders(expired);
+    }
+
     private void removeStatesAfterCurrentPointer() {
         addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
     }
@@ -2,13 +2,24 @@ package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.function.Predicate;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Block class defines a block of time, in hours and minutes.
+ *
+ * A block is compiled once into seven 1440-bit minute-of-day masks, one per weekday, laid out back to back
+ * from Monday to Sunday. Blocks may be combined with {@link #or(Block)}, {@link #onlyOn(Set)} and
+ * {@link #except(Block)}, and every check against a block is then a handful of bit operations.
  */
 public class Block {
 
@@ -22,18 +33,25 @@ public class Block {
             + " separated by a single space. "
             + "It can be negated with a ! prefix.\n"
             + "For example, 12:00 14:00 denotes a block of time between 12pm and 2pm,\n"
-            + " and !23:00 2:00 denotes a block of time not between 11pm and 2am.";
+            + " and !23:00 2:00 denotes a block of time not between 11pm and 2am.\n"
+            + "Several blocks and days may be combined, separated by commas. Days are written as "
+            + "mon, tue, wed, thu, fri, sat, sun, weekdays or weekends, and can be excluded with a ! prefix.\n"
+            + "For example, 09:00 12:00, 14:00 17:00, weekdays, !fri denotes weekday mornings and afternoons,"
+            + " except on Fridays.";
     public static final String MIDNIGHT = "midnight";
     public static final String MORNING = "morning";
     public static final String NIGHT = "night";
     public static final String SCHOOL = "school";
     public static final String SUPPER = "supper";
+    public static final String WEEKDAYS = "weekdays";
+    public static final String WEEKENDS = "weekends";
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
 
     private final LocalTime first;
-    private final LocalTime second;
-    private final Predicate<LocalDateTime> tester;
-    private final Duration d;
-    private final boolean nonBlock;
+    private final BitSet mask;
+    private final String description;
 
     /**
      * Constructs a block instance using two LocalTimes, and whether the block should be negated.
@@ -45,37 +63,50 @@ public class Block {
         requireNonNull(first);
         requireNonNull(second);
 
+        mask = new BitSet(MINUTES_PER_WEEK);
+
         // If first equals second, then this block is a non-block and all events fall within this block.
         if (first.equals(second)) {
-            nonBlock = true;
-        } else {
-            nonBlock = false;
+            this.first = first;
+            mask.set(0, MINUTES_PER_WEEK);
+            description = "any time";
+            return;
         }
 
         // If the block is negated, simply reverse first and second.
-        if (negated) {
-            this.second = first;
-            this.first = second;
-        } else {
-            this.first = first;
-            this.second = second;
+        LocalTime from = negated ? second : first;
+        LocalTime to = negated ? first : second;
+        this.first = from;
+        description = from + " to " + to;
+
+        // Both ends of the block are inclusive, and a block whose end is before its start wraps past midnight.
+        int fromMinute = toMinuteOfDay(from);
+        int toMinute = toMinuteOfDay(to);
+        for (int day = 0; day < 7; day++) {
+            int offset = day * MINUTES_PER_DAY;
+            if (fromMinute <= toMinute) {
+                mask.set(offset + fromMinute, offset + toMinute + 1);
+            } else {
+                mask.set(offset + fromMinute, offset + MINUTES_PER_DAY);
+                mask.set(offset, offset + toMinute + 1);
+            }
         }
+    }
 
-        // Setting up testers.
-        Predicate<LocalDateTime> firstPredicate = x -> this.first.isBefore(x.toLocalTime())
-                || this.first.equals(x.toLocalTime());
-        Predicate<LocalDateTime> secondPredicate = x -> this.second.isAfter(x.toLocalTime())
-                || this.second.equals(x.toLocalTime());
-
-        // Setting the duration of this block.
-        if (this.first.isBefore(this.second)) {
-            tester = firstPredicate.and(secondPredicate);
-            d = Duration.between(this.first, this.second);
-        } else {
-            tester = firstPredicate.or(secondPredicate);
-            d = Duration.between(this.second, this.first);
-        }
+    private Block(LocalTime first, BitSet mask, String description) {
+        this.first = first;
+        this.mask = mask;
+        this.description = description;
+    }
 
+    /**
+     * Returns a {@code block} that spans the whole of every day in {@code days}.
+     * @param days The days of the week that are allowed.
+     * @return The block of the given days.
+     */
+    public static Block onDays(Set<DayOfWeek> days) {
+        requireNonNull(days);
+        return new Block(LocalTime.MIDNIGHT, LocalTime.MIDNIGHT, false).onlyOn(days);
     }
 
     /**
@@ -177,49 +208,164 @@ public class Block {
         return new Block(LocalTime.parse("10:00"), LocalTime.parse("13:00"), negated);
     }
 
+    /**
+     * Returns a {@code block} that allows any time allowed by this block or by {@code other}.
+     * @param other The other block.
+     * @return The union of the two blocks.
+     */
+    public Block or(Block other) {
+        requireNonNull(other);
+        BitSet union = (BitSet) mask.clone();
+        union.or(other.mask);
+        return new Block(first, union, description + " or " + other.description);
+    }
+
+    /**
+     * Returns a {@code block} that allows the times allowed by this block, but only on {@code days}.
+     * @param days The days of the week that are allowed.
+     * @return The restricted block.
+     */
+    public Block onlyOn(Set<DayOfWeek> days) {
+        requireNonNull(days);
+        BitSet restricted = new BitSet(MINUTES_PER_WEEK);
+        for (DayOfWeek day : days) {
+            int offset = toDayOffset(day);
+            restricted.set(offset, offset + MINUTES_PER_DAY);
+        }
+        restricted.and(mask);
+        return new Block(first, restricted, "(" + description + ") on " + describeDays(days));
+    }
+
+    /**
+     * Returns a {@code block} that allows the times allowed by this block but not by {@code other}.
+     * @param other The block of time to exclude.
+     * @return The block without {@code other}.
+     */
+    public Block except(Block other) {
+        requireNonNull(other);
+        BitSet difference = (BitSet) mask.clone();
+        difference.andNot(other.mask);
+        return new Block(first, difference, "(" + description + ") except " + other.description);
+    }
+
     /**
      * Checks if two LocalDateTimes form a period that is within this block.
+     * Every minute touched by the period, including the minutes of both ends, must be allowed by the block.
      * @param start The start datetime.
      * @param end   The end datetime.
      * @return      True if the two LocalDateTimes fall within this block.
      */
     public boolean isWithinBlock(LocalDateTime start, LocalDateTime end) {
-        if (nonBlock) {
+        if (isAnyTime()) {
             return true;
         }
-        if (!tester.test(start)) {
-            return false;
-        }
+        long minutes = ceilToMinute(end) - floorToMinute(start);
+        return runLength(toWeekIndex(start)) > minutes;
+    }
 
-        if (!tester.test(end)) {
-            return false;
+    /**
+     * Returns the earliest start at or after {@code from} such that a period of {@code duration} falls within
+     * this block, or an empty {@code Optional} if no such period exists in any week.
+     * @param from      The earliest allowed start.
+     * @param duration  The length of the period.
+     * @return          The earliest valid start.
+     */
+    public Optional<LocalDateTime> nextValidStart(LocalDateTime from, Duration duration) {
+        requireNonNull(from);
+        requireNonNull(duration);
+        if (isWithinBlock(from, from.plus(duration))) {
+            return Optional.of(from);
         }
 
-        Duration durationToSecond;
-
-        if (start.toLocalTime().isBefore(second)) {
-            durationToSecond = Duration.between(start.toLocalTime(), second);
-        } else {
-            durationToSecond = Duration.between(second, start.toLocalTime());
+        long needed = (duration.getSeconds() + 59) / 60;
+        LocalDateTime minuteStart = from.truncatedTo(ChronoUnit.MINUTES);
+        if (minuteStart.isBefore(from)) {
+            minuteStart = minuteStart.plusMinutes(1);
         }
-        if (durationToSecond.toSeconds() < Duration.between(start, end).toSeconds()) {
-            return false;
+        int origin = toWeekIndex(minuteStart);
+
+        // Jump from one run of allowed minutes to the next until a run is long enough, for at most a week.
+        long advanced = 0;
+        while (advanced <= MINUTES_PER_WEEK) {
+            int index = (int) ((origin + advanced) % MINUTES_PER_WEEK);
+            int nextAllowed = mask.nextSetBit(index);
+            if (nextAllowed < 0) {
+                nextAllowed = mask.nextSetBit(0);
+                if (nextAllowed < 0) {
+                    return Optional.empty();
+                }
+                advanced += MINUTES_PER_WEEK - index + nextAllowed;
+            } else {
+                advanced += nextAllowed - index;
+            }
+
+            int run = runLength(nextAllowed);
+            if (run > needed) {
+                return Optional.of(minuteStart.plusMinutes(advanced));
+            }
+            advanced += run;
         }
-
-        return true;
+        return Optional.empty();
     }
 
     /**
      * Gets the first {@code LocalTime} of this block.
+     * For combined blocks, this is the first {@code LocalTime} of the leftmost block.
      * @return The first LocalTime.
      */
     public LocalTime getFirst() {
         return first;
     }
 
+    /**
+     * Returns true if every minute of every day is allowed by this block.
+     */
+    private boolean isAnyTime() {
+        return mask.nextClearBit(0) >= MINUTES_PER_WEEK;
+    }
+
+    /**
+     * Returns the number of consecutive allowed minutes starting at {@code index}, wrapping around the end of
+     * the week. This block must not allow every minute of the week.
+     */
+    private int runLength(int index) {
+        int clear = mask.nextClearBit(index);
+        if (clear < MINUTES_PER_WEEK) {
+            return clear - index;
+        }
+        return MINUTES_PER_WEEK - index + mask.nextClearBit(0);
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int toDayOffset(DayOfWeek day) {
+        return (day.getValue() - 1) * MINUTES_PER_DAY;
+    }
+
+    private static int toWeekIndex(LocalDateTime dateTime) {
+        return toDayOffset(dateTime.getDayOfWeek()) + toMinuteOfDay(dateTime.toLocalTime());
+    }
+
+    private static long floorToMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(TimeRange.toEpochSecond(dateTime), 60);
+    }
+
+    private static long ceilToMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(TimeRange.toEpochSecond(dateTime) + 59, 60);
+    }
+
+    private static String describeDays(Set<DayOfWeek> days) {
+        return days.stream()
+                .sorted()
+                .map(day -> day.getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
+                .collect(Collectors.joining(", "));
+    }
+
     @Override
     public String toString() {
-        return nonBlock ? "any time" : first + " to " + second;
+        return description;
     }
 
     @Override
@@ -232,13 +378,12 @@ public class Block {
             return false;
         }
 
-        Block other = (Block) o;
+        return mask.equals(((Block) o).mask);
+    }
 
-        if (this.nonBlock && other.nonBlock) {
-            return true;
-        }
-        return this.first.equals(other.first)
-                && this.second.equals(other.second);
+    @Override
+    public int hashCode() {
+        return mask.hashCode();
     }
 
 }
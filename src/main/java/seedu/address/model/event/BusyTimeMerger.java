@@ -0,0 +1,229 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Gathers the busy periods of a group of persons and merges them into a sorted list of disjoint
+ * {@code TimeRange}s.
+ *
+ * The merged result is the union of the busy periods, so it does not depend on how the work was split.
+ * {@link #merge(List, Set, TimeRange)} divides the event list and merges the halves on the common fork-join pool,
+ * while {@link #mergeSequentially(List, Set, TimeRange)} does the same work on the calling thread.
+ * Repeating events are expanded only within the window asked for.
+ */
+public class BusyTimeMerger {
+
+    /** Number of events below which a fork-join task stops splitting and works sequentially. */
+    public static final int SEQUENTIAL_THRESHOLD = 512;
+
+    /** Window that covers every representable instant. */
+    public static final TimeRange ALL_TIME = new TimeRange(Long.MIN_VALUE, Long.MAX_VALUE);
+
+    private BusyTimeMerger() {}
+
+    /**
+     * Returns the merged busy periods of {@code participants} in {@code events}, computed in parallel.
+     */
+    public static List<TimeRange> merge(List<Event> events, Set<Person> participants) {
+        return merge(events, participants, ALL_TIME);
+    }
+
+    /**
+     * Returns the merged busy periods of {@code participants} in {@code events} that touch {@code window},
+     * computed in parallel.
+     */
+    public static List<TimeRange> merge(List<Event> events, Set<Person> participants, TimeRange window) {
+        requireNonNull(events);
+        requireNonNull(participants);
+        requireNonNull(window);
+        return ForkJoinPool.commonPool().invoke(new MergeTask(events, participants, window, 0, events.size()));
+    }
+
+    /**
+     * Returns the merged busy periods of {@code participants} in {@code events}, computed on this thread.
+     */
+    public static List<TimeRange> mergeSequentially(List<Event> events, Set<Person> participants) {
+        return mergeSequentially(events, participants, ALL_TIME);
+    }
+
+    /**
+     * Returns the merged busy periods of {@code participants} in {@code events} that touch {@code window},
+     * computed on this thread.
+     */
+    public static List<TimeRange> mergeSequentially(List<Event> events, Set<Person> participants,
+                                                    TimeRange window) {
+        requireNonNull(events);
+        requireNonNull(participants);
+        requireNonNull(window);
+        return gatherAndCoalesce(events, participants, window, 0, events.size());
+    }
+
+    /**
+     * Returns true if any of {@code participants} takes part in {@code event}.
+     * Iterates over the persons of the event, which is usually the smaller of the two sets.
+     */
+    public static boolean involvesAny(Event event, Set<Person> participants) {
+        for (Person p : event.getPersons()) {
+            if (participants.contains(p)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Merges two sorted lists of disjoint ranges into a single sorted list of disjoint ranges.
+     * Ranges that overlap or touch are joined.
+     */
+    public static List<TimeRange> union(List<TimeRange> first, List<TimeRange> second) {
+        List<TimeRange> merged = new ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (i < first.size() || j < second.size()) {
+            TimeRange next;
+            if (j >= second.size() || (i < first.size() && first.get(i).compareTo(second.get(j)) <= 0)) {
+                next = first.get(i++);
+            } else {
+                next = second.get(j++);
+            }
+            append(merged, next);
+        }
+        return merged;
+    }
+
+    /**
+     * Merges any number of sorted lists of disjoint ranges into a single sorted list of disjoint ranges.
+     * The lists are merged together in one pass, taking the earliest next range of all of them from a priority queue,
+     * which is O(N log k) for N ranges in k lists rather than the O(N k) of merging them in pairs.
+     */
+    public static List<TimeRange> unionAll(List<List<TimeRange>> lists) {
+        requireNonNull(lists);
+        PriorityQueue<Cursor> next = new PriorityQueue<>(Math.max(1, lists.size()));
+        int total = 0;
+        for (List<TimeRange> list : lists) {
+            if (!list.isEmpty()) {
+                next.add(new Cursor(list));
+                total += list.size();
+            }
+        }
+        List<TimeRange> merged = new ArrayList<>(total);
+        while (!next.isEmpty()) {
+            Cursor cursor = next.poll();
+            append(merged, cursor.current());
+            if (cursor.advance()) {
+                next.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Sorts {@code ranges} in place and returns the sorted list of disjoint ranges that covers them.
+     */
+    public static List<TimeRange> coalesce(List<TimeRange> ranges) {
+        Collections.sort(ranges);
+        List<TimeRange> merged = new ArrayList<>(ranges.size());
+        for (TimeRange range : ranges) {
+            append(merged, range);
+        }
+        return merged;
+    }
+
+    /**
+     * Appends {@code next} to the sorted list {@code merged}, joining it with the last range if they touch.
+     * {@code next} must not start before the last range in {@code merged}.
+     */
+    private static void append(List<TimeRange> merged, TimeRange next) {
+        int last = merged.size() - 1;
+        if (last >= 0 && merged.get(last).touches(next)) {
+            TimeRange previous = merged.get(last);
+            merged.set(last, new TimeRange(previous.getStart(), Math.max(previous.getEnd(), next.getEnd())));
+        } else {
+            merged.add(next);
+        }
+    }
+
+    private static List<TimeRange> gatherAndCoalesce(List<Event> events, Set<Person> participants,
+                                                     TimeRange window, int from, int to) {
+        List<TimeRange> busy = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Event e = events.get(i);
+            if (involvesAny(e, participants)) {
+                busy.addAll(e.getOccurrences(window.getStart(), window.getEnd()));
+            }
+        }
+        return coalesce(busy);
+    }
+
+    /**
+     * A position in a sorted list of ranges, ordered by the range at that position.
+     */
+    private static class Cursor implements Comparable<Cursor> {
+
+        private final List<TimeRange> ranges;
+        private int position;
+
+        Cursor(List<TimeRange> ranges) {
+            this.ranges = ranges;
+        }
+
+        TimeRange current() {
+            return ranges.get(position);
+        }
+
+        /**
+         * Moves to the next range, and returns false if there is none.
+         */
+        boolean advance() {
+            return ++position < ranges.size();
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return current().compareTo(other.current());
+        }
+    }
+
+    /**
+     * Divide-and-conquer task that gathers the busy periods in {@code events[from, to)} and merges them.
+     */
+    private static class MergeTask extends RecursiveTask<List<TimeRange>> {
+
+        private final List<Event> events;
+        private final Set<Person> participants;
+        private final TimeRange window;
+        private final int from;
+        private final int to;
+
+        MergeTask(List<Event> events, Set<Person> participants, TimeRange window, int from, int to) {
+            this.events = events;
+            this.participants = participants;
+            this.window = window;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<TimeRange> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return gatherAndCoalesce(events, participants, window, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            MergeTask left = new MergeTask(events, participants, window, from, mid);
+            MergeTask right = new MergeTask(events, participants, window, mid, to);
+            left.fork();
+            List<TimeRange> rightResult = right.compute();
+            return union(left.join(), rightResult);
+        }
+    }
+}
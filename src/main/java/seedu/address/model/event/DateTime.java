@@ -7,6 +7,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.regex.Pattern;
 
 /**
  * Represents an event's date and time in the event list
@@ -19,6 +20,13 @@ public class DateTime {
             + "please check whether your date and time are valid";
     public static final String VALIDATION_REGEX = "\\d{4}-\\d{2}-\\d{2}\\s+\\d{2}:\\d{2}:\\d{2}";
     public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    /** Parser of the dates and times validated, one for each thread as {@code SimpleDateFormat} is not thread-safe. */
+    private static final ThreadLocal<SimpleDateFormat> VALIDATION_FORMAT = ThreadLocal.withInitial(() -> {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        format.setLenient(false);
+        return format;
+    });
     public final String value;
 
     /**
@@ -37,11 +45,9 @@ public class DateTime {
      */
     public static boolean isValidDateTime(String test) {
         boolean isValidDateTime = false;
-        if (test.matches(VALIDATION_REGEX)) {
-            SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            format.setLenient(false);
+        if (VALIDATION_PATTERN.matcher(test).matches()) {
             try {
-                format.parse(test);
+                VALIDATION_FORMAT.get().parse(test);
                 isValidDateTime = true;
             } catch (ParseException e) {
                 isValidDateTime = false;
@@ -5,7 +5,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.model.person.Person;
@@ -29,6 +31,7 @@ public class Event {
     private final Label label;
     private final Set<Person> persons = new HashSet<>();
     private ReminderList reminders = new ReminderList();
+    private Recurrence recurrence;
 
     /**
      * Every field must be present and not null.
@@ -77,6 +80,16 @@ public class Event {
         this.reminders = reminders;
     }
 
+    /**
+     * Every field except {@code recurrence} must be present and not null.
+     * A null {@code recurrence} denotes an event that happens only once.
+     */
+    public Event(Name name, Description description, Venue venue, DateTime startDateTime, DateTime endDateTime,
+                 Label label, Set<Person> persons, Recurrence recurrence) {
+        this(name, description, venue, startDateTime, endDateTime, label, persons);
+        this.recurrence = recurrence;
+    }
+
     public Name getName() {
         return name;
     }
@@ -113,6 +126,57 @@ public class Event {
     public ReminderList getReminders() {
         return reminders;
     }
+
+    public Optional<Recurrence> getRecurrence() {
+        return Optional.ofNullable(recurrence);
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Returns the occurrences of this event that share any instant with, or touch, the period from {@code from}
+     * to {@code to}, in ascending order. The periods are in local epoch seconds, as in {@code TimeRange}.
+     * A repeating event is expanded only within the period.
+     */
+    public List<TimeRange> getOccurrences(long from, long to) {
+        TimeRange first = TimeRange.of(this);
+        if (recurrence != null) {
+            return recurrence.getOccurrences(first, from, to);
+        }
+        if (first.getStart() <= to && first.getEnd() >= from) {
+            return Collections.singletonList(first);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the period from the start of the first occurrence of this event to the end of its last occurrence, in
+     * local epoch seconds.
+     */
+    public TimeRange getSpan() {
+        TimeRange first = TimeRange.of(this);
+        return recurrence == null ? first : recurrence.getSpan(first);
+    }
+
+    /**
+     * Returns the earliest occurrence of this event that starts at or after {@code from}, in local epoch seconds.
+     */
+    public Optional<TimeRange> getFirstOccurrenceFrom(long from) {
+        TimeRange first = TimeRange.of(this);
+        if (recurrence != null) {
+            return recurrence.getFirstOccurrenceFrom(first, from);
+        }
+        return first.getStart() >= from ? Optional.of(first) : Optional.empty();
+    }
+
+    /**
+     * Returns true if an occurrence of this event starts at or after {@code from} and before {@code to}.
+     */
+    public boolean hasOccurrenceStartingBetween(long from, long to) {
+        return getFirstOccurrenceFrom(from).filter(occurrence -> occurrence.getStart() < to).isPresent();
+    }
     /**
      * Returns true if a person with the same identity as {@code person} connect with this event.
      */
@@ -174,6 +238,7 @@ public class Event {
                 this.endDateTime,
                 this.label
         );
+        clone.recurrence = this.recurrence;
         clone.addPerson(this.persons.toArray(new Person[0]));
         return clone;
     }
@@ -207,13 +272,14 @@ public class Event {
                 && otherEvent.getVenue().equals(getVenue())
                 && otherEvent.getLabel().equals(getLabel())
                 && otherEvent.getStartDateTime().equals(getStartDateTime())
-                && otherEvent.getEndDateTime().equals(getEndDateTime());
+                && otherEvent.getEndDateTime().equals(getEndDateTime())
+                && otherEvent.getRecurrence().equals(getRecurrence());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, description, venue, startDateTime, endDateTime, label);
+        return Objects.hash(name, description, venue, startDateTime, endDateTime, label, recurrence);
     }
 
     @Override
@@ -230,6 +296,7 @@ public class Event {
                 .append(getStartDateTime())
                 .append(" End Date Time: ")
                 .append(getEndDateTime());
+        getRecurrence().ifPresent(rule -> builder.append(" Repeats: ").append(rule));
 
         return builder.toString();
     }
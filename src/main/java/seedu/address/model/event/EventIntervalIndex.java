@@ -0,0 +1,311 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes events by the time they take place, separately for every participant and every venue, so that the events
+ * that clash with a given event can be found without scanning the whole event list.
+ *
+ * Within each participant or venue, one-off events are kept sorted by start time together with the longest duration
+ * among them. An event overlapping {@code [start, end)} must then start within {@code (start - longest, end)}, which
+ * is a single range lookup, O(log n) plus the events in the range. Repeating events are kept apart in the same way,
+ * by the span from their first occurrence to their last, and only those whose span overlaps a period are asked for
+ * their occurrences within it.
+ */
+public class EventIntervalIndex {
+
+    private final Map<Person, TimeLine> byParticipant = new HashMap<>();
+    private final Map<Venue, TimeLine> byVenue = new HashMap<>();
+
+    /**
+     * Adds {@code event} under its venue and each of its participants.
+     */
+    public void add(Event event) {
+        requireNonNull(event);
+        TimeRange first = TimeRange.of(event);
+        byVenue.computeIfAbsent(event.getVenue(), venue -> new TimeLine()).add(event, first);
+        for (Person p : event.getPersons()) {
+            byParticipant.computeIfAbsent(p, person -> new TimeLine()).add(event, first);
+        }
+    }
+
+    /**
+     * Removes {@code event}, which must have been added, from under its venue and each of its participants.
+     */
+    public void remove(Event event) {
+        requireNonNull(event);
+        TimeRange first = TimeRange.of(event);
+        removeFrom(byVenue, event.getVenue(), event, first);
+        for (Person p : event.getPersons()) {
+            removeFrom(byParticipant, p, event, first);
+        }
+    }
+
+    /**
+     * Removes every event from the index.
+     */
+    public void clear() {
+        byParticipant.clear();
+        byVenue.clear();
+    }
+
+    /**
+     * Returns an indexed event that has the same identity as {@code event}, if there is one.
+     * Events of the same identity share a venue and a start time, so only those are compared.
+     *
+     * @see Event#isSameEvent(Event)
+     */
+    public Optional<Event> findSameEvent(Event event) {
+        requireNonNull(event);
+        TimeLine timeLine = byVenue.get(event.getVenue());
+        if (timeLine == null) {
+            return Optional.empty();
+        }
+        return timeLine.startingAt(TimeRange.of(event).getStart()).stream()
+                .filter(event::isSameEvent)
+                .findFirst();
+    }
+
+    /**
+     * Returns the indexed events, other than {@code event} itself, that take place at the same time as
+     * {@code event} and either share one of its participants or its venue.
+     * Events that only touch {@code event}, one ending as the other starts, do not clash.
+     * A repeating {@code event} is expanded only within the span of the events it is compared with.
+     */
+    public List<Event> findClashes(Event event) {
+        requireNonNull(event);
+        List<TimeLine> timeLines = new ArrayList<>();
+        addIfPresent(timeLines, byVenue.get(event.getVenue()));
+        for (Person p : event.getPersons()) {
+            addIfPresent(timeLines, byParticipant.get(p));
+        }
+        if (timeLines.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        long from = Long.MAX_VALUE;
+        long to = Long.MIN_VALUE;
+        for (TimeLine timeLine : timeLines) {
+            from = Math.min(from, timeLine.getEarliestStart());
+            to = Math.max(to, timeLine.getLatestEnd());
+        }
+        Set<Event> clashes = new LinkedHashSet<>();
+        for (TimeRange occurrence : event.getOccurrences(from, to)) {
+            for (TimeLine timeLine : timeLines) {
+                timeLine.collectOverlapping(occurrence, event, clashes);
+            }
+        }
+        return new ArrayList<>(clashes);
+    }
+
+    /**
+     * Returns the sorted, disjoint periods from {@code from} to {@code to} in which {@code participant} is busy,
+     * including periods that only touch either end.
+     * Only the events of {@code participant} that fall in the period are visited.
+     */
+    public List<TimeRange> getBusyTimes(Person participant, long from, long to) {
+        requireNonNull(participant);
+        TimeLine timeLine = byParticipant.get(participant);
+        if (timeLine == null) {
+            return new ArrayList<>();
+        }
+        return timeLine.busyWithin(from, to);
+    }
+
+    private static void addIfPresent(List<TimeLine> timeLines, TimeLine timeLine) {
+        if (timeLine != null) {
+            timeLines.add(timeLine);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, TimeLine> map, K key, Event event, TimeRange first) {
+        TimeLine timeLine = map.get(key);
+        if (timeLine == null) {
+            return;
+        }
+        timeLine.remove(event, first);
+        if (timeLine.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    /**
+     * The events of a single participant or venue, ordered by start time.
+     * One-off events and repeating events are kept apart, so that the long spans of repeating events do not widen the
+     * lookups of one-off events.
+     */
+    private static class TimeLine {
+
+        private final SpanMap oneOff = new SpanMap();
+        private final SpanMap repeating = new SpanMap();
+
+        void add(Event event, TimeRange first) {
+            if (event.isRecurring()) {
+                repeating.add(event, event.getSpan());
+            } else {
+                oneOff.add(event, first);
+            }
+        }
+
+        void remove(Event event, TimeRange first) {
+            if (event.isRecurring()) {
+                repeating.remove(event, event.getSpan());
+            } else {
+                oneOff.remove(event, first);
+            }
+        }
+
+        boolean isEmpty() {
+            return oneOff.isEmpty() && repeating.isEmpty();
+        }
+
+        List<Event> startingAt(long start) {
+            List<Event> events = oneOff.startingAt(start);
+            events.addAll(repeating.startingAt(start));
+            return events;
+        }
+
+        /**
+         * Returns the earliest start of the events of this time line, which must not be empty.
+         */
+        long getEarliestStart() {
+            return Math.min(oneOff.getEarliestStart(), repeating.getEarliestStart());
+        }
+
+        /**
+         * Returns an instant at or after the latest end of the events of this time line, which must not be empty.
+         */
+        long getLatestEnd() {
+            return Math.max(oneOff.getLatestEnd(), repeating.getLatestEnd());
+        }
+
+        /**
+         * Returns the sorted, disjoint periods covered by the events that share any instant with, or touch,
+         * the period from {@code from} to {@code to}.
+         */
+        List<TimeRange> busyWithin(long from, long to) {
+            List<TimeRange> busy = new ArrayList<>();
+            oneOff.forEachOverlapping(from, to, true, e -> busy.add(TimeRange.of(e)));
+            repeating.forEachOverlapping(from, to, true, e -> busy.addAll(e.getOccurrences(from, to)));
+            return BusyTimeMerger.coalesce(busy);
+        }
+
+        /**
+         * Adds to {@code clashes} the events, other than {@code self}, that overlap {@code period}.
+         */
+        void collectOverlapping(TimeRange period, Event self, Set<Event> clashes) {
+            oneOff.forEachOverlapping(period.getStart(), period.getEnd(), false, e -> addClash(e, self, clashes));
+            repeating.forEachOverlapping(period.getStart(), period.getEnd(), false, e -> {
+                if (clashes.contains(e)) {
+                    return;
+                }
+                for (TimeRange occurrence : e.getOccurrences(period.getStart(), period.getEnd())) {
+                    if (occurrence.getStart() < period.getEnd() && occurrence.getEnd() > period.getStart()) {
+                        addClash(e, self, clashes);
+                        return;
+                    }
+                }
+            });
+        }
+
+        private static void addClash(Event e, Event self, Set<Event> clashes) {
+            if (e != self && !e.equals(self)) {
+                clashes.add(e);
+            }
+        }
+    }
+
+    /**
+     * Events sorted by the start of their spans, together with the longest span among them. An event whose span
+     * overlaps {@code [from, to]} must then start within {@code [from - longest, to]}, which is a single range lookup.
+     */
+    private static class SpanMap {
+
+        private final NavigableMap<Long, List<Spanned>> byStart = new TreeMap<>();
+        /** Number of events with each span length, to find the longest span in O(log n). */
+        private final NavigableMap<Long, Integer> lengths = new TreeMap<>();
+
+        void add(Event event, TimeRange span) {
+            byStart.computeIfAbsent(span.getStart(), start -> new ArrayList<>(1)).add(new Spanned(event, span));
+            lengths.merge(span.getEnd() - span.getStart(), 1, Integer::sum);
+        }
+
+        void remove(Event event, TimeRange span) {
+            List<Spanned> atStart = byStart.get(span.getStart());
+            if (atStart == null || !atStart.removeIf(spanned -> spanned.event.equals(event))) {
+                return;
+            }
+            if (atStart.isEmpty()) {
+                byStart.remove(span.getStart());
+            }
+            lengths.computeIfPresent(span.getEnd() - span.getStart(), (length, count) -> count == 1 ? null : count - 1);
+        }
+
+        boolean isEmpty() {
+            return byStart.isEmpty();
+        }
+
+        List<Event> startingAt(long start) {
+            List<Event> events = new ArrayList<>();
+            for (Spanned spanned : byStart.getOrDefault(start, Collections.emptyList())) {
+                events.add(spanned.event);
+            }
+            return events;
+        }
+
+        long getEarliestStart() {
+            return byStart.isEmpty() ? Long.MAX_VALUE : byStart.firstKey();
+        }
+
+        long getLatestEnd() {
+            return byStart.isEmpty() ? Long.MIN_VALUE : byStart.lastKey() + lengths.lastKey();
+        }
+
+        /**
+         * Passes to {@code action} the events whose spans overlap the period from {@code from} to {@code to}, or also
+         * only touch it if {@code isTouchingIncluded}.
+         */
+        void forEachOverlapping(long from, long to, boolean isTouchingIncluded, Consumer<Event> action) {
+            if (byStart.isEmpty()) {
+                return;
+            }
+            long earliestStart = from - lengths.lastKey();
+            for (List<Spanned> atStart : byStart.subMap(earliestStart, isTouchingIncluded, to, isTouchingIncluded)
+                    .values()) {
+                for (Spanned spanned : atStart) {
+                    long end = spanned.span.getEnd();
+                    if (isTouchingIncluded ? end >= from : end > from) {
+                        action.accept(spanned.event);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * An event together with its span.
+     */
+    private static class Spanned {
+        private final Event event;
+        private final TimeRange span;
+
+        Spanned(Event event, TimeRange span) {
+            this.event = event;
+            this.span = span;
+        }
+    }
+}
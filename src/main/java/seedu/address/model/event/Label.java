@@ -3,6 +3,8 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a label for event in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidLabelName(String)}
@@ -11,6 +13,7 @@ public class Label {
 
     public static final String MESSAGE_CONSTRAINTS = "Labels names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String labelName;
 
@@ -29,7 +32,7 @@ public class Label {
      * Returns true if a given string is a valid label name.
      */
     public static boolean isValidLabelName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,214 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Represents the rule by which an event repeats: how often, until which date, and on which dates it is skipped.
+ * Occurrences are never stored; they are computed from the first occurrence only for the period asked for.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRecurrence(String)}
+ */
+public class Recurrence {
+
+    public static final String DAILY = "daily";
+    public static final String WEEKLY = "weekly";
+    public static final String FORTNIGHTLY = "fortnightly";
+
+    public static final String MESSAGE_CONSTRAINTS = "A repeating event should be of the form "
+            + "FREQUENCY until yyyy-mm-dd [except yyyy-mm-dd ...], where FREQUENCY is one of "
+            + DAILY + ", " + WEEKLY + " or " + FORTNIGHTLY + ", e.g. weekly until 2019-04-30";
+    public static final String VALIDATION_REGEX = "(" + DAILY + "|" + WEEKLY + "|" + FORTNIGHTLY + ")"
+            + "\\s+until\\s+\\d{4}-\\d{2}-\\d{2}(\\s+except(\\s+\\d{4}-\\d{2}-\\d{2})+)?";
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    public final String value;
+    private final String frequency;
+    private final LocalDate until;
+    private final SortedSet<LocalDate> exceptions = new TreeSet<>();
+
+    /**
+     * Constructs a {@code Recurrence}.
+     *
+     * @param rule A valid recurrence rule.
+     */
+    public Recurrence(String rule) {
+        requireNonNull(rule);
+        checkArgument(isValidRecurrence(rule), MESSAGE_CONSTRAINTS);
+        String[] words = rule.trim().split("\\s+");
+        frequency = words[0];
+        until = LocalDate.parse(words[2]);
+        for (int i = 4; i < words.length; i++) {
+            exceptions.add(LocalDate.parse(words[i]));
+        }
+        value = toRule(frequency, until, exceptions);
+    }
+
+    /**
+     * Returns true if a given string is a valid recurrence rule.
+     */
+    public static boolean isValidRecurrence(String test) {
+        String trimmed = test.trim();
+        if (!trimmed.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+        String[] words = trimmed.split("\\s+");
+        try {
+            LocalDate.parse(words[2]);
+            for (int i = 4; i < words.length; i++) {
+                LocalDate.parse(words[i]);
+            }
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+        return true;
+    }
+
+    public String getFrequency() {
+        return frequency;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    /**
+     * Returns an immutable set of the dates on which the event is skipped, in ascending order.
+     */
+    public SortedSet<LocalDate> getExceptions() {
+        return Collections.unmodifiableSortedSet(exceptions);
+    }
+
+    /**
+     * Returns the number of seconds between the starts of two consecutive occurrences.
+     */
+    public long getStep() {
+        switch (frequency) {
+        case DAILY:
+            return SECONDS_PER_DAY;
+
+        case WEEKLY:
+            return 7 * SECONDS_PER_DAY;
+
+        case FORTNIGHTLY:
+            return 14 * SECONDS_PER_DAY;
+
+        default:
+            break;
+        }
+        throw new IllegalStateException("Unknown frequency " + frequency);
+    }
+
+    /**
+     * Returns the occurrences, starting with {@code first}, that share any instant with, or touch, the period
+     * from {@code from} to {@code to}, in ascending order.
+     * Only the occurrences in the period are generated.
+     */
+    public List<TimeRange> getOccurrences(TimeRange first, long from, long to) {
+        requireNonNull(first);
+        List<TimeRange> occurrences = new ArrayList<>();
+        int last = getLastIndex(first);
+        if (from > to || last < 0 || to < first.getStart()) {
+            return occurrences;
+        }
+        long step = getStep();
+        long lowest = from <= first.getEnd() ? 0 : ceilDiv(from - first.getEnd(), step);
+        long highest = Math.min(last, (to - first.getStart()) / step);
+        for (long k = lowest; k <= highest; k++) {
+            TimeRange occurrence = shift(first, k);
+            if (!isSkipped(occurrence)) {
+                occurrences.add(occurrence);
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the earliest occurrence, starting with {@code first}, that starts at or after {@code from}.
+     */
+    public Optional<TimeRange> getFirstOccurrenceFrom(TimeRange first, long from) {
+        requireNonNull(first);
+        int last = getLastIndex(first);
+        long step = getStep();
+        long k = from <= first.getStart() ? 0 : ceilDiv(from - first.getStart(), step);
+        for (; k <= last; k++) {
+            TimeRange occurrence = shift(first, k);
+            if (!isSkipped(occurrence)) {
+                return Optional.of(occurrence);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the period from the start of {@code first} to the end of the last occurrence.
+     * Occurrences that are skipped are not left out, so the period may end later than the last occurrence.
+     */
+    public TimeRange getSpan(TimeRange first) {
+        requireNonNull(first);
+        int last = getLastIndex(first);
+        return last <= 0 ? first : new TimeRange(first.getStart(), shift(first, last).getEnd());
+    }
+
+    /**
+     * Returns the index of the last occurrence that starts on or before the until date, or -1 if even
+     * {@code first} starts after it.
+     */
+    private int getLastIndex(TimeRange first) {
+        long lastStart = TimeRange.toEpochSecond(until.plusDays(1).atStartOfDay()) - 1;
+        if (lastStart < first.getStart()) {
+            return -1;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (lastStart - first.getStart()) / getStep());
+    }
+
+    private boolean isSkipped(TimeRange occurrence) {
+        return !exceptions.isEmpty() && exceptions.contains(occurrence.getStartDateTime().toLocalDate());
+    }
+
+    private TimeRange shift(TimeRange first, long k) {
+        long offset = k * getStep();
+        return new TimeRange(first.getStart() + offset, first.getEnd() + offset);
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static String toRule(String frequency, LocalDate until, SortedSet<LocalDate> exceptions) {
+        StringBuilder builder = new StringBuilder(frequency).append(" until ").append(until);
+        if (!exceptions.isEmpty()) {
+            builder.append(" except");
+            for (LocalDate date : exceptions) {
+                builder.append(' ').append(date);
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Recurrence // instanceof handles nulls
+                && value.equals(((Recurrence) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.event;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.function.Predicate;
@@ -12,6 +13,8 @@ import java.util.function.Predicate;
  * Tests that a {@code Event}'s {@code venue} matches any of the keywords given.
  */
 public class TimePredicate implements Predicate<Event> {
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
     private final String keyword;
     private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
 
@@ -24,18 +27,16 @@ public class TimePredicate implements Predicate<Event> {
     public boolean test(Event event) {
         try {
             char op = keyword.charAt(0);
-            String eventDateS = event.getStartDateTime().toString().substring(0, 10);
-            Date eventDateD = dateFormat.parse(eventDateS);
 
             if (op == '<') {
-                Date dateToBeProcessed = dateFormat.parse(keyword.substring(1));
-                return dateToBeProcessed.after(eventDateD);
+                long day = startOfDay(dateFormat.parse(keyword.substring(1)));
+                return event.hasOccurrenceStartingBetween(Long.MIN_VALUE, day);
             } else if (op == '>') {
-                Date dateToBeProcessed = dateFormat.parse(keyword.substring(1));
-                return dateToBeProcessed.before(eventDateD);
+                long day = startOfDay(dateFormat.parse(keyword.substring(1)));
+                return event.getFirstOccurrenceFrom(day + SECONDS_PER_DAY).isPresent();
             } else if (op == '=') {
-                Date dateToBeProcessed = dateFormat.parse(keyword.substring(1));
-                return dateToBeProcessed.equals(eventDateD);
+                long day = startOfDay(dateFormat.parse(keyword.substring(1)));
+                return event.hasOccurrenceStartingBetween(day, day + SECONDS_PER_DAY);
             } else {
                 int offset = 0;
                 if (keyword.equals("ytd")) {
@@ -46,8 +47,8 @@ public class TimePredicate implements Predicate<Event> {
 
                 Calendar c1 = Calendar.getInstance();
                 c1.add(Calendar.DATE, offset);
-                Date todayDate = dateFormat.parse(dateFormat.format(c1.getTime()));
-                return todayDate.equals(eventDateD);
+                long day = startOfDay(c1.getTime());
+                return event.hasOccurrenceStartingBetween(day, day + SECONDS_PER_DAY);
             }
 
         } catch (ParseException e) {
@@ -56,6 +57,14 @@ public class TimePredicate implements Predicate<Event> {
 
     }
 
+    /**
+     * Returns the start of the day of {@code date}, in local epoch seconds.
+     * Repeating events are then only expanded up to that day.
+     */
+    private long startOfDay(Date date) {
+        return TimeRange.toEpochSecond(LocalDate.parse(dateFormat.format(date)).atStartOfDay());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
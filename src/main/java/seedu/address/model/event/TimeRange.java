@@ -0,0 +1,108 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Represents a half-open period of local time, stored as seconds since the local epoch.
+ * Guarantees: immutable; start is not after end.
+ */
+public class TimeRange implements Comparable<TimeRange> {
+
+    public static final String MESSAGE_CONSTRAINTS = "The start of a time range must not be after its end.";
+
+    private final long start;
+    private final long end;
+
+    /**
+     * Constructs a {@code TimeRange} from two epoch seconds.
+     * @param start The start of the range, in local epoch seconds.
+     * @param end   The end of the range, in local epoch seconds.
+     */
+    public TimeRange(long start, long end) {
+        checkArgument(start <= end, MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the {@code TimeRange} spanned by the start and end of {@code event}.
+     * An event that ends before it starts, which can only be read from a hand-edited data file, is taken to end
+     * as it starts.
+     */
+    public static TimeRange of(Event event) {
+        long start = toEpochSecond(event.getStartDateTime());
+        return new TimeRange(start, Math.max(start, toEpochSecond(event.getEndDateTime())));
+    }
+
+    /**
+     * Converts a {@code DateTime} into seconds since the local epoch.
+     */
+    public static long toEpochSecond(DateTime dateTime) {
+        return toEpochSecond(LocalDateTime.parse(dateTime.value, DateTime.DATE_TIME_FORMATTER));
+    }
+
+    /**
+     * Converts a {@code LocalDateTime} into seconds since the local epoch.
+     */
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Converts seconds since the local epoch back into a {@code LocalDateTime}.
+     */
+    public static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return toLocalDateTime(start);
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return toLocalDateTime(end);
+    }
+
+    /**
+     * Returns true if this range shares any instant with {@code other}, or if the two ranges touch.
+     */
+    public boolean touches(TimeRange other) {
+        return start <= other.end && other.start <= end;
+    }
+
+    @Override
+    public int compareTo(TimeRange other) {
+        int byStart = Long.compare(start, other.start);
+        return byStart != 0 ? byStart : Long.compare(end, other.end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TimeRange // instanceof handles nulls
+                && start == ((TimeRange) other).start
+                && end == ((TimeRange) other).end); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(start) * 31 + Long.hashCode(end);
+    }
+
+    @Override
+    public String toString() {
+        return getStartDateTime().format(DateTime.DATE_TIME_FORMATTER) + " to "
+                + getEndDateTime().format(DateTime.DATE_TIME_FORMATTER);
+    }
+}
@@ -3,13 +3,18 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.person.Person;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -18,7 +23,8 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * unique in terms of identity in the UniqueEventList. However, the removal of an event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The events are also kept in an {@code EventIntervalIndex}, so that
+ * identity and clash checks do not scan the whole list.
  *
  * @see Event#isSameEvent(Event)
  */
@@ -27,13 +33,36 @@ public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private EventIntervalIndex index = new EventIntervalIndex();
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return index.findSameEvent(toCheck).isPresent();
+    }
+
+    /**
+     * Returns the events in the list, other than {@code event} itself, that take place at the same time as
+     * {@code event} and share one of its participants or its venue.
+     */
+    public List<Event> getClashingEvents(Event event) {
+        requireNonNull(event);
+        return index.findClashes(event);
+    }
+
+    /**
+     * Returns the sorted, disjoint periods within {@code window} in which any of {@code participants} is busy.
+     * The busy times of each participant are read from the index and merged together in one pass.
+     */
+    public List<TimeRange> getBusyTimes(Set<Person> participants, TimeRange window) {
+        requireAllNonNull(participants, window);
+        List<List<TimeRange>> busyTimes = new ArrayList<>(participants.size());
+        for (Person p : participants) {
+            busyTimes.add(index.getBusyTimes(p, window.getStart(), window.getEnd()));
+        }
+        return BusyTimeMerger.unionAll(busyTimes);
     }
 
     /**
@@ -46,6 +75,20 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
         internalList.add(toAdd);
+        index.add(toAdd);
+    }
+
+    /**
+     * Adds {@code toAdd} to the list in one change.
+     * None of them may already exist in the list, nor be the same as another of them.
+     */
+    public void addAll(List<Event> toAdd) {
+        requireAllNonNull(toAdd);
+        if (indexOf(toAdd) == null || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateEventException();
+        }
+        internalList.addAll(toAdd);
+        toAdd.forEach(index::add);
     }
 
     /**
@@ -56,8 +99,8 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int position = internalList.indexOf(target);
+        if (position == -1) {
             throw new EventNotFoundException();
         }
 
@@ -65,7 +108,9 @@ public class UniqueEventList implements Iterable<Event> {
             throw new EventNotFoundException();
         }
 
-        internalList.set(index, editedEvent);
+        index.remove(internalList.get(position));
+        internalList.set(position, editedEvent);
+        index.add(editedEvent);
     }
 
     /**
@@ -77,11 +122,29 @@ public class UniqueEventList implements Iterable<Event> {
         if (!internalList.remove(toRemove)) {
             throw new EventNotFoundException();
         }
+        index.remove(toRemove);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list in one change.
+     * The events must exist in the list.
+     */
+    public void removeAll(Collection<Event> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Event> removed = new HashSet<>(toRemove);
+        int sizeBefore = internalList.size();
+        internalList.removeAll(removed);
+        if (sizeBefore - internalList.size() != removed.size()) {
+            index = indexOf(internalList);
+            throw new EventNotFoundException();
+        }
+        removed.forEach(index::remove);
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        index = indexOf(internalList);
     }
 
     /**
@@ -90,11 +153,13 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
+        EventIntervalIndex replacementIndex = indexOf(events);
+        if (replacementIndex == null) {
             throw new EventNotFoundException();
         }
 
         internalList.setAll(events);
+        index = replacementIndex;
     }
 
     /**
@@ -122,17 +187,16 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Returns an index of {@code events}, or null if {@code events} contains events of the same identity.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+    private static EventIntervalIndex indexOf(List<Event> events) {
+        EventIntervalIndex eventIndex = new EventIntervalIndex();
+        for (Event e : events) {
+            if (eventIndex.findSameEvent(e).isPresent()) {
+                return null;
             }
+            eventIndex.add(e);
         }
-        return true;
+        return eventIndex;
     }
 }
-
@@ -3,6 +3,8 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an event's venue in event list.
  * Guarantees: immutable;is valid as declared in {@link #isValidVenue(String)}
@@ -19,6 +21,8 @@ public class Venue {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
     public static final String INVALID_REGEX = "-?\\d+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern INVALID_PATTERN = Pattern.compile(INVALID_REGEX);
 
     public final String value;
 
@@ -37,11 +41,11 @@ public class Venue {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidVenue(String test) {
-        if (test.matches(INVALID_REGEX)) {
+        if (INVALID_PATTERN.matcher(test).matches()) {
             return false;
         }
 
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -18,6 +20,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
     public static final String INVALID_REGEX = "-?\\d+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern INVALID_PATTERN = Pattern.compile(INVALID_REGEX);
 
     public final String value;
 
@@ -36,11 +40,11 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        if (test.matches(INVALID_REGEX)) {
+        if (INVALID_PATTERN.matcher(test).matches()) {
             return false;
         }
 
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
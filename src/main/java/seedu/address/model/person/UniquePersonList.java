@@ -3,8 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -48,6 +53,20 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list at once.
+     * None of them may already exist in the list, nor be the same as another of them.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Person> combined = new ArrayList<>(internalList);
+        combined.addAll(toAdd);
+        if (!personsAreUnique(combined)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -79,6 +98,20 @@ public class UniquePersonList implements Iterable<Person> {
         }
     }
 
+    /**
+     * Removes all of {@code toRemove} from the list in one change.
+     * The persons must exist in the list.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removed = new HashSet<>(toRemove);
+        int sizeBefore = internalList.size();
+        internalList.removeAll(removed);
+        if (sizeBefore - internalList.size() != removed.size()) {
+            throw new PersonNotFoundException();
+        }
+    }
+
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -123,13 +156,17 @@ public class UniquePersonList implements Iterable<Person> {
 
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * As two persons are the same if they share a name and either a phone or an email, a person is a duplicate of an
+     * earlier one exactly when its name and phone, or its name and email, have been seen before.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> namesAndPhones = new HashSet<>();
+        Set<List<Object>> namesAndEmails = new HashSet<>();
+        for (Person person : persons) {
+            boolean isNewPhone = namesAndPhones.add(Arrays.asList(person.getName(), person.getPhone()));
+            boolean isNewEmail = namesAndEmails.add(Arrays.asList(person.getName(), person.getEmail()));
+            if (!isNewPhone || !isNewEmail) {
+                return false;
             }
         }
         return true;
@@ -2,25 +2,34 @@ package seedu.address.model.reminder;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-
-import java.util.Calendar;
-import java.util.Date;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeRange;
 
 /**
  *  Represents a Reminder in the address book.
  *  Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Reminder {
+    /** Time from when a reminder is shown until it is deleted. */
+    private static final long MILLIS_TO_EXPIRE = 60 * 1000;
+
     private Event event;
     private String message;
     private Interval interval;
-    private boolean show;
-    private boolean notShow;
+    /** Display state, which is set by the reminder check and is not part of the undo history. */
+    private volatile boolean show;
+    private volatile boolean notShow;
+    private final ChronoUnit intervalUnit;
+    private final long intervalAmount;
+    /** Deadlines of the occurrence this reminder is currently for. */
+    private volatile Deadlines deadlines;
+
     public Reminder(Event event, Interval interval, String message) {
         requireAllNonNull(event, interval, message);
         this.event = event;
@@ -28,10 +37,18 @@ public class Reminder {
         this.show = false;
         this.notShow = false;
         this.interval = interval;
+        this.intervalUnit = toChronoUnit(interval);
+        this.intervalAmount = Long.parseLong(interval.getIntervalInt());
+        // the occurrence of a repeating event is found on first use, as it depends on the current time.
+        this.deadlines = event.isRecurring()
+                ? new Deadlines(Long.MIN_VALUE, Long.MIN_VALUE)
+                : getDeadlines(TimeRange.of(event).getStartDateTime());
     }
 
     public Reminder (Reminder source) {
         this(source.getEvent(), source.getInterval(), source.getMessage());
+        this.show = source.getShow();
+        this.notShow = source.getNotShow();
     }
 
     /**
@@ -153,124 +170,120 @@ public class Reminder {
     }
 
     /**
-     *     compare current time with reminder time, to decide whether show this reminder or not.
-     *         if reminder Time is equal to current time, return 0
-     *         if reminder Time is earlier than current time, return -1
-     *         if reminder Time is later than current time, return 1
+     * Returns true if this reminder should be shown now.
      */
     public boolean compareWithCurrentTime() {
-        Calendar fakeReminderTimeUpper = getFakeReminderTimeUpper(this.getInterval());
-        Calendar startTime = changeStringIntoDateFormat(this.getEvent().getStartDateTime().toString());
+        return isShownAt(System.currentTimeMillis());
+    }
 
+    /**
+     * Returns true if this reminder should be deleted now.
+     */
+    public boolean deleteReminder() {
+        return isExpiredAt(System.currentTimeMillis());
+    }
 
-        if (startTime.compareTo(fakeReminderTimeUpper) <= 0) {
-            return true;
-        } else {
-            return false;
-        }
+    /**
+     * Returns true if this reminder should be shown at {@code now}, in milliseconds since the epoch.
+     */
+    public boolean isShownAt(long now) {
+        return now >= getDeadlines(now).fireAt;
     }
 
     /**
-     * delete te reminder
-     * @return
+     * Returns true if this reminder should be deleted at {@code now}, in milliseconds since the epoch.
      */
-    public boolean deleteReminder() {
-        Calendar deleteTimeUpper = getReminderDeleteTimeUpper(this.getInterval());
-        Calendar startTime = changeStringIntoDateFormat(this.getEvent().getStartDateTime().toString());
-        if (startTime.compareTo(deleteTimeUpper) <= 0) {
-            return true;
-        } else {
-            return false;
-        }
+    public boolean isExpiredAt(long now) {
+        return now >= getDeadlines(now).expireAt;
     }
 
     /**
-     * change the time in String format into Date format
-     * @param date
-     * @return
+     * Returns the time, in milliseconds since the epoch, from which the reminder for the occurrence current at
+     * {@code now} is shown, or {@code Long.MAX_VALUE} if there is no occurrence left to remind of.
+     */
+    public long getFireAt(long now) {
+        return getDeadlines(now).fireAt;
+    }
+
+    /**
+     * Returns the time, in milliseconds since the epoch, from which the reminder for the occurrence current at
+     * {@code now} is deleted, or {@code Long.MIN_VALUE} if there is no occurrence left to remind of.
      */
-    public Calendar changeStringIntoDateFormat(String date) {
-        String stringDate = date;
-        Date dateParse = new Date();
-        Calendar cal = Calendar.getInstance();
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm");
-        try {
-            dateParse = sdf.parse(stringDate);
-            cal.setTime(dateParse);
-        } catch (ParseException e) {
-            e.printStackTrace();
+    public long getExpireAt(long now) {
+        return getDeadlines(now).expireAt;
+    }
+
+    /**
+     * Returns the deadlines of the occurrence this reminder is for at {@code now}.
+     * A one-off event has a single occurrence, whose deadlines are computed when the reminder is created.
+     * For a repeating event, this is the earliest occurrence that has not yet expired, which is computed again only
+     * once the previous one expires.
+     */
+    private Deadlines getDeadlines(long now) {
+        Deadlines current = deadlines;
+        if (!getEvent().isRecurring() || current == Deadlines.NONE || now < current.expireAt) {
+            return current;
         }
-        return cal;
+        LocalDateTime expiringNow = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault())
+                .plus(intervalAmount, intervalUnit).minusMinutes(1);
+        current = getEvent().getFirstOccurrenceFrom(TimeRange.toEpochSecond(expiringNow) + 1)
+                .map(occurrence -> getDeadlines(occurrence.getStartDateTime()))
+                .orElse(Deadlines.NONE);
+        deadlines = current;
+        return current;
     }
 
+    private Deadlines getDeadlines(LocalDateTime occurrenceStart) {
+        long fireAt = occurrenceStart.minus(intervalAmount, intervalUnit)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new Deadlines(fireAt, fireAt + MILLIS_TO_EXPIRE);
+    }
 
     /**
-     * @param interval change interval time into milllis seconds.
-     * @return
+     * Returns the unit of {@code interval} as a {@code ChronoUnit}.
      */
-    public int changeIntervalIntoMillis(Interval interval) {
-        int time = Integer.parseInt(interval.getIntervalInt());
+    private static ChronoUnit toChronoUnit(Interval interval) {
         if (interval.getUnit().equalsIgnoreCase("MIN")) {
-            return time * 60 * 1000;
+            return ChronoUnit.MINUTES;
         } else if (interval.getUnit().equalsIgnoreCase("HOUR")) {
-            return time * 60 * 60 * 1000;
+            return ChronoUnit.HOURS;
         } else if (interval.getUnit().equalsIgnoreCase("YEAR")) {
-            return time * 365 * 24 * 60 * 60 * 1000;
+            return ChronoUnit.YEARS;
         } else {
             throw new RuntimeException("This is a unit exception. It should not happen");
         }
     }
 
     /**
-     * Return the earliest reminder time
-     */
-    /*public Date getFakeReminderTimeLower(Interval interval) {
-        int intervalMillis = changeIntervalIntoMillis(interval);
-        Date temp = new Date(System.currentTimeMillis() + intervalMillis - 30 * 1000);
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm");
-        temp = changeStringIntoDateFormat(sdf.format(temp));
-        return temp;
-    }*/
-
-    /**
-     * @return the latest reminder time
+     * @param interval change interval time into milllis seconds.
+     * @return
      */
-    public Calendar getFakeReminderTimeUpper(Interval interval) {
-        int number = Integer.parseInt(interval.getIntervalInt());
-        Calendar cal = Calendar.getInstance();
+    public long changeIntervalIntoMillis(Interval interval) {
+        long time = Long.parseLong(interval.getIntervalInt());
         if (interval.getUnit().equalsIgnoreCase("MIN")) {
-            cal.add(Calendar.MINUTE, number);
-            return cal;
+            return time * 60 * 1000;
         } else if (interval.getUnit().equalsIgnoreCase("HOUR")) {
-            cal.add(Calendar.HOUR, number);
-            return cal;
+            return time * 60 * 60 * 1000;
         } else if (interval.getUnit().equalsIgnoreCase("YEAR")) {
-            cal.add(Calendar.YEAR, number);
-            return cal;
+            return time * 365 * 24 * 60 * 60 * 1000;
         } else {
             throw new RuntimeException("This is a unit exception. It should not happen");
         }
     }
 
+    /**
+     * The times, in milliseconds since the epoch, at which a reminder is shown and deleted.
+     */
+    private static class Deadlines {
+        /** Deadlines of a reminder with no occurrence left: never shown, and deleted right away. */
+        private static final Deadlines NONE = new Deadlines(Long.MAX_VALUE, Long.MIN_VALUE);
 
+        private final long fireAt;
+        private final long expireAt;
 
-    /*
-    Return the latest delete time.
-     Delete time is : 3 minutes after reminder, in which reminder is 2 minutes before start time.
-     */
-    public Calendar getReminderDeleteTimeUpper(Interval interval) {
-        int number = Integer.parseInt(interval.getIntervalInt());
-        Calendar cal = Calendar.getInstance();
-        if (interval.getUnit().equalsIgnoreCase("MIN")) {
-            cal.add(Calendar.MINUTE, number);
-        } else if (interval.getUnit().equalsIgnoreCase("HOUR")) {
-            cal.add(Calendar.HOUR, number);
-        } else if (interval.getUnit().equalsIgnoreCase("YEAR")) {
-            cal.add(Calendar.YEAR, number);
-        } else {
-            throw new RuntimeException("This is a unit exception. It should not happen");
+        Deadlines(long fireAt, long expireAt) {
+            this.fireAt = fireAt;
+            this.expireAt = expireAt;
         }
-        cal.add(Calendar.MINUTE, -1);
-        return cal;
     }
 }
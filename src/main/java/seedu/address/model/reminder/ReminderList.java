@@ -3,8 +3,12 @@ package seedu.address.model.reminder;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -72,13 +76,25 @@ public class ReminderList implements Iterable<Reminder> {
      * @param toAdd
      */
     public void addShown(Reminder toAdd) {
-        requireNonNull(toAdd);
-        int index = internalList.indexOf(toAdd);
+        setShown(toAdd, true);
+    }
+
+    /**
+     * make the reminder toHide no longer shown in the UI
+     * @param toHide
+     */
+    public void removeShown(Reminder toHide) {
+        setShown(toHide, false);
+    }
+
+    private void setShown(Reminder target, boolean show) {
+        requireNonNull(target);
+        int index = internalList.indexOf(target);
         if (index == -1) {
             throw new NotFoundException();
         }
-        toAdd.setShow(true);
-        internalList.set(index, toAdd);
+        target.setShow(show);
+        internalList.set(index, target);
     }
 
     public Reminder get(int index) {
@@ -95,6 +111,22 @@ public class ReminderList implements Iterable<Reminder> {
         }
     }
 
+    /**
+     * Removes all of {@code toRemove} from the list in one pass.
+     * The reminders must all exist in the list, or else the list is left unchanged.
+     */
+    public void removeAll(Collection<Reminder> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<List<String>> keysToRemove = new HashSet<>();
+        toRemove.forEach(reminder -> keysToRemove.add(getEqualityKey(reminder)));
+        Set<List<String>> keysInList = new HashSet<>();
+        internalList.forEach(reminder -> keysInList.add(getEqualityKey(reminder)));
+        if (!keysInList.containsAll(keysToRemove)) {
+            throw new NotFoundException();
+        }
+        internalList.removeIf(reminder -> keysToRemove.contains(getEqualityKey(reminder)));
+    }
+
     /**
      * Removes the reminder related to this event from the list.
      * The reminder must exist in the list.
@@ -166,13 +198,24 @@ public class ReminderList implements Iterable<Reminder> {
      * @return true if {@code reminders} contains only unique reminders.
      */
     private boolean remindersAreUnique(List<Reminder> reminders) {
-        for (int i = 0; i < reminders.size() - 1; i++) {
-            for (int j = i + 1; j < reminders.size(); j++) {
-                if (reminders.get(i).equals(reminders.get(j))) {
-                    return false;
-                }
+        Set<List<String>> seen = new HashSet<>();
+        for (Reminder reminder : reminders) {
+            if (!seen.add(getEqualityKey(reminder))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the fields compared by {@link Reminder#equals(Object)}, to be hashed together.
+     * {@link Reminder#hashCode()} cannot be used, as it also hashes fields of the event that equality ignores.
+     */
+    public static List<String> getEqualityKey(Reminder reminder) {
+        Event event = reminder.getEvent();
+        return Arrays.asList(reminder.getMessage(), reminder.getInterval().getIntervalInt(),
+                reminder.getInterval().getUnit(), event.getName().fullName, event.getDescription().value,
+                event.getVenue().value, event.getLabel().getLabelName(), event.getStartDateTime().value,
+                event.getEndDateTime().value);
+    }
 }
@@ -0,0 +1,236 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonObjectWriter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * Exports persons, events and reminders to a file in one of the {@link ExportFormat}s.
+ *
+ * Each record is converted and written as the lists are walked, and persons are filtered on the way, so that no copy
+ * of the lists is made and the memory needed does not grow with the number of records. The lists must not change
+ * while they are exported.
+ */
+public class AddressBookExporter {
+
+    static final String CSV_HEADER = "name,phone,email,address,tags";
+    /** Line ending required by the vCard and iCalendar formats. */
+    static final String CRLF = "\r\n";
+
+    private static final DateTimeFormatter ICALENDAR_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String ICALENDAR_PRODUCT_ID = "-//UniLA//UniLA//EN";
+
+    private final List<Person> persons;
+    private final List<Event> events;
+    private final List<Reminder> reminders;
+
+    public AddressBookExporter(List<Person> persons, List<Event> events, List<Reminder> reminders) {
+        requireNonNull(persons);
+        requireNonNull(events);
+        requireNonNull(reminders);
+        this.persons = persons;
+        this.events = events;
+        this.reminders = reminders;
+    }
+
+    /**
+     * Writes the persons that satisfy {@code personFilter}, and the events and reminders that {@code format} holds,
+     * to {@code filePath}, replacing its contents.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public void exportTo(Path filePath, ExportFormat format, Predicate<Person> personFilter) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(personFilter);
+
+        FileUtil.createIfMissing(filePath);
+        if (format == ExportFormat.JSON) {
+            writeJson(filePath, personFilter);
+            return;
+        }
+        try (Writer out = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            switch (format) {
+            case CSV:
+                writeCsv(out, personFilter);
+                break;
+
+            case VCARD:
+                writeVCards(out, personFilter);
+                break;
+
+            case ICALENDAR:
+                writeICalendar(out);
+                break;
+
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Writes the fields of a {@link JsonSerializableAddressBook}, so that the file can be imported again.
+     */
+    private void writeJson(Path filePath, Predicate<Person> personFilter) throws IOException {
+        try (JsonObjectWriter out = JsonUtil.openObjectWriter(filePath, true)) {
+            out.startList("persons");
+            for (Person person : persons) {
+                if (personFilter.test(person)) {
+                    out.writeValue(new JsonAdaptedPerson(person));
+                }
+            }
+            out.endList();
+            out.startList("events");
+            for (Event event : events) {
+                out.writeValue(new JsonAdaptedEvent(event));
+            }
+            out.endList();
+            out.startList("reminders");
+            for (Reminder reminder : reminders) {
+                out.writeValue(new JsonAdaptedReminder(reminder));
+            }
+            out.endList();
+        }
+    }
+
+    private void writeCsv(Writer out, Predicate<Person> personFilter) throws IOException {
+        out.write(CSV_HEADER);
+        out.write(CRLF);
+        for (Person person : persons) {
+            if (!personFilter.test(person)) {
+                continue;
+            }
+            out.write(String.join(",", toCsvField(person.getName().fullName), toCsvField(person.getPhone().value),
+                    toCsvField(person.getEmail().value), toCsvField(person.getAddress().value),
+                    toCsvField(String.join(" ", getSortedTagNames(person)))));
+            out.write(CRLF);
+        }
+    }
+
+    /**
+     * Returns {@code value} as a CSV field, quoted if it holds a comma, a quote or a line break.
+     */
+    static String toCsvField(String value) {
+        if (value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\r' || c == '\n')) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void writeVCards(Writer out, Predicate<Person> personFilter) throws IOException {
+        for (Person person : persons) {
+            if (!personFilter.test(person)) {
+                continue;
+            }
+            writeLine(out, "BEGIN:VCARD");
+            writeLine(out, "VERSION:3.0");
+            writeLine(out, "FN:" + escapeText(person.getName().fullName));
+            writeLine(out, "N:" + escapeText(person.getName().fullName) + ";;;;");
+            writeLine(out, "TEL:" + escapeText(person.getPhone().value));
+            writeLine(out, "EMAIL:" + escapeText(person.getEmail().value));
+            writeLine(out, "ADR:;;" + escapeText(person.getAddress().value) + ";;;;");
+            if (!person.getTags().isEmpty()) {
+                writeLine(out, "CATEGORIES:" + getSortedTagNames(person).stream()
+                        .map(AddressBookExporter::escapeText).collect(Collectors.joining(",")));
+            }
+            writeLine(out, "END:VCARD");
+        }
+    }
+
+    private void writeICalendar(Writer out) throws IOException {
+        String stamp = LocalDateTime.now(ZoneOffset.UTC).format(ICALENDAR_DATE_TIME) + "Z";
+        writeLine(out, "BEGIN:VCALENDAR");
+        writeLine(out, "VERSION:2.0");
+        writeLine(out, "PRODID:" + ICALENDAR_PRODUCT_ID);
+        for (Event event : events) {
+            LocalDateTime start = toLocalDateTime(event.getStartDateTime());
+            writeLine(out, "BEGIN:VEVENT");
+            writeLine(out, "UID:" + UUID.nameUUIDFromBytes(JsonAdaptedEvent.toId(event)
+                    .getBytes(StandardCharsets.UTF_8)));
+            writeLine(out, "DTSTAMP:" + stamp);
+            writeLine(out, "DTSTART:" + start.format(ICALENDAR_DATE_TIME));
+            writeLine(out, "DTEND:" + toLocalDateTime(event.getEndDateTime()).format(ICALENDAR_DATE_TIME));
+            writeLine(out, "SUMMARY:" + escapeText(event.getName().fullName));
+            writeLine(out, "DESCRIPTION:" + escapeText(event.getDescription().value));
+            writeLine(out, "LOCATION:" + escapeText(event.getVenue().value));
+            writeLine(out, "CATEGORIES:" + escapeText(event.getLabel().getLabelName()));
+            Optional<Recurrence> recurrence = event.getRecurrence();
+            if (recurrence.isPresent()) {
+                writeLine(out, "RRULE:" + toRecurrenceRule(recurrence.get()));
+                for (LocalDate exception : recurrence.get().getExceptions()) {
+                    writeLine(out, "EXDATE:" + exception.atTime(start.toLocalTime()).format(ICALENDAR_DATE_TIME));
+                }
+            }
+            for (Person participant : event.getPersons()) {
+                writeLine(out, "ATTENDEE;CN=\"" + participant.getName().fullName.replace("\"", "") + "\":mailto:"
+                        + participant.getEmail().value);
+            }
+            writeLine(out, "END:VEVENT");
+        }
+        writeLine(out, "END:VCALENDAR");
+    }
+
+    /**
+     * Returns the iCalendar rule for {@code recurrence}. Occurrences repeat until the end of its last day.
+     */
+    static String toRecurrenceRule(Recurrence recurrence) {
+        String frequency;
+        switch (recurrence.getFrequency()) {
+        case Recurrence.DAILY:
+            frequency = "FREQ=DAILY";
+            break;
+
+        case Recurrence.FORTNIGHTLY:
+            frequency = "FREQ=WEEKLY;INTERVAL=2";
+            break;
+
+        default:
+            frequency = "FREQ=WEEKLY";
+            break;
+        }
+        return frequency + ";UNTIL=" + recurrence.getUntil().atTime(23, 59, 59).format(ICALENDAR_DATE_TIME);
+    }
+
+    /**
+     * Escapes the characters that separate values in vCard and iCalendar text.
+     */
+    static String escapeText(String value) {
+        return value.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n");
+    }
+
+    private static List<String> getSortedTagNames(Person person) {
+        return person.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+    }
+
+    private static LocalDateTime toLocalDateTime(DateTime dateTime) {
+        return LocalDateTime.parse(dateTime.value, DateTime.DATE_TIME_FORMATTER);
+    }
+
+    private static void writeLine(Writer out, String line) throws IOException {
+        out.write(line);
+        out.write(CRLF);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -31,6 +32,19 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns AddressBook data as a {@link LazyAddressBook}, whose persons are read before this returns and whose
+     * events and reminders are read afterwards on {@code executor}.
+     * Storages that cannot read the data in parts read it in full before returning.
+     *   Returns {@code Optional.empty()} if storage file is not found.
+     * @throws DataConversionException if the persons in storage are not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default Optional<LazyAddressBook> readAddressBookLazily(Executor executor)
+            throws DataConversionException, IOException {
+        return readAddressBook().map(LazyAddressBook::ofLoaded);
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+
+/**
+ * Converts the data file of one {@link AddressBookStorage} into the format of another, such as from json to binary
+ * when the storage format is changed in the user prefs, or back again.
+ */
+public class AddressBookStorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookStorageConverter.class);
+
+    private AddressBookStorageConverter() {}
+
+    /**
+     * Writes the data of {@code source} to {@code target}.
+     * Returns false, leaving {@code target} alone, if {@code source} has no data file.
+     *
+     * @throws DataConversionException if the data file of {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading or writing the data files.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        logger.info("Converted " + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Returns the storage of the data in the format chosen in {@code userPrefs}.
+     * If the data was last kept in another format, it is converted to the chosen one first, whichever formats they
+     * are. If it cannot be converted, the storage of the format it was last kept in is returned instead, so that the
+     * app does not start on a file that no longer holds the latest data.
+     */
+    public static AddressBookStorage toChosenFormat(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        DataFileFormat chosen = DataFileFormat.of(userPrefs);
+        DataFileFormat lastKept;
+        try {
+            lastKept = DataFileFormat.readLastKept(jsonFilePath, chosen);
+        } catch (IOException ioe) {
+            logger.warning("Could not read the format of " + jsonFilePath + ", assuming it is " + chosen + ": " + ioe);
+            return chosen.createStorage(userPrefs);
+        }
+
+        try {
+            if (lastKept != chosen) {
+                convert(lastKept.createStorage(userPrefs), chosen.createStorage(userPrefs));
+            }
+            if (lastKept != chosen || !Files.exists(DataFileFormat.toFormatFilePath(jsonFilePath))) {
+                chosen.recordAsKept(jsonFilePath);
+            }
+            return chosen.createStorage(userPrefs);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not convert " + jsonFilePath + " from " + lastKept + " to " + chosen
+                    + ", so it is kept as " + lastKept + ": " + e);
+            return lastKept.createStorage(userPrefs);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.BackgroundService;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves the address book behind the back of the UI.
+ * Each save request takes a snapshot of the address book and returns at once. The snapshot is written on a background
+ * thread a moment later, so that a burst of changes is written only once, from the latest snapshot. Taking a snapshot
+ * only copies the lists of the address book, so it is cheap enough for the UI thread.
+ * Failures are kept until they are asked for with {@link #takeFailure()}.
+ *
+ * Until it is started, or after it is stopped, every save is written right away on the calling thread.
+ *
+ * Once asked to track its writes, it also keeps the address book as it last wrote or read it, so that changes made to
+ * the data file by other programs can be told apart from its own writes.
+ */
+public class AutoSaver implements BackgroundService {
+
+    private static final long COALESCE_DELAY_MILLIS = 500;
+
+    private final Logger logger = LogsCenter.getLogger(AutoSaver.class);
+    private final Storage storage;
+    /** Latest snapshot of the address book that is yet to be written. */
+    private final AtomicReference<ReadOnlyAddressBook> pending = new AtomicReference<>();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    /** Held while writing, so that the final flush never writes alongside a background save. */
+    private final Object writeLock = new Object();
+    /** The address book as the data file was last written or read, while writes are tracked. Guarded by writeLock. */
+    private ReadOnlyAddressBook lastWritten;
+    /** Run after each write while writes are tracked. Guarded by writeLock. */
+    private Runnable writeListener;
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> scheduledWrite;
+    private volatile boolean isRunning;
+
+    public AutoSaver(Storage storage) {
+        this.storage = requireNonNull(storage);
+    }
+
+    /**
+     * Saves {@code addressBook}, which must only be modified on the calling thread.
+     * @throws IOException if this saver is not running and writing fails.
+     */
+    public void save(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        synchronized (this) {
+            if (isRunning) {
+                // a write is scheduled only if none is waiting; one that is waiting will pick up this snapshot.
+                if (pending.getAndSet(AddressBookSnapshot.of(addressBook)) == null) {
+                    scheduledWrite = executor.schedule(this::writePending, COALESCE_DELAY_MILLIS,
+                            TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+        synchronized (writeLock) {
+            storage.saveAddressBook(addressBook);
+            if (writeListener != null) {
+                recordWrite(AddressBookSnapshot.of(addressBook));
+            }
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} as {@link #save(ReadOnlyAddressBook)} does, unless it holds the same records as the
+     * data file did when this saver last wrote or read it, and no save is waiting. This saver must be tracking its
+     * writes.
+     * @throws IOException if this saver is not running and writing fails.
+     */
+    public void saveIfChanged(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        synchronized (writeLock) {
+            if (lastWritten == null) {
+                throw new IllegalStateException("Writes are not tracked.");
+            }
+            if (pending.get() == null && AddressBookDiff.between(lastWritten, addressBook).isEmpty()) {
+                return;
+            }
+        }
+        save(addressBook);
+    }
+
+    /**
+     * Starts keeping the address book as this saver last wrote or read it, beginning with {@code written}, which must
+     * be what the data file holds now. {@code onWrite} is run after each write, before another write can start.
+     */
+    public void trackWrites(ReadOnlyAddressBook written, Runnable onWrite) {
+        requireNonNull(onWrite);
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(written);
+        synchronized (writeLock) {
+            lastWritten = snapshot;
+            writeListener = onWrite;
+        }
+    }
+
+    /**
+     * Reads the data file, while no write is being made, and returns the changes made to it since this saver last
+     * wrote or read it, or {@code Optional.empty()} if there is no data file. This saver must be tracking its writes.
+     * The data file read is what is compared against the next time.
+     *
+     * @throws DataConversionException if the data file is not in the expected format, which it may be while another
+     *     program is still writing it.
+     */
+    public Optional<AddressBookDiff> readExternalChanges() throws DataConversionException, IOException {
+        synchronized (writeLock) {
+            if (lastWritten == null) {
+                throw new IllegalStateException("Writes are not tracked.");
+            }
+            Optional<ReadOnlyAddressBook> read = storage.readAddressBook();
+            if (!read.isPresent()) {
+                return Optional.empty();
+            }
+            AddressBookDiff changes = AddressBookDiff.between(lastWritten, read.get());
+            lastWritten = read.get();
+            return Optional.of(changes);
+        }
+    }
+
+    /**
+     * Returns the failure of a background save since this was last called, if there was one.
+     */
+    public Optional<IOException> takeFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    private void writePending() {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook addressBook = pending.getAndSet(null);
+            if (addressBook == null) {
+                return;
+            }
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException ioe) {
+                logger.severe("Failed to save address book: " + StringUtil.getDetails(ioe));
+                failure.set(ioe);
+                return;
+            }
+            if (writeListener != null) {
+                recordWrite(addressBook);
+            }
+        }
+    }
+
+    /**
+     * Keeps {@code written}, a snapshot of the address book just written, and tells the write listener of the write.
+     */
+    private void recordWrite(ReadOnlyAddressBook written) {
+        assert Thread.holdsLock(writeLock);
+        lastWritten = written;
+        writeListener.run();
+    }
+
+    @Override
+    public String getName() {
+        return "auto-save";
+    }
+
+    @Override
+    public synchronized void start(ScheduledExecutorService executor) {
+        this.executor = requireNonNull(executor);
+        isRunning = true;
+    }
+
+    /**
+     * Stops saving in the background, and writes any pending snapshot before returning.
+     */
+    @Override
+    public void stop() {
+        synchronized (this) {
+            isRunning = false;
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+            }
+        }
+        writePending();
+    }
+
+    @Override
+    public boolean isHealthy() {
+        return isRunning && failure.get() == null;
+    }
+}
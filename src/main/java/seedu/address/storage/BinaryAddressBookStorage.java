@@ -0,0 +1,382 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Description;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Label;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.event.Venue;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Photo;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.reminder.DuplicateReminderException;
+import seedu.address.model.reminder.Interval;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with {@code MAGIC} and {@code VERSION}, followed by a table of the strings that repeat across
+ * entries (tags, labels, venues and reminder units), and then the persons, events and reminders. Lists and strings
+ * are prefixed with their length, and repeated strings are written as their index in the table. The participants of
+ * an event are written as the indexes of the persons in the list of persons, which is read before the events. The
+ * file is read straight into the model, without the json adapters in between. Files of version 1, which have no
+ * participants, are still read.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not an address book binary file, or of a later version.";
+
+    static final int MAGIC = 0x554e4c41; // "UNLA"
+    static final byte VERSION = 2;
+    /** Version before participants of events were written. */
+    private static final byte VERSION_WITHOUT_PARTICIPANTS = 1;
+    /** Longest string read back, so that a corrupted length does not exhaust memory. */
+    private static final int MAX_STRING_BYTES = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path addressBookFilePath;
+
+    public BinaryAddressBookStorage(Path addressBookFilePath) {
+        this.addressBookFilePath = addressBookFilePath;
+    }
+
+    /**
+     * Returns the path of the binary file kept next to the json file at {@code jsonFilePath}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        return jsonFilePath.resolveSibling((extension > 0 ? fileName.substring(0, extension) : fileName)
+                + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(addressBookFilePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(FileUtil.openForReading(filePath))) {
+            return Optional.of(new Reader(in).read());
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, addressBookFilePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            new Writer(out).write(addressBook);
+        }
+    }
+
+    /**
+     * Writes an address book in the binary format.
+     */
+    private static class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> table = new LinkedHashMap<>();
+        private final Map<List<Object>, Integer> personIndexes = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void write(ReadOnlyAddressBook addressBook) throws IOException {
+            for (Person person : addressBook.getPersonList()) {
+                person.getTags().forEach(tag -> intern(tag.tagName));
+            }
+            for (Event event : addressBook.getEventList()) {
+                intern(event.getVenue().value);
+                intern(event.getLabel().getLabelName());
+            }
+            for (Reminder reminder : addressBook.getReminderList()) {
+                intern(reminder.getEvent().getVenue().value);
+                intern(reminder.getEvent().getLabel().getLabelName());
+                intern(reminder.getInterval().getUnit());
+            }
+
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(table.size());
+            for (String s : table.keySet()) {
+                writeString(s);
+            }
+
+            out.writeInt(addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                personIndexes.put(AddressBookDiff.identityOf(person), personIndexes.size());
+                writePerson(person);
+            }
+            out.writeInt(addressBook.getEventList().size());
+            for (Event event : addressBook.getEventList()) {
+                writeEvent(event);
+            }
+            out.writeInt(addressBook.getReminderList().size());
+            for (Reminder reminder : addressBook.getReminderList()) {
+                writeEvent(reminder.getEvent());
+                writeString(reminder.getMessage());
+                writeString(reminder.getInterval().getIntervalInt());
+                out.writeInt(table.get(reminder.getInterval().getUnit()));
+                out.writeBoolean(reminder.getShow());
+                out.writeBoolean(reminder.getNotShow());
+            }
+        }
+
+        private void intern(String s) {
+            table.putIfAbsent(s, table.size());
+        }
+
+        private void writePerson(Person person) throws IOException {
+            writeString(person.getName().fullName);
+            writeString(person.getPhone().value);
+            writeString(person.getEmail().value);
+            writeString(person.getAddress().value);
+            writeString(person.getPhoto().getPath());
+            out.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                out.writeInt(table.get(tag.tagName));
+            }
+        }
+
+        private void writeEvent(Event event) throws IOException {
+            writeString(event.getName().fullName);
+            writeString(event.getDescription().value);
+            out.writeInt(table.get(event.getVenue().value));
+            writeString(event.getStartDateTime().value);
+            writeString(event.getEndDateTime().value);
+            out.writeInt(table.get(event.getLabel().getLabelName()));
+            Optional<Recurrence> recurrence = event.getRecurrence();
+            out.writeBoolean(recurrence.isPresent());
+            if (recurrence.isPresent()) {
+                writeString(recurrence.get().value);
+            }
+            // as in the json file, participants that are not in the address book are left out.
+            List<Integer> participants = new ArrayList<>();
+            for (Person person : event.getPersons()) {
+                Integer index = personIndexes.get(AddressBookDiff.identityOf(person));
+                if (index != null) {
+                    participants.add(index);
+                }
+            }
+            out.writeInt(participants.size());
+            for (int index : participants) {
+                out.writeInt(index);
+            }
+        }
+
+        private void writeString(String s) throws IOException {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format.
+     * Values are checked by the constructors of the model, which throw {@code IllegalArgumentException}.
+     */
+    private static class Reader {
+        private final DataInputStream in;
+        private final List<String> table = new ArrayList<>();
+        private final List<Person> persons = new ArrayList<>();
+        private byte version;
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        AddressBook read() throws IOException, IllegalValueException {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+            }
+            version = in.readByte();
+            if (version < VERSION_WITHOUT_PARTICIPANTS || version > VERSION) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int tableSize = readCount();
+            for (int i = 0; i < tableSize; i++) {
+                table.add(readString());
+            }
+
+            int personCount = readCount();
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson());
+            }
+            int eventCount = readCount();
+            List<Event> events = new ArrayList<>();
+            for (int i = 0; i < eventCount; i++) {
+                events.add(readEvent());
+            }
+            int reminderCount = readCount();
+            List<Reminder> reminders = new ArrayList<>();
+            for (int i = 0; i < reminderCount; i++) {
+                reminders.add(readReminder());
+            }
+
+            // each list is checked for duplicates once, as it is set, rather than once for every record added.
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            try {
+                addressBook.setEvents(events);
+            } catch (EventNotFoundException enfe) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+            }
+            try {
+                addressBook.setReminders(reminders);
+            } catch (DuplicateReminderException dre) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_REMINDER);
+            }
+            return addressBook;
+        }
+
+        private Person readPerson() throws IOException, IllegalValueException {
+            Name name = new Name(readString());
+            Phone phone = new Phone(readString());
+            Email email = new Email(readString());
+            Address address = new Address(readString());
+            String photoPath = readString();
+            Photo photo = Photo.isValidPhotoPath(photoPath) ? new Photo(photoPath) : new Photo();
+            int tagCount = readCount();
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(readTableString()));
+            }
+            return new Person(name, phone, email, address, photo, tags);
+        }
+
+        private Event readEvent() throws IOException, IllegalValueException {
+            seedu.address.model.event.Name name = new seedu.address.model.event.Name(readString());
+            Description description = new Description(readString());
+            Venue venue = new Venue(readTableString());
+            DateTime start = new DateTime(readString());
+            DateTime end = new DateTime(readString());
+            Label label = new Label(readTableString());
+            Recurrence recurrence = in.readBoolean() ? new Recurrence(readString()) : null;
+            Set<Person> participants = new HashSet<>();
+            if (version > VERSION_WITHOUT_PARTICIPANTS) {
+                int participantCount = readCount();
+                for (int i = 0; i < participantCount; i++) {
+                    int index = in.readInt();
+                    if (index < 0 || index >= persons.size()) {
+                        throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+                    }
+                    participants.add(persons.get(index));
+                }
+            }
+            return new Event(name, description, venue, start, end, label, participants, recurrence);
+        }
+
+        private Reminder readReminder() throws IOException, IllegalValueException {
+            Event event = readEvent();
+            String message = readString();
+            Interval interval = new Interval(readString(), readTableString());
+            Reminder reminder = new Reminder(event, interval, message);
+            reminder.setShow(in.readBoolean());
+            reminder.setNotShow(in.readBoolean());
+            return reminder;
+        }
+
+        private int readCount() throws IOException, IllegalValueException {
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+            }
+            return count;
+        }
+
+        private String readTableString() throws IOException, IllegalValueException {
+            int index = in.readInt();
+            if (index < 0 || index >= table.size()) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+            }
+            return table.get(index);
+        }
+
+        private String readString() throws IOException, IllegalValueException {
+            int length = in.readInt();
+            if (length < 0 || length > MAX_STRING_BYTES) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
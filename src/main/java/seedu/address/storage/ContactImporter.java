@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Imports contacts from .csv and .vcf files written by other applications.
+ *
+ * Contacts are read in turn and gathered into chunks of {@code VALIDATION_CHUNK_SIZE}, each of which is validated
+ * on the given executor while the next chunk is read. Valid contacts are then checked in order against the persons
+ * already in the address book, and against those imported before them. As two persons are the same if they share a
+ * name and either a phone or an email, this is done with sets of the names and phones, and of the names and emails,
+ * seen so far. A contact that is not valid is reported with the line it starts on, and does not stop the import.
+ */
+public class ContactImporter {
+
+    /** Number of contacts validated together. Large enough that validating them outweighs handing them over. */
+    static final int VALIDATION_CHUNK_SIZE = 8192;
+
+    private final Set<List<Object>> namesAndPhones = new HashSet<>();
+    private final Set<List<Object>> namesAndEmails = new HashSet<>();
+    private final Executor executor;
+
+    /**
+     * Creates an importer that leaves out contacts that are the same as one of {@code existingPersons}, and validates
+     * contacts on the calling thread.
+     */
+    public ContactImporter(List<Person> existingPersons) {
+        this(existingPersons, Runnable::run);
+    }
+
+    /**
+     * Creates an importer that leaves out contacts that are the same as one of {@code existingPersons}, and validates
+     * contacts on {@code executor}.
+     */
+    public ContactImporter(List<Person> existingPersons, Executor executor) {
+        requireAllNonNull(existingPersons, executor);
+        this.executor = executor;
+        existingPersons.forEach(this::markSeen);
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file that contacts can be imported from by this class.
+     */
+    public static boolean isContactFile(Path filePath) {
+        Optional<ExportFormat> format = ExportFormat.ofFileName(filePath.getFileName().toString());
+        return format.isPresent() && (format.get() == ExportFormat.CSV || format.get() == ExportFormat.VCARD);
+    }
+
+    /**
+     * Reads the contacts in {@code filePath}, which must be a contact file, and returns those that are valid and not
+     * already known. Contacts returned are known from then on.
+     *
+     * @throws IOException if there was an error during reading from the file.
+     * @throws IllegalValueException if the columns of a .csv file are missing.
+     */
+    public Result importFrom(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        boolean isCsv = ExportFormat.ofFileName(filePath.getFileName().toString())
+                .orElseThrow(IllegalArgumentException::new) == ExportFormat.CSV;
+
+        Result result = new Result();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(FileUtil.openForReading(filePath),
+                StandardCharsets.UTF_8))) {
+            CsvContactReader csvReader = isCsv ? new CsvContactReader(in) : null;
+            VCardContactReader vCardReader = isCsv ? null : new VCardContactReader(in);
+            List<ContactRecord> chunk = new ArrayList<>(VALIDATION_CHUNK_SIZE);
+            CompletableFuture<List<ValidatedContact>> validating = CompletableFuture.completedFuture(
+                    Collections.emptyList());
+            Optional<ContactRecord> record;
+            while ((record = isCsv ? csvReader.next() : vCardReader.next()).isPresent()) {
+                chunk.add(record.get());
+                if (chunk.size() == VALIDATION_CHUNK_SIZE) {
+                    // the chunk is validated while the next one is read.
+                    addValidated(validating.join(), result);
+                    List<ContactRecord> toValidate = chunk;
+                    validating = CompletableFuture.supplyAsync(() -> validate(toValidate), executor);
+                    chunk = new ArrayList<>(VALIDATION_CHUNK_SIZE);
+                }
+            }
+            addValidated(validating.join(), result);
+            addValidated(validate(chunk), result);
+        }
+        return result;
+    }
+
+    private static List<ValidatedContact> validate(List<ContactRecord> chunk) {
+        return chunk.stream().map(ValidatedContact::of).collect(Collectors.toList());
+    }
+
+    /**
+     * Adds {@code validated} to {@code result} in order, leaving out the persons seen before.
+     */
+    private void addValidated(List<ValidatedContact> validated, Result result) {
+        for (ValidatedContact contact : validated) {
+            if (contact.person == null) {
+                result.addError(contact.lineNumber, contact.error);
+            } else if (!isSeen(contact.person)) {
+                markSeen(contact.person);
+                result.addImported(contact.person);
+            } else {
+                result.addDuplicate();
+            }
+        }
+    }
+
+    /**
+     * Returns true if a person seen so far is the same as {@code person}.
+     */
+    private boolean isSeen(Person person) {
+        return namesAndPhones.contains(Arrays.asList(person.getName(), person.getPhone()))
+                || namesAndEmails.contains(Arrays.asList(person.getName(), person.getEmail()));
+    }
+
+    private void markSeen(Person person) {
+        namesAndPhones.add(Arrays.asList(person.getName(), person.getPhone()));
+        namesAndEmails.add(Arrays.asList(person.getName(), person.getEmail()));
+    }
+
+    /**
+     * A contact after validation: either the person it holds, or the reason it is not valid.
+     */
+    private static class ValidatedContact {
+        private final int lineNumber;
+        private final Person person;
+        private final String error;
+
+        private ValidatedContact(int lineNumber, Person person, String error) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.error = error;
+        }
+
+        static ValidatedContact of(ContactRecord record) {
+            try {
+                return new ValidatedContact(record.getLineNumber(), record.toModelType(), null);
+            } catch (IllegalValueException ive) {
+                return new ValidatedContact(record.getLineNumber(), null, ive.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The outcome of an import of contacts.
+     */
+    public static class Result extends ImportResult<Person> {
+
+        /**
+         * Returns the new persons, in the order of the file.
+         */
+        public List<Person> getPersons() {
+            return getImported();
+        }
+    }
+}
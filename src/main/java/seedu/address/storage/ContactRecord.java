@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Photo;
+
+/**
+ * A contact as read from a file written by another application, before it is validated.
+ * Fields that the file does not have are null.
+ */
+class ContactRecord {
+
+    private static final Pattern PHONE_PUNCTUATION = Pattern.compile("[\\s()+.-]");
+    private static final Pattern LINE_BREAK = Pattern.compile("\\s*\\R\\s*");
+
+    private final int lineNumber;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> tags;
+
+    ContactRecord(int lineNumber, String name, String phone, String email, String address, List<String> tags) {
+        this.lineNumber = lineNumber;
+        this.name = trim(name);
+        this.phone = phone == null ? null : PHONE_PUNCTUATION.matcher(phone).replaceAll("");
+        this.email = trim(email);
+        this.address = address == null ? null : LINE_BREAK.matcher(address.trim()).replaceAll(" ");
+        this.tags = tags;
+    }
+
+    /**
+     * Returns the line of the file that the contact starts on, counting from 1.
+     */
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Converts this contact into the model's {@code Person} object, with the default photo.
+     * Spaces around the fields, and spaces, brackets, plus signs, dots and dashes within the phone number, are left
+     * out. Line breaks within the address are read as spaces.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the contact.
+     */
+    Person toModelType() throws IllegalValueException {
+        return new JsonAdaptedPerson(name, phone, email, address, Photo.DEFAULT_PHOTOPATH,
+                tags.stream().map(JsonAdaptedTag::new).collect(Collectors.toList())).toModelType();
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads the content lines of a vCard or iCalendar file, one line at a time.
+ *
+ * A content line is of the form NAME;PARAMETER=VALUE:VALUE, where the name may be preceded by a group, as in
+ * "item1.TEL". Lines that are folded onto the next line are joined before they are read. Lines without a colon, such
+ * as blank lines, are skipped.
+ */
+class ContentLineReader {
+
+    private final BufferedReader in;
+    /** Number of the line read ahead, which is the line the next content line starts on. */
+    private int lineNumber;
+    /** The line read ahead, or null if there is none. */
+    private String nextLine;
+
+    ContentLineReader(BufferedReader in) throws IOException {
+        requireNonNull(in);
+        this.in = in;
+        nextLine = in.readLine();
+        lineNumber = 1;
+    }
+
+    /**
+     * Returns the next content line, or {@code Optional.empty()} at the end of the file.
+     */
+    Optional<ContentLine> next() throws IOException {
+        while (nextLine != null) {
+            int startLineNumber = lineNumber;
+            String line = readUnfoldedLine();
+            int colon = indexOfValue(line);
+            if (colon >= 0) {
+                return Optional.of(new ContentLine(startLineNumber, line.substring(0, colon),
+                        line.substring(colon + 1)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the next line with the lines folded onto it joined.
+     * A line that starts with a space or a tab continues the line before it.
+     */
+    private String readUnfoldedLine() throws IOException {
+        StringBuilder line = new StringBuilder(nextLine);
+        while ((nextLine = in.readLine()) != null) {
+            lineNumber++;
+            if (nextLine.isEmpty() || (nextLine.charAt(0) != ' ' && nextLine.charAt(0) != '\t')) {
+                break;
+            }
+            line.append(nextLine, 1, nextLine.length());
+        }
+        return line.toString();
+    }
+
+    /**
+     * Returns the index of the colon that starts the value of {@code line}, or -1 if there is none.
+     * Colons within quoted parameter values, such as a quoted time zone, do not start the value.
+     */
+    private static int indexOfValue(String line) {
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                isQuoted = !isQuoted;
+            } else if (c == ':' && !isQuoted) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Splits {@code value} on each {@code separator} that is not escaped, and unescapes the parts.
+     */
+    static List<String> split(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == separator) {
+                parts.add(unescape(value.substring(start, i)));
+                start = i + 1;
+            }
+        }
+        parts.add(unescape(value.substring(start)));
+        return parts;
+    }
+
+    /**
+     * Returns {@code value} with the escaped commas, semicolons, backslashes and line breaks of vCard and iCalendar
+     * text replaced by the characters they stand for.
+     */
+    static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                unescaped.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * A content line: its name, its parameters and its value, which is not unescaped.
+     */
+    static class ContentLine {
+        private final int lineNumber;
+        private final String name;
+        private final Map<String, String> parameters;
+        private final String value;
+
+        private ContentLine(int lineNumber, String nameAndParameters, String value) {
+            this.lineNumber = lineNumber;
+            this.value = value;
+            List<String> parts = splitParameters(nameAndParameters);
+            String groupAndName = parts.get(0);
+            name = groupAndName.substring(groupAndName.lastIndexOf('.') + 1).trim().toUpperCase(Locale.ROOT);
+            if (parts.size() == 1) {
+                parameters = Collections.emptyMap();
+                return;
+            }
+            parameters = new HashMap<>();
+            for (String parameter : parts.subList(1, parts.size())) {
+                int equals = parameter.indexOf('=');
+                if (equals > 0) {
+                    parameters.put(parameter.substring(0, equals).trim().toUpperCase(Locale.ROOT),
+                            parameter.substring(equals + 1).replace("\"", ""));
+                }
+            }
+        }
+
+        /**
+         * Splits {@code nameAndParameters} on each semicolon that is not within a quoted parameter value.
+         */
+        private static List<String> splitParameters(String nameAndParameters) {
+            List<String> parts = new ArrayList<>();
+            boolean isQuoted = false;
+            int start = 0;
+            for (int i = 0; i < nameAndParameters.length(); i++) {
+                char c = nameAndParameters.charAt(i);
+                if (c == '"') {
+                    isQuoted = !isQuoted;
+                } else if (c == ';' && !isQuoted) {
+                    parts.add(nameAndParameters.substring(start, i));
+                    start = i + 1;
+                }
+            }
+            parts.add(nameAndParameters.substring(start));
+            return parts;
+        }
+
+        /**
+         * Returns the number of the line that this content line starts on.
+         */
+        int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Returns the name of the property, in upper case and without its group.
+         * For example, the name of "item1.TEL;TYPE=cell:91234567" is "TEL".
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the value of the parameter named {@code parameterName}, in upper case, without its quotes.
+         */
+        Optional<String> getParameter(String parameterName) {
+            return Optional.ofNullable(parameters.get(parameterName));
+        }
+
+        String getValue() {
+            return value;
+        }
+
+        /**
+         * Returns true if this line is "BEGIN:{@code component}".
+         */
+        boolean isBeginOf(String component) {
+            return name.equals("BEGIN") && value.trim().equalsIgnoreCase(component);
+        }
+
+        /**
+         * Returns true if this line is "END:{@code component}".
+         */
+        boolean isEndOf(String component) {
+            return name.equals("END") && value.trim().equalsIgnoreCase(component);
+        }
+    }
+}
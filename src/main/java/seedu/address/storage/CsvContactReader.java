@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads contacts from a .csv file, one row at a time.
+ *
+ * The first row names the columns. Columns are matched to the fields of a person by their names, so that files
+ * exported by other applications can be read as they are: for example, a "Mobile" or "Phone Number" column holds
+ * phone numbers. Columns that match no field are ignored. Fields may be quoted, and quoted fields may hold commas,
+ * doubled quotes and line breaks.
+ */
+class CsvContactReader {
+
+    static final String NAME = "name";
+    static final String PHONE = "phone";
+    static final String EMAIL = "email";
+    static final String ADDRESS = "address";
+    static final String TAGS = "tags";
+    static final String MESSAGE_MISSING_COLUMN = "The first row of the .csv file has no %s column.";
+
+    /** Column names, in lower case and without spaces or punctuation, and the fields that they hold. */
+    private static final Map<String, String> COLUMN_NAMES = new HashMap<>();
+    private static final Pattern TAG_SEPARATOR = Pattern.compile("[\\s,;]+");
+
+    static {
+        Arrays.asList("name", "fullname", "displayname", "fn").forEach(column -> COLUMN_NAMES.put(column, NAME));
+        Arrays.asList("phone", "phonenumber", "mobile", "mobilephone", "mobilenumber", "tel", "telephone")
+                .forEach(column -> COLUMN_NAMES.put(column, PHONE));
+        Arrays.asList("email", "emailaddress", "mail").forEach(column -> COLUMN_NAMES.put(column, EMAIL));
+        Arrays.asList("address", "homeaddress", "streetaddress", "adr").forEach(column -> COLUMN_NAMES.put(column,
+                ADDRESS));
+        Arrays.asList("tags", "tag", "categories", "groups", "labels").forEach(column -> COLUMN_NAMES.put(column,
+                TAGS));
+    }
+
+    private final BufferedReader in;
+    private final int nameColumn;
+    private final int phoneColumn;
+    private final int emailColumn;
+    private final int addressColumn;
+    private final int tagsColumn;
+    /** Number of lines read so far, and the line that the last row read starts on. */
+    private int lineNumber;
+    private int rowLineNumber;
+
+    /**
+     * Reads the column names from the first row of {@code in}.
+     * @throws IllegalValueException if a column for the name, phone, email or address of a person is missing.
+     */
+    CsvContactReader(BufferedReader in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        this.in = in;
+        List<String> header = readRow().orElse(Collections.emptyList());
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String field = COLUMN_NAMES.get(header.get(i).toLowerCase(Locale.ROOT).replaceAll("[^\\p{Alnum}]", ""));
+            if (field != null) {
+                columns.putIfAbsent(field, i);
+            }
+        }
+        nameColumn = getColumn(columns, NAME);
+        phoneColumn = getColumn(columns, PHONE);
+        emailColumn = getColumn(columns, EMAIL);
+        addressColumn = getColumn(columns, ADDRESS);
+        tagsColumn = columns.getOrDefault(TAGS, -1);
+    }
+
+    private static int getColumn(Map<String, Integer> columns, String field) throws IllegalValueException {
+        Integer column = columns.get(field);
+        if (column == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, field));
+        }
+        return column;
+    }
+
+    /**
+     * Returns the contact in the next row, or {@code Optional.empty()} at the end of the file.
+     * Blank rows are skipped.
+     */
+    Optional<ContactRecord> next() throws IOException {
+        Optional<List<String>> row = readRow();
+        if (!row.isPresent()) {
+            return Optional.empty();
+        }
+        List<String> fields = row.get();
+        String tags = getField(fields, tagsColumn);
+        return Optional.of(new ContactRecord(rowLineNumber, getField(fields, nameColumn),
+                getField(fields, phoneColumn), getField(fields, emailColumn), getField(fields, addressColumn),
+                tags == null || tags.trim().isEmpty()
+                        ? Collections.emptyList()
+                        : Arrays.asList(TAG_SEPARATOR.split(tags.trim()))));
+    }
+
+    private static String getField(List<String> fields, int column) {
+        return column >= 0 && column < fields.size() ? fields.get(column) : null;
+    }
+
+    /**
+     * Returns the fields of the next row that is not blank, or {@code Optional.empty()} at the end of the file.
+     */
+    private Optional<List<String>> readRow() throws IOException {
+        String line;
+        do {
+            line = in.readLine();
+            lineNumber++;
+            if (line == null) {
+                return Optional.empty();
+            }
+        } while (line.trim().isEmpty());
+
+        rowLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isQuoted) {
+                    break;
+                }
+                // a quoted field goes on to the next line.
+                String nextLine = in.readLine();
+                if (nextLine == null) {
+                    break;
+                }
+                lineNumber++;
+                field.append('\n');
+                line = nextLine;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return Optional.of(fields);
+    }
+}
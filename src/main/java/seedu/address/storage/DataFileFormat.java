@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyUserPrefs;
+
+/**
+ * A format that the address book data can be kept in, as chosen in the user prefs.
+ * The format the data was last kept in is recorded in a small file next to the json data file, so that the data can
+ * be converted whenever another format is chosen.
+ */
+public enum DataFileFormat {
+    /** The json data file itself, which may be compressed. */
+    JSON,
+    /** The json data file, with a journal of the changes made since it was written. */
+    JOURNALED,
+    /** A compact binary file next to the json data file. */
+    BINARY,
+    /** A json file each for the persons, events and reminders, next to the json data file. */
+    SHARDED;
+
+    public static final String FILE_EXTENSION = ".format";
+
+    /**
+     * Returns the format chosen in {@code userPrefs}. {@code binaryStorage} takes precedence over
+     * {@code shardedStorage}, which takes precedence over {@code journaledStorage}.
+     */
+    public static DataFileFormat of(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        if (userPrefs.isBinaryStorage()) {
+            return BINARY;
+        } else if (userPrefs.isShardedStorage()) {
+            return SHARDED;
+        } else if (userPrefs.isJournaledStorage()) {
+            return JOURNALED;
+        } else {
+            return JSON;
+        }
+    }
+
+    /**
+     * Returns the storage of the data in this format, for the json data file and compression chosen in
+     * {@code userPrefs}.
+     */
+    public AddressBookStorage createStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        switch (this) {
+        case JOURNALED:
+            return new JournaledAddressBookStorage(jsonFilePath, true, userPrefs.isCompressedStorage());
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath));
+        case SHARDED:
+            return new ShardedAddressBookStorage(jsonFilePath, true, userPrefs.isCompressedStorage());
+        default:
+            return new JsonAddressBookStorage(jsonFilePath, true, userPrefs.isCompressedStorage());
+        }
+    }
+
+    /**
+     * Returns the path of the file that records the format of the data at {@code jsonFilePath}.
+     */
+    public static Path toFormatFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the format recorded for the data at {@code jsonFilePath}.
+     * If none is recorded, as for data kept before formats were recorded, this is {@code chosen} if a file of that
+     * format exists, as such a file was converted to when the format was first chosen, and {@code JSON} otherwise.
+     */
+    public static DataFileFormat readLastKept(Path jsonFilePath, DataFileFormat chosen) throws IOException {
+        requireNonNull(chosen);
+        Path formatFilePath = toFormatFilePath(jsonFilePath);
+        if (Files.exists(formatFilePath)) {
+            String name = FileUtil.readFromFile(formatFilePath).trim();
+            Optional<DataFileFormat> recorded = Stream.of(values())
+                    .filter(format -> format.name().equals(name)).findFirst();
+            if (recorded.isPresent()) {
+                return recorded.get();
+            }
+            throw new IOException("Unknown data file format in " + formatFilePath + ": " + name);
+        }
+        return Files.exists(chosen.getOwnFilePath(jsonFilePath)) ? chosen : JSON;
+    }
+
+    /**
+     * Records this format as the one the data at {@code jsonFilePath} is kept in.
+     */
+    public void recordAsKept(Path jsonFilePath) throws IOException {
+        Path formatFilePath = toFormatFilePath(jsonFilePath);
+        FileUtil.createIfMissing(formatFilePath);
+        FileUtil.writeToFile(formatFilePath, name());
+    }
+
+    /**
+     * Returns the path of the file whose presence shows that data has been kept in this format.
+     */
+    private Path getOwnFilePath(Path jsonFilePath) {
+        switch (this) {
+        case JOURNALED:
+            return JournaledAddressBookStorage.toJournalFilePath(jsonFilePath);
+        case BINARY:
+            return BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath);
+        case SHARDED:
+            return ShardedAddressBookStorage.getShardFilePath(jsonFilePath, ShardedAddressBookStorage.PERSONS_SHARD);
+        default:
+            return jsonFilePath;
+        }
+    }
+}
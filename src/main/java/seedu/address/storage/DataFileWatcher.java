@@ -0,0 +1,230 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.BackgroundService;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Watches the data file for changes made by other programs, such as a sync client, and passes on what they changed.
+ *
+ * The directory of the data file is polled for changes to the data file or the files kept beside it, such as its
+ * journal or shards. A changed file is read once it has not changed for {@code SETTLE_DELAY_MILLIS}, so that a file
+ * being written is read when it is whole. The file read is compared against the address book as the
+ * {@link AutoSaver} last wrote or read it, so that its own writes are not taken for changes, and changes made in the
+ * app but not yet written are not taken for records removed by the other program. The files are read only if their
+ * sizes or times differ from those after the last write or read.
+ */
+public class DataFileWatcher implements BackgroundService {
+
+    private static final long POLL_INTERVAL_MILLIS = 250;
+    private static final long SETTLE_DELAY_MILLIS = 500;
+
+    private final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+    private final ReadOnlyAddressBook addressBook;
+    private final AutoSaver autoSaver;
+    private final Path dataFilePath;
+    /** Names of the data file and the files kept beside it, such as its journal or shards. */
+    private final Set<Path> dataFileNames = new HashSet<>();
+    private final Consumer<AddressBookDiff> onExternalChange;
+    /** Sizes and times of the data files as last written or read, or null if they are not known. */
+    private volatile Map<Path, List<Object>> knownFileTimes;
+    private WatchService watchService;
+    private ScheduledFuture<?> scheduledPoll;
+    /** Time at which a change to the data files was last seen, or -1 if all changes seen have been read. */
+    private long lastChangeMillis = -1;
+    private volatile boolean isRunning;
+    private volatile boolean hasFailed;
+
+    /**
+     * Creates a watcher of {@code dataFilePath}, the file that {@code autoSaver} writes {@code addressBook} to.
+     * {@code onExternalChange} is given each change found, on a background thread.
+     */
+    public DataFileWatcher(ReadOnlyAddressBook addressBook, AutoSaver autoSaver, Path dataFilePath,
+            Consumer<AddressBookDiff> onExternalChange) {
+        requireAllNonNull(addressBook, autoSaver, dataFilePath, onExternalChange);
+        this.addressBook = addressBook;
+        this.autoSaver = autoSaver;
+        this.dataFilePath = dataFilePath.toAbsolutePath();
+        this.onExternalChange = onExternalChange;
+        dataFileNames.add(dataFilePath.getFileName());
+        dataFileNames.add(JournaledAddressBookStorage.toJournalFilePath(dataFilePath).getFileName());
+        dataFileNames.add(BinaryAddressBookStorage.toBinaryFilePath(dataFilePath).getFileName());
+        for (String shard : Arrays.asList(ShardedAddressBookStorage.PERSONS_SHARD,
+                ShardedAddressBookStorage.EVENTS_SHARD, ShardedAddressBookStorage.REMINDERS_SHARD)) {
+            dataFileNames.add(ShardedAddressBookStorage.getShardFilePath(dataFilePath, shard).getFileName());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "data-file-watch";
+    }
+
+    /**
+     * Starts watching the data file, which must hold the address book as it is now.
+     * This must be called on the thread that modifies the address book.
+     */
+    @Override
+    public synchronized void start(ScheduledExecutorService executor) {
+        requireNonNull(executor);
+        Path directory = dataFilePath.getParent();
+        try {
+            Files.createDirectories(directory);
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException ioe) {
+            logger.warning("Could not watch " + directory + " for changes: " + StringUtil.getDetails(ioe));
+            hasFailed = true;
+            return;
+        }
+        autoSaver.trackWrites(addressBook, this::recordFileTimes);
+        recordFileTimes();
+        isRunning = true;
+        scheduledPoll = executor.scheduleWithFixedDelay(this::poll, POLL_INTERVAL_MILLIS, POLL_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        isRunning = false;
+        if (scheduledPoll != null) {
+            scheduledPoll.cancel(false);
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ioe) {
+                logger.warning("Could not stop watching the data file: " + StringUtil.getDetails(ioe));
+            }
+        }
+    }
+
+    @Override
+    public boolean isHealthy() {
+        return isRunning && !hasFailed;
+    }
+
+    /**
+     * Takes the changes seen since the last poll, and reads the data file once they have settled.
+     * The watch service is polled rather than waited on, so that no thread of the shared executor is held.
+     */
+    private void poll() {
+        if (!isRunning) {
+            return;
+        }
+        try {
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                if (key.pollEvents().stream().anyMatch(this::isDataFileEvent)) {
+                    lastChangeMillis = System.currentTimeMillis();
+                }
+                if (!key.reset()) {
+                    logger.warning("The directory of the data file can no longer be watched.");
+                    hasFailed = true;
+                    scheduledPoll.cancel(false);
+                    return;
+                }
+            }
+            if (lastChangeMillis >= 0 && System.currentTimeMillis() - lastChangeMillis >= SETTLE_DELAY_MILLIS) {
+                lastChangeMillis = -1;
+                readChanges();
+            }
+        } catch (RuntimeException re) {
+            // a failure must not stop the polls that follow, which the executor would otherwise cancel.
+            logger.warning("Failed to check the data file for changes: " + re);
+            hasFailed = true;
+        }
+    }
+
+    private boolean isDataFileEvent(WatchEvent<?> event) {
+        return event.kind() == OVERFLOW || isDataFile((Path) event.context());
+    }
+
+    /**
+     * Returns true if {@code file}, a file in the directory of the data file, is the data file or one kept beside it
+     * by any of the storage formats: its journal, its binary file or one of its shards.
+     */
+    boolean isDataFile(Path file) {
+        return dataFileNames.contains(file.getFileName());
+    }
+
+    /**
+     * Reads the data file and passes on what was changed in it, if its files are not as they were last written or
+     * read. A file that cannot be read, such as one still being written, is read again once it changes again.
+     */
+    private void readChanges() {
+        Map<Path, List<Object>> fileTimes = getFileTimes();
+        if (fileTimes != null && fileTimes.equals(knownFileTimes)) {
+            return;
+        }
+        Optional<AddressBookDiff> changes;
+        try {
+            changes = autoSaver.readExternalChanges();
+        } catch (DataConversionException | IOException e) {
+            logger.info("Data file changed but could not be read, will read it again once it changes: " + e);
+            return;
+        }
+        // the times are taken before reading, so that a change made while reading is not missed.
+        knownFileTimes = fileTimes;
+        if (!changes.isPresent()) {
+            logger.info("Data file was removed by another program; keeping the data in the app.");
+        } else if (!changes.get().isEmpty()) {
+            logger.info("Data file was changed by another program: " + changes.get());
+            onExternalChange.accept(changes.get());
+        }
+        hasFailed = false;
+    }
+
+    /**
+     * Notes the sizes and times of the data files as they are after a write or read that is known.
+     */
+    private void recordFileTimes() {
+        knownFileTimes = getFileTimes();
+    }
+
+    /**
+     * Returns the sizes and times of the data file and the files kept beside it, or null if they cannot be listed.
+     */
+    private Map<Path, List<Object>> getFileTimes() {
+        Map<Path, List<Object>> fileTimes = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dataFilePath.getParent(), this::isDataFile)) {
+            for (Path file : files) {
+                fileTimes.put(file, Arrays.asList(Files.size(file), Files.getLastModifiedTime(file)));
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not list the data files: " + StringUtil.getDetails(ioe));
+            return null;
+        }
+        return fileTimes;
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.event.Event;
+
+/**
+ * Imports events from .ics files written by calendar applications.
+ *
+ * Events are read one at a time, so that only the events imported are held, however large the file is. A repeating
+ * event whose rule has no end is expanded only into its occurrences within {@code RECURRENCE_WINDOW} of the day of the
+ * import. As two events are the same if they share a name, venue, start and end, events are checked against those
+ * already in the address book, and those imported before them, with a set of these fields. An event that is not valid
+ * is reported with the line it starts on, and does not stop the import.
+ */
+public class EventImporter {
+
+    /** Period before and after the day of the import in which the occurrences of a rule with no end are kept. */
+    public static final Period RECURRENCE_WINDOW = Period.ofYears(1);
+
+    private final Set<List<Object>> seenEvents = new HashSet<>();
+    private final ZoneId zone;
+    private final LocalDate windowStart;
+    private final LocalDate windowEnd;
+
+    /**
+     * Creates an importer that leaves out events that are the same as one of {@code existingEvents}, and reads times
+     * in {@code zone}. Rules with no end are expanded within {@code RECURRENCE_WINDOW} of {@code importDate}.
+     */
+    public EventImporter(List<Event> existingEvents, LocalDate importDate, ZoneId zone) {
+        requireAllNonNull(existingEvents, importDate, zone);
+        existingEvents.forEach(event -> seenEvents.add(toIdentity(event)));
+        this.zone = zone;
+        windowStart = importDate.minus(RECURRENCE_WINDOW);
+        windowEnd = importDate.plus(RECURRENCE_WINDOW);
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file that events can be imported from by this class.
+     */
+    public static boolean isEventFile(Path filePath) {
+        return ExportFormat.ofFileName(filePath.getFileName().toString()).equals(Optional.of(ExportFormat.ICALENDAR));
+    }
+
+    /**
+     * Reads the events in {@code filePath}, which must be an event file, and returns those that are valid and not
+     * already known. Events returned are known from then on.
+     *
+     * @throws IOException if there was an error during reading from the file.
+     */
+    public Result importFrom(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        Result result = new Result();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(FileUtil.openForReading(filePath),
+                StandardCharsets.UTF_8))) {
+            IcsEventReader reader = new IcsEventReader(in);
+            Optional<EventRecord> record;
+            while ((record = reader.next()).isPresent()) {
+                EventRecord.Expansion expansion;
+                try {
+                    expansion = record.get().toModelType(zone, windowStart, windowEnd);
+                } catch (IllegalValueException ive) {
+                    result.addError(record.get().getLineNumber(), ive.getMessage());
+                    continue;
+                }
+                if (expansion.isPartial()) {
+                    result.partialCount++;
+                }
+                for (Event event : expansion.getEvents()) {
+                    if (seenEvents.add(toIdentity(event))) {
+                        result.addImported(event);
+                    } else {
+                        result.addDuplicate();
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fields that make up the identity of {@code event}, as in {@code Event#isSameEvent(Event)}.
+     */
+    private static List<Object> toIdentity(Event event) {
+        return Arrays.asList(event.getName(), event.getVenue(), event.getStartDateTime(), event.getEndDateTime());
+    }
+
+    /**
+     * The outcome of an import of events, which also counts the repeating events imported only in part.
+     */
+    public static class Result extends ImportResult<Event> {
+        private int partialCount;
+
+        /**
+         * Returns the new events, in the order of the file.
+         */
+        public List<Event> getEvents() {
+            return getImported();
+        }
+
+        /**
+         * Returns the number of repeating events of which only some occurrences were imported, as their rules could
+         * not be expanded, or have more occurrences than are expanded.
+         */
+        public int getPartialCount() {
+            return partialCount;
+        }
+    }
+}
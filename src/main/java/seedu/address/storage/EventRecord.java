@@ -0,0 +1,517 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
+import seedu.address.storage.ContentLineReader.ContentLine;
+
+/**
+ * The properties of an event read from an .ics file, before they are validated.
+ *
+ * The summary, location and description of the event are read as its name, venue and description, and its first
+ * category as its label. As names and labels may only hold letters, digits and spaces, other characters are replaced by
+ * spaces. Times in UTC or in a named time zone are converted to the local time zone; dates without times are read as
+ * events that last all day.
+ *
+ * An event that repeats daily, weekly or fortnightly is kept as one repeating event, as its occurrences are computed
+ * only when they are needed. Other simple rules, which repeat daily, weekly, monthly or yearly at some interval, and
+ * weekly on given days, are expanded into one event per occurrence. Of a rule that has no end, only the occurrences
+ * within the window given are kept. Of a rule that cannot be expanded, only the first occurrence is kept.
+ */
+class EventRecord {
+
+    /** Number of occurrences that a rule is expanded into at most. */
+    static final int MAX_OCCURRENCES = 500;
+    static final String DEFAULT_DESCRIPTION = "No description";
+    static final String DEFAULT_VENUE = "No venue";
+    static final String DEFAULT_LABEL = "imported";
+    static final String MESSAGE_MISSING_PROPERTY = "The event has no %s.";
+    static final String MESSAGE_INVALID_TIME = "The %s of the event is not a valid date or time.";
+    static final String MESSAGE_END_BEFORE_START = "The event ends before it starts.";
+    static final String MESSAGE_INVALID_RULE = "The RRULE of the event cannot be read.";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuuMMdd")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final Pattern WEEKS = Pattern.compile("P(\\d+)W");
+    private static final Pattern NOT_ALPHANUMERIC = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final List<String> SIMPLE_RULE_PARTS = Arrays.asList("FREQ", "INTERVAL", "UNTIL", "COUNT", "WKST",
+            "BYDAY");
+    private static final Map<String, DayOfWeek> DAYS = new HashMap<>();
+
+    static {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            DAYS.put(day.name().substring(0, 2), day);
+        }
+    }
+
+    private final int lineNumber;
+    private ContentLine summary;
+    private ContentLine description;
+    private ContentLine location;
+    private ContentLine categories;
+    private ContentLine start;
+    private ContentLine end;
+    private ContentLine duration;
+    private ContentLine rule;
+    private final List<ContentLine> exceptionDates = new ArrayList<>();
+
+    EventRecord(int lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Keeps {@code property} if it is one that is read. Of properties that an event may have only one of, the first
+     * is kept.
+     */
+    void setProperty(ContentLine property) {
+        requireNonNull(property);
+        switch (property.getName()) {
+        case "SUMMARY":
+            summary = summary != null ? summary : property;
+            break;
+
+        case "DESCRIPTION":
+            description = description != null ? description : property;
+            break;
+
+        case "LOCATION":
+            location = location != null ? location : property;
+            break;
+
+        case "CATEGORIES":
+            categories = categories != null ? categories : property;
+            break;
+
+        case "DTSTART":
+            start = start != null ? start : property;
+            break;
+
+        case "DTEND":
+            end = end != null ? end : property;
+            break;
+
+        case "DURATION":
+            duration = duration != null ? duration : property;
+            break;
+
+        case "RRULE":
+            rule = rule != null ? rule : property;
+            break;
+
+        case "EXDATE":
+            exceptionDates.add(property);
+            break;
+
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Converts this record into the events it stands for, with times in {@code zone}. A rule that has no end is
+     * expanded only into the occurrences from {@code windowStart} to {@code windowEnd}, besides the first.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    Expansion toModelType(ZoneId zone, LocalDate windowStart, LocalDate windowEnd) throws IllegalValueException {
+        if (summary == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PROPERTY, "SUMMARY"));
+        }
+        if (start == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PROPERTY, "DTSTART"));
+        }
+        boolean isAllDay = isDate(start);
+        LocalDateTime startTime = toLocalDateTime(start, zone);
+        LocalDateTime endTime = getEndTime(startTime, isAllDay, zone);
+        if (endTime.isBefore(startTime)) {
+            throw new IllegalValueException(MESSAGE_END_BEFORE_START);
+        }
+        Event first = toEvent(startTime, endTime, null);
+        if (rule == null) {
+            return new Expansion(Collections.singletonList(first), false);
+        }
+
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rule.getValue().split(";")) {
+            int equals = part.indexOf('=');
+            if (equals > 0) {
+                parts.put(part.substring(0, equals).trim().toUpperCase(Locale.ROOT), part.substring(equals + 1).trim());
+            }
+        }
+        String frequency = parts.getOrDefault("FREQ", "").toUpperCase(Locale.ROOT);
+        Optional<List<DayOfWeek>> byDay = getDays(parts.get("BYDAY"));
+        boolean isSimple = parts.keySet().stream().allMatch(SIMPLE_RULE_PARTS::contains)
+                && Arrays.asList("DAILY", "WEEKLY", "MONTHLY", "YEARLY").contains(frequency)
+                && byDay.isPresent() && (byDay.get().isEmpty() || frequency.equals("WEEKLY"));
+        if (!isSimple) {
+            return new Expansion(Collections.singletonList(first), true);
+        }
+        List<DayOfWeek> days = byDay.get();
+
+        int interval;
+        Integer count;
+        LocalDateTime until;
+        SortedSet<LocalDate> exceptions = new TreeSet<>();
+        try {
+            interval = Integer.parseInt(parts.getOrDefault("INTERVAL", "1"));
+            count = parts.containsKey("COUNT") ? Integer.valueOf(parts.get("COUNT")) : null;
+            until = parts.containsKey("UNTIL") ? toUntil(parts.get("UNTIL"), zone) : null;
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_RULE);
+        }
+        if (interval < 1 || (count != null && count < 1)) {
+            throw new IllegalValueException(MESSAGE_INVALID_RULE);
+        }
+        for (ContentLine exceptionDate : exceptionDates) {
+            for (String value : exceptionDate.getValue().split(",")) {
+                exceptions.add(toLocalDateTime(exceptionDate, value.trim(), zone).toLocalDate());
+            }
+        }
+
+        Optional<String> recurrence = toRecurrenceFrequency(frequency, interval, days, startTime.getDayOfWeek());
+        if (recurrence.isPresent()) {
+            return new Expansion(Collections.singletonList(toRepeatingEvent(startTime, endTime, recurrence.get(),
+                    count, until, exceptions, windowEnd)), false);
+        }
+        return expand(first, startTime, endTime, new Rule(frequency, interval, days, count, until, exceptions),
+                windowStart, windowEnd);
+    }
+
+    /**
+     * Returns the end of the event, which is given by its end or its duration. An event with neither lasts a day if it
+     * lasts all day, and no time otherwise. An event that lasts all day ends the second before its end.
+     */
+    private LocalDateTime getEndTime(LocalDateTime startTime, boolean isAllDay, ZoneId zone)
+            throws IllegalValueException {
+        LocalDateTime endTime;
+        if (end != null) {
+            endTime = toLocalDateTime(end, zone);
+        } else if (duration != null) {
+            endTime = startTime.plus(toDuration(duration.getValue().trim()));
+        } else {
+            endTime = isAllDay ? startTime.plusDays(1) : startTime;
+        }
+        return isAllDay && endTime.isAfter(startTime) ? endTime.minusSeconds(1) : endTime;
+    }
+
+    private static Duration toDuration(String value) throws IllegalValueException {
+        try {
+            boolean isNegative = value.startsWith("-");
+            String unsigned = value.startsWith("-") || value.startsWith("+") ? value.substring(1) : value;
+            Matcher weeks = WEEKS.matcher(unsigned);
+            Duration parsed = weeks.matches()
+                    ? Duration.ofDays(7 * Long.parseLong(weeks.group(1)))
+                    : Duration.parse(unsigned);
+            return isNegative ? parsed.negated() : parsed;
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TIME, "DURATION"));
+        }
+    }
+
+    /**
+     * Returns the event that repeats at {@code frequency} until the end of the rule, or until {@code windowEnd} if the
+     * rule has no end.
+     */
+    private Event toRepeatingEvent(LocalDateTime startTime, LocalDateTime endTime, String frequency, Integer count,
+            LocalDateTime until, SortedSet<LocalDate> exceptions, LocalDate windowEnd) throws IllegalValueException {
+        LocalDate startDate = startTime.toLocalDate();
+        LocalDate lastDate;
+        if (until != null) {
+            // the last occurrence starts on or before the until time.
+            lastDate = until.toLocalTime().isBefore(startTime.toLocalTime())
+                    ? until.toLocalDate().minusDays(1)
+                    : until.toLocalDate();
+        } else if (count != null) {
+            long stepDays = frequency.equals(Recurrence.DAILY) ? 1 : frequency.equals(Recurrence.WEEKLY) ? 7 : 14;
+            lastDate = startDate.plusDays((count - 1) * stepDays);
+        } else {
+            lastDate = windowEnd.isAfter(startDate) ? windowEnd : startDate;
+        }
+        if (lastDate.isBefore(startDate)) {
+            return toEvent(startTime, endTime, null);
+        }
+        SortedSet<LocalDate> skipped = exceptions.subSet(startDate, lastDate.plusDays(1));
+        String repeat = frequency + " until " + lastDate + (skipped.isEmpty() ? "" : " except "
+                + skipped.stream().map(LocalDate::toString).collect(Collectors.joining(" ")));
+        return toEvent(startTime, endTime, repeat);
+    }
+
+    /**
+     * Expands {@code rule} into one event per occurrence, starting with {@code first}.
+     */
+    private static Expansion expand(Event first, LocalDateTime startTime, LocalDateTime endTime, Rule rule,
+            LocalDate windowStart, LocalDate windowEnd) {
+        Duration length = Duration.between(startTime, endTime);
+        boolean hasEnd = rule.count != null || rule.until != null;
+        List<Event> events = new ArrayList<>();
+        if (!rule.exceptions.contains(startTime.toLocalDate())) {
+            events.add(first);
+        }
+        int occurrenceCount = 1;
+        for (long period = 0; ; period++) {
+            for (LocalDateTime occurrence : rule.getOccurrences(startTime, period)) {
+                if (!occurrence.isAfter(startTime)) {
+                    continue;
+                }
+                occurrenceCount++;
+                if ((rule.count != null && occurrenceCount > rule.count)
+                        || (rule.until != null && occurrence.isAfter(rule.until))
+                        || (!hasEnd && occurrence.toLocalDate().isAfter(windowEnd))) {
+                    return new Expansion(events, false);
+                }
+                if (rule.exceptions.contains(occurrence.toLocalDate())
+                        || (!hasEnd && occurrence.toLocalDate().isBefore(windowStart))) {
+                    continue;
+                }
+                if (events.size() == MAX_OCCURRENCES) {
+                    return new Expansion(events, true);
+                }
+                events.add(new Event(first.getName(), first.getDescription(), first.getVenue(),
+                        new DateTime(occurrence.format(DateTime.DATE_TIME_FORMATTER)),
+                        new DateTime(occurrence.plus(length).format(DateTime.DATE_TIME_FORMATTER)), first.getLabel()));
+            }
+        }
+    }
+
+    /**
+     * Returns the frequency of a {@code Recurrence} that repeats as the rule does, if there is one.
+     */
+    private static Optional<String> toRecurrenceFrequency(String frequency, int interval, List<DayOfWeek> days,
+            DayOfWeek startDay) {
+        if (!days.isEmpty() && !days.equals(Collections.singletonList(startDay))) {
+            return Optional.empty();
+        }
+        int stepDays = frequency.equals("DAILY") && days.isEmpty() ? interval
+                : frequency.equals("WEEKLY") ? 7 * interval
+                : 0;
+        switch (stepDays) {
+        case 1:
+            return Optional.of(Recurrence.DAILY);
+
+        case 7:
+            return Optional.of(Recurrence.WEEKLY);
+
+        case 14:
+            return Optional.of(Recurrence.FORTNIGHTLY);
+
+        default:
+            break;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the days of the week in {@code byDay}, which are none if {@code byDay} is null, or
+     * {@code Optional.empty()} if one of them is not a plain day of the week. Days with an ordinal, such as "1MO" for
+     * the first Monday of a month, are not expanded.
+     */
+    private static Optional<List<DayOfWeek>> getDays(String byDay) {
+        if (byDay == null) {
+            return Optional.of(Collections.emptyList());
+        }
+        List<DayOfWeek> days = new ArrayList<>();
+        for (String day : byDay.split(",")) {
+            DayOfWeek dayOfWeek = DAYS.get(day.trim().toUpperCase(Locale.ROOT));
+            if (dayOfWeek == null) {
+                return Optional.empty();
+            }
+            days.add(dayOfWeek);
+        }
+        return Optional.of(days);
+    }
+
+    private Event toEvent(LocalDateTime startTime, LocalDateTime endTime, String repeat)
+            throws IllegalValueException {
+        String name = NOT_ALPHANUMERIC.matcher(ContentLineReader.unescape(summary.getValue())).replaceAll(" ").trim();
+        String label = categories == null ? ""
+                : NOT_ALPHANUMERIC.matcher(ContentLineReader.split(categories.getValue(), ',').get(0)).replaceAll("");
+        return new JsonAdaptedEvent(name, toText(description, DEFAULT_DESCRIPTION), toText(location, DEFAULT_VENUE),
+                startTime.format(DateTime.DATE_TIME_FORMATTER), endTime.format(DateTime.DATE_TIME_FORMATTER),
+                label.isEmpty() ? DEFAULT_LABEL : label, repeat, Collections.emptyList())
+                .toModelType(Collections.emptyMap());
+    }
+
+    /**
+     * Returns the text of {@code property} on one line, or {@code defaultText} if there is no text.
+     */
+    private static String toText(ContentLine property, String defaultText) {
+        String text = property == null ? ""
+                : WHITESPACE.matcher(ContentLineReader.unescape(property.getValue())).replaceAll(" ").trim();
+        return text.isEmpty() ? defaultText : text;
+    }
+
+    private static boolean isDate(ContentLine property) {
+        return property.getParameter("VALUE").map(value -> value.equalsIgnoreCase("DATE")).orElse(false)
+                || property.getValue().trim().indexOf('T') < 0;
+    }
+
+    private static LocalDateTime toLocalDateTime(ContentLine property, ZoneId zone) throws IllegalValueException {
+        return toLocalDateTime(property, property.getValue().trim(), zone);
+    }
+
+    /**
+     * Returns {@code value}, a date or a time of {@code property}, as a time in {@code zone}. A date is read as the
+     * start of the day. A time is in UTC if it ends with Z, in the time zone of the property if it names one that is
+     * known, and in {@code zone} otherwise.
+     */
+    private static LocalDateTime toLocalDateTime(ContentLine property, String value, ZoneId zone)
+            throws IllegalValueException {
+        try {
+            if (value.indexOf('T') < 0) {
+                return LocalDate.parse(value, DATE_FORMATTER).atStartOfDay();
+            }
+            boolean isUtc = value.endsWith("Z") || value.endsWith("z");
+            LocalDateTime time = LocalDateTime.parse(isUtc ? value.substring(0, value.length() - 1) : value,
+                    DATE_TIME_FORMATTER);
+            Optional<ZoneId> timeZone = isUtc ? Optional.of(ZoneOffset.UTC)
+                    : property.getParameter("TZID").flatMap(EventRecord::toZoneId);
+            return timeZone.isPresent()
+                    ? time.atZone(timeZone.get()).withZoneSameInstant(zone).toLocalDateTime()
+                    : time;
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TIME, property.getName()));
+        }
+    }
+
+    /**
+     * Returns the time of the UNTIL part of the rule. A date is read as the end of the day. A time that is not in UTC
+     * is in the time zone of the start of the event.
+     */
+    private LocalDateTime toUntil(String value, ZoneId zone) throws IllegalValueException {
+        if (value.indexOf('T') < 0) {
+            return LocalDate.parse(value, DATE_FORMATTER).atStartOfDay().plusDays(1).minusSeconds(1);
+        }
+        return toLocalDateTime(start, value, zone);
+    }
+
+    /**
+     * Returns the time zone named {@code timeZoneId}, if it is one that is known.
+     * Names that are not known, such as those of Windows, are read as the local time zone.
+     */
+    private static Optional<ZoneId> toZoneId(String timeZoneId) {
+        try {
+            return Optional.of(ZoneId.of(timeZoneId.startsWith("/") ? timeZoneId.substring(1) : timeZoneId));
+        } catch (DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A simple rule that is expanded into its occurrences.
+     */
+    private static class Rule {
+        private final String frequency;
+        private final int interval;
+        private final List<DayOfWeek> days;
+        private final Integer count;
+        private final LocalDateTime until;
+        private final SortedSet<LocalDate> exceptions;
+
+        private Rule(String frequency, int interval, List<DayOfWeek> days, Integer count, LocalDateTime until,
+                SortedSet<LocalDate> exceptions) {
+            this.frequency = frequency;
+            this.interval = interval;
+            this.days = days;
+            this.count = count;
+            this.until = until;
+            this.exceptions = exceptions;
+        }
+
+        /**
+         * Returns the occurrences, in ascending order, in the {@code period}-th period of the rule that starts at
+         * {@code startTime}. Weeks start on Monday. Months and years without the day of the month of
+         * {@code startTime}, such as a 31st of April, have no occurrence.
+         */
+        private List<LocalDateTime> getOccurrences(LocalDateTime startTime, long period) {
+            long step = period * interval;
+            switch (frequency) {
+            case "DAILY":
+                return Collections.singletonList(startTime.plusDays(step));
+
+            case "WEEKLY":
+                if (days.isEmpty()) {
+                    return Collections.singletonList(startTime.plusWeeks(step));
+                }
+                LocalDateTime weekStart = startTime.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                        .plusWeeks(step);
+                return days.stream().sorted().map(day -> weekStart.plusDays(day.ordinal()))
+                        .collect(Collectors.toList());
+
+            case "MONTHLY":
+                LocalDateTime month = startTime.plusMonths(step);
+                return month.getDayOfMonth() == startTime.getDayOfMonth()
+                        ? Collections.singletonList(month)
+                        : Collections.emptyList();
+
+            case "YEARLY":
+                LocalDateTime year = startTime.plusYears(step);
+                return year.getDayOfMonth() == startTime.getDayOfMonth()
+                        ? Collections.singletonList(year)
+                        : Collections.emptyList();
+
+            default:
+                break;
+            }
+            throw new IllegalStateException("Unknown frequency " + frequency);
+        }
+    }
+
+    /**
+     * The events that a record stands for, and whether some of the occurrences of its rule are left out.
+     */
+    static class Expansion {
+        private final List<Event> events;
+        private final boolean isPartial;
+
+        private Expansion(List<Event> events, boolean isPartial) {
+            this.events = events;
+            this.isPartial = isPartial;
+        }
+
+        List<Event> getEvents() {
+            return events;
+        }
+
+        /**
+         * Returns true if the rule of the record could not be expanded, or has more than {@code MAX_OCCURRENCES}
+         * occurrences, and only some of its occurrences are kept.
+         */
+        boolean isPartial() {
+            return isPartial;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A format that address book data can be exported to, named by the extension of the exported file.
+ * Contacts can also be imported from the {@code CSV} and {@code VCARD} formats, see {@link ContactImporter}, and
+ * events from the {@code ICALENDAR} format, see {@link EventImporter}.
+ */
+public enum ExportFormat {
+    /** Persons, events and reminders, in the format of the data file. */
+    JSON(".json"),
+    /** Persons only, one per row. */
+    CSV(".csv"),
+    /** Persons only, as vCard 3.0 contacts. */
+    VCARD(".vcf"),
+    /** Events only, as iCalendar events. */
+    ICALENDAR(".ics");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns the format named by the extension of {@code fileName}, or {@code Optional.empty()} if it has none of
+     * the extensions of the formats. Extensions are not case sensitive.
+     */
+    public static Optional<ExportFormat> ofFileName(String fileName) {
+        requireNonNull(fileName);
+        String lowerCaseName = fileName.toLowerCase();
+        return Stream.of(values()).filter(format -> lowerCaseName.endsWith(format.extension)).findFirst();
+    }
+}
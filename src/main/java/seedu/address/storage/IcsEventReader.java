@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.storage.ContentLineReader.ContentLine;
+
+/**
+ * Reads events from an .ics file of iCalendar data, one VEVENT at a time.
+ *
+ * Only the properties of an event that {@code EventRecord} reads are kept. Components within an event, such as
+ * alarms, are skipped, so that their properties are not taken for those of the event.
+ */
+class IcsEventReader {
+
+    private final ContentLineReader in;
+
+    IcsEventReader(BufferedReader in) throws IOException {
+        requireNonNull(in);
+        this.in = new ContentLineReader(in);
+    }
+
+    /**
+     * Returns the next event, or {@code Optional.empty()} at the end of the file.
+     * An event that is not ended by the end of the file is still read.
+     */
+    Optional<EventRecord> next() throws IOException {
+        Optional<ContentLine> line;
+        do {
+            line = in.next();
+            if (!line.isPresent()) {
+                return Optional.empty();
+            }
+        } while (!line.get().isBeginOf("VEVENT"));
+
+        EventRecord record = new EventRecord(line.get().getLineNumber());
+        List<String> nestedComponents = new ArrayList<>();
+        while ((line = in.next()).isPresent() && !(nestedComponents.isEmpty() && line.get().isEndOf("VEVENT"))) {
+            ContentLine property = line.get();
+            if (property.getName().equals("BEGIN")) {
+                nestedComponents.add(property.getValue().trim());
+            } else if (!nestedComponents.isEmpty()) {
+                if (property.isEndOf(nestedComponents.get(nestedComponents.size() - 1))) {
+                    nestedComponents.remove(nestedComponents.size() - 1);
+                }
+            } else {
+                record.setProperty(property);
+            }
+        }
+        return Optional.of(record);
+    }
+}
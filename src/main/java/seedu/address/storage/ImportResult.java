@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of an import from a file written by another application: the new records, in the order of the file,
+ * and what was left out.
+ *
+ * Only the errors of the first {@code MAX_REPORTED_ERRORS} invalid records are kept, so that a file of bad records
+ * does not fill the memory, while all of them are counted.
+ */
+public class ImportResult<T> {
+
+    /** Number of invalid records whose errors are kept. */
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    private final List<T> imported = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private int duplicateCount;
+    private int invalidCount;
+
+    /**
+     * Returns the new records, in the order of the file.
+     */
+    public List<T> getImported() {
+        return Collections.unmodifiableList(imported);
+    }
+
+    public int getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Returns the errors of the first {@code MAX_REPORTED_ERRORS} invalid records, each starting with the line the
+     * record starts on.
+     */
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    void addImported(T record) {
+        imported.add(record);
+    }
+
+    void addDuplicate() {
+        duplicateCount++;
+    }
+
+    void addError(int lineNumber, String error) {
+        invalidCount++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add("Line " + lineNumber + ": " + error);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot on the hard disk, together with a journal of the
+ * changes made since the snapshot was written.
+ *
+ * Each save appends to the journal only the part of each list that changed since the last save. As the model replaces
+ * rather than modifies the persons, events and reminders it changes, that part is found by comparing the lists by
+ * identity from both ends. Once the journal grows past {@code COMPACTION_THRESHOLD_BYTES}, the snapshot is written
+ * again and the journal is emptied. Journal records are numbered and the snapshot keeps the number of the last record
+ * it includes, so that no record is applied twice if the app stops between writing the snapshot and emptying the
+ * journal. A journal found on reading is folded into the snapshot on the next save.
+ */
+public class JournaledAddressBookStorage extends JsonAddressBookStorage {
+
+    static final long COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path journalFilePath;
+    private long sequence;
+    private long journalBytes;
+    /** Lists as of the last save or read, or null if the snapshot is to be written on the next save. */
+    private List<Person> savedPersons;
+    private List<Event> savedEvents;
+    private List<SavedReminder> savedReminders;
+    private boolean hasReadOrSaved;
+
+    public JournaledAddressBookStorage(Path addressBookFilePath) {
+        this(addressBookFilePath, true);
+    }
+
+    public JournaledAddressBookStorage(Path addressBookFilePath, boolean isPrettyPrinted) {
+        this(addressBookFilePath, isPrettyPrinted, false);
+    }
+
+    public JournaledAddressBookStorage(Path addressBookFilePath, boolean isPrettyPrinted, boolean isCompressed) {
+        super(addressBookFilePath, isPrettyPrinted, isCompressed);
+        journalFilePath = toJournalFilePath(addressBookFilePath);
+    }
+
+    /**
+     * Returns the path of the journal kept next to the data file at {@code addressBookFilePath}.
+     */
+    public static Path toJournalFilePath(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + ".journal");
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Similar to {@link JsonAddressBookStorage#readAddressBook(Path)}.
+     * The journal is only read for the data file of this storage.
+     * A read that finds the data file as it was last saved or read, such as a check for changes made by other
+     * programs, keeps the lists last saved, so that the next save still finds the unchanged items of the model.
+     * A later read that finds other changes makes the next save write the snapshot, as the model does not hold the
+     * items read.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return super.readAddressBook(filePath);
+        }
+
+        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        if (!jsonAddressBook.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            sequence = jsonAddressBook.get().getJournalSequence();
+            replayJournal(jsonAddressBook.get());
+            AddressBook addressBook = jsonAddressBook.get().toModelType();
+            if (isLastSaved(addressBook)) {
+                // the items read are equal to, but not the same objects as, those the next save is compared with.
+                return Optional.of(addressBook);
+            }
+            if (journalBytes == 0 && !hasReadOrSaved) {
+                remember(addressBook);
+            } else {
+                // the journal read here is folded into the snapshot on the next save.
+                forget();
+            }
+            hasReadOrSaved = true;
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (NoSuchElementException nse) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the address book in full, as the journal may change any part of it.
+     */
+    @Override
+    public Optional<LazyAddressBook> readAddressBookLazily(Executor executor) throws DataConversionException {
+        return readAddressBook().map(LazyAddressBook::ofLoaded);
+    }
+
+    /**
+     * Applies the records of the journal that are not yet in {@code addressBook}.
+     * A last record that was only partly written, as the app stopped, is ignored.
+     */
+    private void replayJournal(JsonSerializableAddressBook addressBook) throws IOException, IllegalValueException {
+        journalBytes = 0;
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            JsonJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonJournalRecord.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring partly written journal record: " + ioe);
+                    break;
+                }
+                throw ioe;
+            }
+            if (record.getSequence() > sequence) {
+                record.applyTo(addressBook);
+                sequence = record.getSequence();
+            }
+        }
+        journalBytes = Files.size(journalFilePath);
+    }
+
+    /**
+     * Similar to {@link JsonAddressBookStorage#saveAddressBook(ReadOnlyAddressBook, Path)}.
+     * Only the data file of this storage is journaled; other files are written in full.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        if (savedPersons == null || journalBytes >= COMPACTION_THRESHOLD_BYTES) {
+            writeSnapshot(addressBook);
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        Splice<Person> persons = Splice.between(savedPersons, addressBook.getPersonList(), (a, b) -> a == b);
+        if (persons != null) {
+            appendRecord(records, new JsonJournalRecord(++sequence, JsonJournalRecord.PERSONS, persons.from,
+                    persons.removed, adapt(persons.added, JsonAdaptedPerson::new), null, null));
+        }
+        Splice<Event> events = Splice.between(savedEvents, addressBook.getEventList(), (a, b) -> a == b);
+        if (events != null) {
+            appendRecord(records, new JsonJournalRecord(++sequence, JsonJournalRecord.EVENTS, events.from,
+                    events.removed, null, adapt(events.added, JsonAdaptedEvent::new), null));
+        }
+        Splice<Reminder> reminders = Splice.between(savedReminders, addressBook.getReminderList(),
+                SavedReminder::isSavedStateOf);
+        if (reminders != null) {
+            appendRecord(records, new JsonJournalRecord(++sequence, JsonJournalRecord.REMINDERS, reminders.from,
+                    reminders.removed, null, null, adapt(reminders.added, JsonAdaptedReminder::new)));
+        }
+        if (records.length() > 0) {
+            byte[] bytes = records.toString().getBytes(StandardCharsets.UTF_8);
+            Files.write(journalFilePath, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            journalBytes += bytes.length;
+        }
+        remember(addressBook);
+    }
+
+    private static void appendRecord(StringBuilder records, JsonJournalRecord record) throws IOException {
+        records.append(JsonUtil.toJsonLine(record)).append('\n');
+    }
+
+    private static <T, A> List<A> adapt(List<T> items, Function<T, A> adapter) {
+        return items.stream().map(adapter).collect(Collectors.toList());
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} as the snapshot, then empties the journal.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook);
+        snapshot.setJournalSequence(sequence);
+        FileUtil.createIfMissing(getAddressBookFilePath());
+        JsonUtil.saveJsonFile(snapshot, getAddressBookFilePath(), isPrettyPrinted(), isCompressed());
+        Files.deleteIfExists(journalFilePath);
+        journalBytes = 0;
+        remember(addressBook);
+    }
+
+    /**
+     * Returns true if {@code addressBook} holds the same persons, events and reminders as were last saved or read.
+     */
+    private boolean isLastSaved(ReadOnlyAddressBook addressBook) {
+        if (savedPersons == null || !savedPersons.equals(addressBook.getPersonList())
+                || !savedEvents.equals(addressBook.getEventList())) {
+            return false;
+        }
+        List<Reminder> reminders = addressBook.getReminderList();
+        if (savedReminders.size() != reminders.size()) {
+            return false;
+        }
+        for (int i = 0; i < reminders.size(); i++) {
+            if (!savedReminders.get(i).isSavedAs(reminders.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void forget() {
+        savedPersons = null;
+        savedEvents = null;
+        savedReminders = null;
+    }
+
+    private void remember(ReadOnlyAddressBook addressBook) {
+        hasReadOrSaved = true;
+        savedPersons = new ArrayList<>(addressBook.getPersonList());
+        savedEvents = new ArrayList<>(addressBook.getEventList());
+        savedReminders = adapt(addressBook.getReminderList(), SavedReminder::new);
+    }
+
+    /**
+     * The part of a list that changed between two saves: {@code removed} items starting at {@code from} were replaced
+     * by {@code added}.
+     */
+    private static class Splice<T> {
+        private final int from;
+        private final int removed;
+        private final List<T> added;
+
+        private Splice(int from, int removed, List<T> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        /**
+         * Returns the change from {@code saved} to {@code current}, or null if there is none.
+         * All items that differ lie between the longest common prefix and the longest common suffix of the lists, where
+         * items are the same if {@code isSame} holds for them.
+         */
+        static <S, T> Splice<T> between(List<S> saved, List<T> current, BiPredicate<S, T> isSame) {
+            int shorter = Math.min(saved.size(), current.size());
+            int prefix = 0;
+            while (prefix < shorter && isSame.test(saved.get(prefix), current.get(prefix))) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < shorter - prefix
+                    && isSame.test(saved.get(saved.size() - 1 - suffix), current.get(current.size() - 1 - suffix))) {
+                suffix++;
+            }
+            int removed = saved.size() - prefix - suffix;
+            List<T> added = current.subList(prefix, current.size() - suffix);
+            if (removed == 0 && added.isEmpty()) {
+                return null;
+            }
+            return new Splice<>(prefix, removed, added);
+        }
+    }
+
+    /**
+     * A reminder together with whether it was shown when it was saved, as reminders are shown and hidden in place.
+     */
+    private static class SavedReminder {
+        private final Reminder reminder;
+        private final boolean show;
+        private final boolean notShow;
+
+        SavedReminder(Reminder reminder) {
+            this.reminder = reminder;
+            this.show = reminder.getShow();
+            this.notShow = reminder.getNotShow();
+        }
+
+        /**
+         * Returns true if {@code current} is the reminder saved, and is shown as it was when saved.
+         */
+        boolean isSavedStateOf(Reminder current) {
+            return reminder == current && show == current.getShow() && notShow == current.getNotShow();
+        }
+
+        /**
+         * Returns true if {@code read} is equal to the reminder saved, and is shown as it was when saved.
+         */
+        boolean isSavedAs(Reminder read) {
+            return reminder.equals(read) && show == read.getShow() && notShow == read.getNotShow();
+        }
+    }
+}
@@ -1,30 +1,46 @@
 package seedu.address.storage;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Description;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.Label;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Venue;
+import seedu.address.model.person.Person;
 
 
 /**
  * Jackson-friendly version of {@link Event}.
+ * Participants are stored by the ids of {@link JsonAdaptedPerson#toId(Person)}.
  */
 class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedEvent.class);
+
     private final String name;
     private final String description;
     private final String venue;
     private final String startTime;
     private final String endTime;
     private final String label;
+    private final String repeat;
+    private final List<String> participants = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
@@ -35,13 +51,19 @@ class JsonAdaptedEvent {
                              @JsonProperty("email") String venue,
                              @JsonProperty("address") String startTime,
                              @JsonProperty("photo") String endTime,
-                             @JsonProperty("tagged") String label) {
+                             @JsonProperty("tagged") String label,
+                             @JsonProperty("repeat") String repeat,
+                             @JsonProperty("participants") List<String> participants) {
         this.name = name;
         this.description = description;
         this.venue = venue;
         this.startTime = startTime;
         this.endTime = endTime;
         this.label = label;
+        this.repeat = repeat;
+        if (participants != null) {
+            this.participants.addAll(participants);
+        }
     }
 
 
@@ -55,15 +77,34 @@ class JsonAdaptedEvent {
         startTime = event.getStartDateTime().value;
         endTime = event.getEndDateTime().value;
         label = event.getLabel().getLabelName();
+        repeat = event.getRecurrence().map(recurrence -> recurrence.value).orElse(null);
+        // sorted, so that the same event is always written the same way.
+        participants.addAll(event.getPersons().stream()
+                .map(JsonAdaptedPerson::toId)
+                .sorted()
+                .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the id by which reminders refer to {@code event} in storage.
+     * No two events in an address book share a name, venue, start and end, so the id is unique within it. The venue,
+     * which may hold any character, comes last so that the id cannot be read in two ways.
+     */
+    static String toId(Event event) {
+        return event.getStartDateTime().value + JsonAdaptedPerson.ID_SEPARATOR
+                + event.getEndDateTime().value + JsonAdaptedPerson.ID_SEPARATOR
+                + event.getName().fullName + JsonAdaptedPerson.ID_SEPARATOR
+                + event.getVenue().value;
+    }
 
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Event} object.
+     * Participants are looked up in {@code personsById}; those that are not found, as they were deleted after they
+     * joined the event, are left out.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
-    public Event toModelType() throws IllegalValueException {
+    public Event toModelType(Map<String, Person> personsById) throws IllegalValueException {
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -116,8 +157,27 @@ class JsonAdaptedEvent {
         }
         final Label modelLabel = new Label(label);
 
+        final Set<Person> modelPersons = new HashSet<>();
+        for (String participant : participants) {
+            Person person = personsById.get(participant);
+            if (person == null) {
+                logger.warning("Leaving out unknown participant " + participant + " of event " + name);
+                continue;
+            }
+            modelPersons.add(person);
+        }
+
+        if (repeat == null) {
+            return new Event(modelName, modelDescription, modelVenue, modelStartTime, modelEndTime, modelLabel,
+                    modelPersons);
+        }
+        if (!Recurrence.isValidRecurrence(repeat)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        final Recurrence modelRecurrence = new Recurrence(repeat);
 
-        return new Event(modelName, modelDescription, modelVenue, modelStartTime, modelEndTime, modelLabel);
+        return new Event(modelName, modelDescription, modelVenue, modelStartTime, modelEndTime, modelLabel,
+                modelPersons, modelRecurrence);
     }
 
 }
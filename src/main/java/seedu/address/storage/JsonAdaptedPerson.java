@@ -23,6 +23,8 @@ import seedu.address.model.tag.Tag;
  */
 class JsonAdaptedPerson {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    /** Separates the fields of an id, and is not allowed in any of them but the last. */
+    static final String ID_SEPARATOR = "/";
     private Photo modelPhoto;
     private final String name;
     private final String phone;
@@ -65,6 +67,15 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the id by which events refer to {@code person} in storage.
+     * No two persons in an address book share both a name and a phone number, so the id is unique within it. It stays
+     * the same for as long as those fields do.
+     */
+    static String toId(Person person) {
+        return person.getName().fullName + ID_SEPARATOR + person.getPhone().value;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
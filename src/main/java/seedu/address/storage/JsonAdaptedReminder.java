@@ -1,15 +1,17 @@
 package seedu.address.storage;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.event.DateTime;
-import seedu.address.model.event.Description;
 import seedu.address.model.event.Event;
-import seedu.address.model.event.Label;
-import seedu.address.model.event.Name;
-import seedu.address.model.event.Venue;
 import seedu.address.model.reminder.Interval;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.model.reminder.Unit;
@@ -17,29 +19,32 @@ import seedu.address.model.reminder.Unit;
 
 /**
  * Jackson-friendly version of {@link Reminder}.
+ * The event is stored by the id of {@link JsonAdaptedEvent#toId(Event)}. Reminders saved before then, which hold a
+ * copy of the fields of their event, can still be read.
  */
 public class JsonAdaptedReminder {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
 
-    private final String nameE;
-    private final String descriptionE;
-    private final String venueE;
-    private final String startTimeE;
-    private final String endTimeE;
-    private final String labelE;
-    //private final Event event;
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedReminder.class);
+
+    private final String event;
     private final String message;
     private final String remindTime;
     private final String unit;
     private final boolean show;
     private final boolean notShow;
+    /** Copy of the event, for a reminder saved before reminders referred to their event by id. */
+    @JsonIgnore
+    private final JsonAdaptedEvent copiedEvent;
 
     /**
      * Constructs a {@code JsonAdaptedReminder} with the given reminder details.
+     * The fields of the event are only given for a reminder saved before reminders referred to their event by id.
      */
     @JsonCreator
-    public JsonAdaptedReminder(@JsonProperty("nameE") String nameE,
+    public JsonAdaptedReminder(@JsonProperty("event") String event,
+                            @JsonProperty("nameE") String nameE,
                             @JsonProperty("phoneE") String descriptionE,
                             @JsonProperty("emailE") String venueE,
                             @JsonProperty("addressE") String startTimeE,
@@ -47,13 +52,12 @@ public class JsonAdaptedReminder {
                             @JsonProperty("taggedE") String labelE,
                             @JsonProperty("message") String message,
                             @JsonProperty("show") boolean show, @JsonProperty("notShow") boolean notShow,
-                            @JsonProperty("remindTime") String interval, @JsonProperty("unit") String unit) {
-        this.nameE = nameE;
-        this.descriptionE = descriptionE;
-        this.venueE = venueE;
-        this.startTimeE = startTimeE;
-        this.endTimeE = endTimeE;
-        this.labelE = labelE;
+                            @JsonProperty("remindTime") String interval, @JsonProperty("unit") String unit,
+                            @JsonProperty("repeatE") String repeatE) {
+        this.event = event;
+        this.copiedEvent = event == null
+                ? new JsonAdaptedEvent(nameE, descriptionE, venueE, startTimeE, endTimeE, labelE, repeatE, null)
+                : null;
         this.message = message;
         this.remindTime = interval;
         this.unit = unit;
@@ -66,12 +70,8 @@ public class JsonAdaptedReminder {
      * Converts a given {@code Reminder} into this class for Jackson use.
      */
     public JsonAdaptedReminder(Reminder reminder) {
-        nameE = reminder.getEvent().getName().fullName;
-        descriptionE = reminder.getEvent().getDescription().value;
-        venueE = reminder.getEvent().getVenue().value;
-        startTimeE = reminder.getEvent().getStartDateTime().value;
-        endTimeE = reminder.getEvent().getEndDateTime().value;
-        labelE = reminder.getEvent().getLabel().getLabelName();
+        event = JsonAdaptedEvent.toId(reminder.getEvent());
+        copiedEvent = null;
         message = reminder.getMessage();
         remindTime = reminder.getInterval().getIntervalInt();
         show = reminder.getShow();
@@ -82,61 +82,22 @@ public class JsonAdaptedReminder {
 
     /**
      * Converts this Jackson-friendly adapted reminder object into the model's {@code Reminder} object.
+     * The event is looked up in {@code eventsById}. A reminder of an event that is not found, as in files saved
+     * before reminders were deleted together with their event, is left out.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted reminder.
      */
-    public Reminder toModelType() throws IllegalValueException {
-
-        if (nameE == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
-        }
-        if (!Name.isValidName(nameE)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelNameE = new Name(nameE);
-
-        if (descriptionE == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Description.class.getSimpleName()));
-        }
-        if (!Description.isValidDescription(descriptionE)) {
-            throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
-        }
-        final Description modelDescription = new Description(descriptionE);
-
-        if (venueE == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Venue.class.getSimpleName()));
-        }
-        if (!Venue.isValidVenue(venueE)) {
-            throw new IllegalValueException(Venue.MESSAGE_CONSTRAINTS);
-        }
-        final Venue modelVenue = new Venue(venueE);
-
-        if (startTimeE == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    DateTime.class.getSimpleName()));
-        }
-        if (!DateTime.isValidDateTime(startTimeE)) {
-            throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
-        }
-        final DateTime modelStartTime = new DateTime(startTimeE);
-
-        if (endTimeE == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    DateTime.class.getSimpleName()));
-        }
-        if (!DateTime.isValidDateTime(endTimeE)) {
-            throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
-        }
-        final DateTime modelEndTime = new DateTime(endTimeE);
-
-        if (labelE == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Label.class.getSimpleName()));
-        }
-        if (!Label.isValidLabelName(labelE)) {
-            throw new IllegalValueException(Label.MESSAGE_CONSTRAINTS);
+    public Optional<Reminder> toModelType(Map<String, Event> eventsById) throws IllegalValueException {
+        final Event modelEvent;
+        if (copiedEvent != null) {
+            modelEvent = copiedEvent.toModelType(Collections.emptyMap());
+        } else {
+            modelEvent = eventsById.get(event);
+            if (modelEvent == null) {
+                logger.warning("Leaving out reminder of unknown event " + event);
+                return Optional.empty();
+            }
         }
-        final Label modelLabel = new Label(labelE);
 
         if (unit == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Unit.class.getSimpleName()));
@@ -144,11 +105,12 @@ public class JsonAdaptedReminder {
         if (!Unit.isValidUnit(unit)) {
             throw new IllegalValueException(Unit.MESSAGE_CONSTRAINTS);
         }
-        final Unit modelunit = new Unit(unit);
 
         //to do in future: add the reminder time
-        Event toAdd = new Event(modelNameE, modelDescription, modelVenue, modelStartTime, modelEndTime, modelLabel);
         Interval toAddInterval = new Interval(remindTime, unit);
-        return new Reminder(toAdd, toAddInterval, "Reminder: You have an Event!");
+        Reminder reminder = new Reminder(modelEvent, toAddInterval, "Reminder: You have an Event!");
+        reminder.setShow(show);
+        reminder.setNotShow(notShow);
+        return Optional.of(reminder);
     }
 }
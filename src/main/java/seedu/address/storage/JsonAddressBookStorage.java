@@ -3,36 +3,71 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonObjectReader;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is parsed and written as a stream, so no copy of the whole file is held in memory.
+ * It may be compressed with gzip, which is recognised when it is read.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path addressBookFilePath;
+    private final boolean isPrettyPrinted;
+    private final boolean isCompressed;
 
     public JsonAddressBookStorage(Path addressBookFilePath) {
+        this(addressBookFilePath, true);
+    }
+
+    public JsonAddressBookStorage(Path addressBookFilePath, boolean isPrettyPrinted) {
+        this(addressBookFilePath, isPrettyPrinted, false);
+    }
+
+    /**
+     * @param isPrettyPrinted whether the file is indented for reading, or written on a single line, which is smaller
+     *                        and quicker to write.
+     * @param isCompressed whether the file is compressed with gzip as it is written.
+     */
+    public JsonAddressBookStorage(Path addressBookFilePath, boolean isPrettyPrinted, boolean isCompressed) {
         this.addressBookFilePath = addressBookFilePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isCompressed = isCompressed;
     }
 
     public Path getAddressBookFilePath() {
         return addressBookFilePath;
     }
 
+    public boolean isPrettyPrinted() {
+        return isPrettyPrinted;
+    }
+
+    public boolean isCompressed() {
+        return isCompressed;
+    }
+
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
@@ -66,6 +101,103 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
     }
 
+    /**
+     * Reads the fields of the data file up to and including the persons, and converts them before returning. The
+     * rest of the file is read and converted on {@code executor}.
+     */
+    @Override
+    public Optional<LazyAddressBook> readAddressBookLazily(Executor executor) throws DataConversionException {
+        requireNonNull(executor);
+        if (!Files.exists(addressBookFilePath)) {
+            logger.info("Json file " + addressBookFilePath + " not found");
+            return Optional.empty();
+        }
+
+        JsonObjectReader reader = null;
+        try {
+            reader = JsonUtil.openObjectReader(addressBookFilePath);
+            JsonSerializableAddressBook head = new JsonSerializableAddressBook(new ArrayList<>());
+            boolean hasMoreFields = readFields(reader, head, true);
+            AddressBook persons = head.toModelType(Collections.emptyList(), executor);
+            if (!hasMoreFields) {
+                reader.close();
+                return Optional.of(LazyAddressBook.ofLoaded(persons));
+            }
+
+            JsonObjectReader rest = reader;
+            reader = null;
+            return Optional.of(new LazyAddressBook(persons,
+                    CompletableFuture.supplyAsync(() -> readRemainingFields(rest, persons, executor), executor)));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + addressBookFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + addressBookFilePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    /**
+     * Reads and converts the fields left in {@code reader}, then closes it.
+     * Events are linked to the persons of {@code head}, which was read before. Chunks of the fields are also
+     * converted on {@code executor}.
+     * @throws CompletionException wrapping a {@code DataConversionException} if they cannot be read.
+     */
+    private ReadOnlyAddressBook readRemainingFields(JsonObjectReader reader, ReadOnlyAddressBook head,
+            Executor executor) {
+        try (JsonObjectReader in = reader) {
+            JsonSerializableAddressBook tail = new JsonSerializableAddressBook(new ArrayList<>());
+            readFields(in, tail, false);
+            return tail.toModelType(head.getPersonList(), executor);
+        } catch (IllegalValueException | IOException e) {
+            logger.warning("Could not read events and reminders from " + addressBookFilePath + ": " + e);
+            throw new CompletionException(new DataConversionException(e));
+        }
+    }
+
+    /**
+     * Reads the fields of {@code reader} into {@code addressBook}, skipping fields it does not keep.
+     * @param isUpToPersons whether to stop once the persons have been read.
+     * @return true if reading stopped after the persons, leaving any further fields unread.
+     */
+    private static boolean readFields(JsonObjectReader reader, JsonSerializableAddressBook addressBook,
+                                      boolean isUpToPersons) throws IOException {
+        Optional<String> field;
+        while ((field = reader.nextField()).isPresent()) {
+            switch (field.get()) {
+            case "persons":
+                addressBook.getPersons().addAll(reader.readList(JsonAdaptedPerson.class));
+                if (isUpToPersons) {
+                    return true;
+                }
+                break;
+            case "events":
+                addressBook.getEvents().addAll(reader.readList(JsonAdaptedEvent.class));
+                break;
+            case "reminders":
+                addressBook.getReminders().addAll(reader.readList(JsonAdaptedReminder.class));
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        return false;
+    }
+
+    private void closeQuietly(JsonObjectReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (IOException ioe) {
+            logger.warning("Error closing " + addressBookFilePath + ": " + ioe);
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookFilePath);
@@ -81,7 +213,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBookFilePath);
 
         FileUtil.createIfMissing(addressBookFilePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), addressBookFilePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), addressBookFilePath, isPrettyPrinted,
+                isCompressed);
     }
 
 }
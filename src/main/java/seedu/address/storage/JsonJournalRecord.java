@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of one change to a list of the address book, kept in the journal of
+ * {@link JournaledAddressBookStorage}.
+ * The change replaces {@code remove} items of the list, starting at {@code from}, with the given items.
+ */
+class JsonJournalRecord {
+
+    public static final String PERSONS = "persons";
+    public static final String EVENTS = "events";
+    public static final String REMINDERS = "reminders";
+    public static final String MESSAGE_INVALID_RECORD = "Journal record %1$d does not fit the address book.";
+
+    private final long sequence;
+    private final String list;
+    private final int from;
+    private final int remove;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedEvent> events = new ArrayList<>();
+    private final List<JsonAdaptedReminder> reminders = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("sequence") long sequence, @JsonProperty("list") String list,
+                             @JsonProperty("from") int from, @JsonProperty("remove") int remove,
+                             @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                             @JsonProperty("events") List<JsonAdaptedEvent> events,
+                             @JsonProperty("reminders") List<JsonAdaptedReminder> reminders) {
+        this.sequence = sequence;
+        this.list = list;
+        this.from = from;
+        this.remove = remove;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (events != null) {
+            this.events.addAll(events);
+        }
+        if (reminders != null) {
+            this.reminders.addAll(reminders);
+        }
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies this change to the matching list of {@code addressBook}.
+     *
+     * @throws IllegalValueException if the change does not fit the list.
+     */
+    public void applyTo(JsonSerializableAddressBook addressBook) throws IllegalValueException {
+        if (PERSONS.equals(list)) {
+            splice(addressBook.getPersons(), persons);
+        } else if (EVENTS.equals(list)) {
+            splice(addressBook.getEvents(), events);
+        } else if (REMINDERS.equals(list)) {
+            splice(addressBook.getReminders(), reminders);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, sequence));
+        }
+    }
+
+    private <T> void splice(List<T> target, List<T> items) throws IllegalValueException {
+        if (from < 0 || remove < 0 || from + remove > target.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, sequence));
+        }
+        target.subList(from, from + remove).clear();
+        target.addAll(from, items);
+    }
+}
@@ -1,7 +1,16 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,7 +21,10 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.reminder.DuplicateReminderException;
 import seedu.address.model.reminder.Reminder;
 
 
@@ -26,9 +38,16 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
     public static final String MESSAGE_DUPLICATE_REMINDER = "Reminders list contains duplicate reminder(s).";
 
+    /** Number of objects converted together on one thread. Smaller books are converted on the calling thread. */
+    private static final int CONVERSION_CHUNK_SIZE = 1024;
+    /** Number of helpers asked to convert chunks on the executor, which is as many threads as the shared pool has. */
+    private static final int MAX_CONVERSION_HELPERS = 2;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
     private final List<JsonAdaptedReminder> reminders = new ArrayList<>();
+    /** Number of the last journal record included, for {@link JournaledAddressBookStorage}. */
+    private long journalSequence;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
@@ -61,6 +80,14 @@ class JsonSerializableAddressBook {
         return persons;
     }
 
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    public void setJournalSequence(long journalSequence) {
+        this.journalSequence = journalSequence;
+    }
+
     public void addEvent (JsonAdaptedEvent event) {
         // TODO: duplicated events?
         this.events.add(event);
@@ -72,38 +99,151 @@ class JsonSerializableAddressBook {
     }
 
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
+     * Converts this address book into the model's {@code AddressBook} object, on the calling thread.
+     * Persons, events and reminders are converted in chunks, and then checked for duplicates together.
+     * Events and reminders are linked to the persons and events they refer to by id.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyList(), Runnable::run);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, for an address book whose persons were converted separately.
+     * Events may also refer to {@code knownPersons}, which are not added to the returned address book.
+     * Chunks are also converted on {@code executor}, alongside the calling thread.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType(List<Person> knownPersons, Executor executor) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
 
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        List<Person> modelPersons = convertAll(persons, JsonAdaptedPerson::toModelType, executor);
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+
+        Map<String, Person> personsById = new HashMap<>();
+        knownPersons.forEach(person -> personsById.put(JsonAdaptedPerson.toId(person), person));
+        modelPersons.forEach(person -> personsById.put(JsonAdaptedPerson.toId(person), person));
+        List<Event> modelEvents = convertAll(events, event -> event.toModelType(personsById), executor);
+        try {
+            addressBook.setEvents(modelEvents);
+        } catch (EventNotFoundException enfe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        }
+
+        Map<String, Event> eventsById = new HashMap<>();
+        modelEvents.forEach(event -> eventsById.put(JsonAdaptedEvent.toId(event), event));
+        List<Reminder> modelReminders = convertAll(reminders, reminder -> reminder.toModelType(eventsById), executor)
+                .stream()
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+        try {
+            addressBook.setReminders(modelReminders);
+        } catch (DuplicateReminderException dre) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_REMINDER);
         }
 
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code adapted} into model objects, in order, using {@code converter}.
+     * The list is split into chunks of {@code CONVERSION_CHUNK_SIZE}, which are taken in turn by the calling thread
+     * and by helpers run on {@code executor}. As the calling thread takes chunks until none are left, it only ever
+     * waits for chunks that a helper is converting, and not for helpers still queued on a busy executor. If any object
+     * is invalid, the error of the first invalid object in the list is thrown, as if they were converted in turn.
+     */
+    private static <A, M> List<M> convertAll(List<A> adapted, Converter<A, M> converter, Executor executor)
+            throws IllegalValueException {
+        int chunkCount = (adapted.size() + CONVERSION_CHUNK_SIZE - 1) / CONVERSION_CHUNK_SIZE;
+        AtomicReferenceArray<ConvertedChunk<M>> chunks = new AtomicReferenceArray<>(chunkCount);
+        AtomicInteger nextChunk = new AtomicInteger();
+        CountDownLatch chunksLeft = new CountDownLatch(chunkCount);
+        Runnable convertChunks = () -> {
+            int i;
+            while ((i = nextChunk.getAndIncrement()) < chunkCount) {
+                chunks.set(i, ConvertedChunk.of(adapted.subList(i * CONVERSION_CHUNK_SIZE,
+                        Math.min(adapted.size(), (i + 1) * CONVERSION_CHUNK_SIZE)), converter));
+                chunksLeft.countDown();
+            }
+        };
+        try {
+            for (int i = 1; i < Math.min(chunkCount, MAX_CONVERSION_HELPERS + 1); i++) {
+                executor.execute(convertChunks);
+            }
+        } catch (RejectedExecutionException ree) {
+            // an executor that is shutting down leaves the chunks to the calling thread.
+        }
+        convertChunks.run();
+        awaitUninterruptibly(chunksLeft);
+
+        List<M> converted = new ArrayList<>(adapted.size());
+        for (int i = 0; i < chunkCount; i++) {
+            ConvertedChunk<M> chunk = chunks.get(i);
+            if (chunk.failure != null) {
+                throw chunk.failure;
+            }
+            if (chunk.error != null) {
+                throw chunk.error;
             }
-            addressBook.addEvent(event);
+            converted.addAll(chunk.converted);
         }
+        return converted;
+    }
 
-        for (JsonAdaptedReminder jsonAdaptedReminder : reminders) {
-            Reminder reminder = jsonAdaptedReminder.toModelType();
-            if (addressBook.hasReminder(reminder)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_REMINDER);
+    /**
+     * Waits for {@code latch} to reach zero, keeping the interrupt for the caller.
+     */
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean isInterrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException ie) {
+                isInterrupted = true;
             }
-            addressBook.addReminder(reminder);
         }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-        return addressBook;
+    /**
+     * Converts a Jackson-friendly object into the model's object.
+     */
+    @FunctionalInterface
+    private interface Converter<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * The objects of one chunk converted so far, and the error that stopped the conversion, if any.
+     * An unexpected failure is kept as well, so that it is thrown on the calling thread rather than lost on a helper.
+     */
+    private static class ConvertedChunk<M> {
+        private final List<M> converted = new ArrayList<>();
+        private IllegalValueException error;
+        private RuntimeException failure;
+
+        static <A, M> ConvertedChunk<M> of(List<A> adapted, Converter<A, M> converter) {
+            ConvertedChunk<M> chunk = new ConvertedChunk<>();
+            try {
+                for (A a : adapted) {
+                    chunk.converted.add(converter.convert(a));
+                }
+            } catch (IllegalValueException ive) {
+                chunk.error = ive;
+            } catch (RuntimeException re) {
+                chunk.failure = re;
+            }
+            return chunk;
+        }
     }
 
 }
@@ -8,19 +8,16 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.event.Event;
 
 /**
  * An Immutable EventList that is serializable to JSON format.
+ * It is converted to the model together with the persons, through {@link JsonSerializableAddressBook}, so that
+ * the events can be linked to what they refer to.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableEventList {
 
-    public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
-
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
 
     /**
@@ -44,24 +41,4 @@ class JsonSerializableEventList {
         return events;
     }
 
-    /**
-     * Converts this address book into the model's {@code AddressBook} object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated.
-     */
-    public AddressBook toModelType() throws IllegalValueException {
-        AddressBook eventList = new AddressBook();
-
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-
-            if (eventList.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            eventList.addEvent(event);
-        }
-
-        return eventList;
-    }
-
 }
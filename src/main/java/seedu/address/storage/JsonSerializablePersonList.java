@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An Immutable PersonList that is serializable to JSON format.
+ * It is converted to the model together with the events and reminders, through {@link JsonSerializableAddressBook}.
+ */
+@JsonRootName(value = "addressbook")
+class JsonSerializablePersonList {
+
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializablePersonList} with the given persons.
+     */
+    @JsonCreator
+    public JsonSerializablePersonList(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.persons.addAll(persons);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializablePersonList}.
+     */
+    public JsonSerializablePersonList(ReadOnlyAddressBook source) {
+        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    public List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+}
@@ -8,19 +8,16 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.reminder.Reminder;
 
 /**
  * An Immutable ReminderList that is serializable to JSON format.
+ * It is converted to the model together with the persons, through {@link JsonSerializableAddressBook}, so that
+ * the reminders can be linked to what they refer to.
  */
 @JsonRootName(value = "addressbook")
 public class JsonSerializableReminderList {
 
-    public static final String MESSAGE_DUPLICATE_REMINDER = "Reminders list contains duplicate reminder(s).";
-
     private final List<JsonAdaptedReminder> reminders = new ArrayList<>();
 
     /**
@@ -44,24 +41,4 @@ public class JsonSerializableReminderList {
         return reminders;
     }
 
-    /**
-     * Converts this address book into the model's {@code AddressBook} object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated.
-     */
-    public AddressBook toModelType() throws IllegalValueException {
-        AddressBook reminderList = new AddressBook();
-
-        for (JsonAdaptedReminder jsonAdaptedReminder : reminders) {
-            Reminder reminder = jsonAdaptedReminder.toModelType();
-
-            if (reminderList.hasReminder(reminder)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_REMINDER);
-            }
-            reminderList.addReminder(reminder);
-        }
-
-        return reminderList;
-    }
-
 }
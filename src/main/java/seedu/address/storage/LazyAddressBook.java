@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An address book read in two parts: the persons, which are read first, and the events and reminders, which are
+ * read afterwards in the background.
+ */
+public class LazyAddressBook {
+
+    private final ReadOnlyAddressBook persons;
+    private final CompletableFuture<ReadOnlyAddressBook> eventsAndReminders;
+
+    /**
+     * @param persons the part of the address book read first, which holds at least all its persons.
+     * @param eventsAndReminders completes with the events and reminders that are not in {@code persons}, or
+     *                           exceptionally with a {@code DataConversionException} if they cannot be read.
+     */
+    public LazyAddressBook(ReadOnlyAddressBook persons, CompletableFuture<ReadOnlyAddressBook> eventsAndReminders) {
+        requireNonNull(persons);
+        requireNonNull(eventsAndReminders);
+        this.persons = persons;
+        this.eventsAndReminders = eventsAndReminders;
+    }
+
+    /**
+     * Returns a {@code LazyAddressBook} for {@code addressBook}, which has already been read in full.
+     */
+    public static LazyAddressBook ofLoaded(ReadOnlyAddressBook addressBook) {
+        return new LazyAddressBook(addressBook, CompletableFuture.completedFuture(new AddressBook()));
+    }
+
+    public ReadOnlyAddressBook getPersons() {
+        return persons;
+    }
+
+    public CompletableFuture<ReadOnlyAddressBook> getEventsAndReminders() {
+        return eventsAndReminders;
+    }
+}
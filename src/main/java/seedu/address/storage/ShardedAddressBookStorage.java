@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as one json file, or shard, for each of the persons, the events and the
+ * reminders, next to where the single json data file would be.
+ *
+ * Each save writes only the shards whose part of the address book changed since they were last written or read, as
+ * told by the change stamps of {@link AddressBook}, so that showing a reminder does not write out every person.
+ * An address book that is not an {@code AddressBook}, or a file other than the data file of this storage, is
+ * written in full.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String PERSONS_SHARD = "persons";
+    public static final String EVENTS_SHARD = "events";
+    public static final String REMINDERS_SHARD = "reminders";
+
+    /** Stamp of a shard that is not known to match any address book. Change stamps start at 1. */
+    private static final long UNKNOWN_STAMP = AddressBookSnapshot.UNKNOWN_STAMP;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path addressBookFilePath;
+    private final boolean isPrettyPrinted;
+    private final boolean isCompressed;
+    /** Change stamps of the parts of the address book last written to or read from the shards. */
+    private long savedPersonsStamp = UNKNOWN_STAMP;
+    private long savedEventsStamp = UNKNOWN_STAMP;
+    private long savedRemindersStamp = UNKNOWN_STAMP;
+
+    public ShardedAddressBookStorage(Path addressBookFilePath) {
+        this(addressBookFilePath, true, false);
+    }
+
+    /**
+     * @param isPrettyPrinted whether the shards are indented for reading, or written on a single line.
+     * @param isCompressed whether the shards are compressed with gzip as they are written.
+     */
+    public ShardedAddressBookStorage(Path addressBookFilePath, boolean isPrettyPrinted, boolean isCompressed) {
+        this.addressBookFilePath = addressBookFilePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Returns the path of the {@code shard} file kept for the data file at {@code filePath}, such as
+     * {@code addressbook.persons.json} for {@code addressbook.json}.
+     */
+    public static Path getShardFilePath(Path filePath, String shard) {
+        String fileName = filePath.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        if (extension <= 0) {
+            return filePath.resolveSibling(fileName + "." + shard);
+        }
+        return filePath.resolveSibling(fileName.substring(0, extension) + "." + shard + fileName.substring(extension));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(addressBookFilePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Returns {@code Optional.empty()} if there is no persons shard; missing event and reminder shards are empty.
+     *
+     * @param filePath location of the data, from which the shard files are named. Cannot be null.
+     * @throws DataConversionException if a shard is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializablePersonList> persons = JsonUtil.readJsonFile(
+                getShardFilePath(filePath, PERSONS_SHARD), JsonSerializablePersonList.class);
+        if (!persons.isPresent()) {
+            return Optional.empty();
+        }
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(persons.get().getPersons());
+        readEventsAndReminders(filePath, jsonAddressBook);
+
+        AddressBook addressBook = toModelType(jsonAddressBook, Collections.emptyList(), filePath, Runnable::run);
+        if (filePath.equals(addressBookFilePath)) {
+            savedPersonsStamp = addressBook.getPersonsStamp();
+            savedEventsStamp = addressBook.getEventsStamp();
+            savedRemindersStamp = addressBook.getRemindersStamp();
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the persons shard before returning, and the event and reminder shards afterwards on {@code executor}.
+     */
+    @Override
+    public synchronized Optional<LazyAddressBook> readAddressBookLazily(Executor executor)
+            throws DataConversionException {
+        requireNonNull(executor);
+
+        Optional<JsonSerializablePersonList> persons = JsonUtil.readJsonFile(
+                getShardFilePath(addressBookFilePath, PERSONS_SHARD), JsonSerializablePersonList.class);
+        if (!persons.isPresent()) {
+            return Optional.empty();
+        }
+        AddressBook addressBook = toModelType(new JsonSerializableAddressBook(persons.get().getPersons()),
+                Collections.emptyList(), addressBookFilePath, executor);
+        savedPersonsStamp = addressBook.getPersonsStamp();
+        // the events and reminders are added to the model as a change, and so are written again on the next save.
+        savedEventsStamp = UNKNOWN_STAMP;
+        savedRemindersStamp = UNKNOWN_STAMP;
+
+        return Optional.of(new LazyAddressBook(addressBook, CompletableFuture.supplyAsync(() -> {
+            try {
+                JsonSerializableAddressBook eventsAndReminders = new JsonSerializableAddressBook(new ArrayList<>());
+                readEventsAndReminders(addressBookFilePath, eventsAndReminders);
+                return toModelType(eventsAndReminders, addressBook.getPersonList(), addressBookFilePath, executor);
+            } catch (DataConversionException dce) {
+                throw new CompletionException(dce);
+            }
+        }, executor)));
+    }
+
+    private static void readEventsAndReminders(Path filePath, JsonSerializableAddressBook jsonAddressBook)
+            throws DataConversionException {
+        JsonUtil.readJsonFile(getShardFilePath(filePath, EVENTS_SHARD), JsonSerializableEventList.class)
+                .ifPresent(events -> jsonAddressBook.getEvents().addAll(events.getEvents()));
+        JsonUtil.readJsonFile(getShardFilePath(filePath, REMINDERS_SHARD), JsonSerializableReminderList.class)
+                .ifPresent(reminders -> jsonAddressBook.getReminders().addAll(reminders.getReminders()));
+    }
+
+    private static AddressBook toModelType(JsonSerializableAddressBook jsonAddressBook, List<Person> knownPersons,
+                                           Path filePath, Executor executor) throws DataConversionException {
+        try {
+            return jsonAddressBook.toModelType(knownPersons, executor);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the shards of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, addressBookFilePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data, from which the shard files are named. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookSnapshot stamped = AddressBookSnapshot.of(addressBook);
+        if (!filePath.equals(addressBookFilePath) || !stamped.hasStamps()) {
+            writeShard(new JsonSerializablePersonList(addressBook), filePath, PERSONS_SHARD);
+            writeShard(new JsonSerializableEventList(addressBook), filePath, EVENTS_SHARD);
+            writeShard(new JsonSerializableReminderList(addressBook), filePath, REMINDERS_SHARD);
+            if (filePath.equals(addressBookFilePath)) {
+                savedPersonsStamp = UNKNOWN_STAMP;
+                savedEventsStamp = UNKNOWN_STAMP;
+                savedRemindersStamp = UNKNOWN_STAMP;
+            }
+            return;
+        }
+
+        if (stamped.getPersonsStamp() != savedPersonsStamp) {
+            writeShard(new JsonSerializablePersonList(addressBook), filePath, PERSONS_SHARD);
+            savedPersonsStamp = stamped.getPersonsStamp();
+        }
+        if (stamped.getEventsStamp() != savedEventsStamp) {
+            writeShard(new JsonSerializableEventList(addressBook), filePath, EVENTS_SHARD);
+            savedEventsStamp = stamped.getEventsStamp();
+        }
+        if (stamped.getRemindersStamp() != savedRemindersStamp) {
+            writeShard(new JsonSerializableReminderList(addressBook), filePath, REMINDERS_SHARD);
+            savedRemindersStamp = stamped.getRemindersStamp();
+        }
+    }
+
+    private void writeShard(Object shard, Path filePath, String shardName) throws IOException {
+        Path shardFilePath = getShardFilePath(filePath, shardName);
+        FileUtil.createIfMissing(shardFilePath);
+        JsonUtil.saveJsonFile(shard, shardFilePath, isPrettyPrinted, isCompressed);
+    }
+}
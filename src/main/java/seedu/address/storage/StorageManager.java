@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -65,6 +66,13 @@ public class StorageManager implements Storage {
         return addressBookContent;
     }
 
+    @Override
+    public Optional<LazyAddressBook> readAddressBookLazily(Executor executor)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read data lazily from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBookLazily(executor);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
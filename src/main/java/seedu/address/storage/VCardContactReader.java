@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.storage.ContentLineReader.ContentLine;
+
+/**
+ * Reads contacts from a .vcf file of vCards, one card at a time.
+ *
+ * The name is read from FN, or else from N, and the first TEL, EMAIL and ADR of a card are read as its phone, email and
+ * address. CATEGORIES are read as tags. Other properties are ignored.
+ */
+class VCardContactReader {
+
+    private final ContentLineReader in;
+
+    VCardContactReader(BufferedReader in) throws IOException {
+        requireNonNull(in);
+        this.in = new ContentLineReader(in);
+    }
+
+    /**
+     * Returns the contact in the next card, or {@code Optional.empty()} at the end of the file.
+     * A card that is not ended by the end of the file is still read.
+     */
+    Optional<ContactRecord> next() throws IOException {
+        Optional<ContentLine> line;
+        do {
+            line = in.next();
+            if (!line.isPresent()) {
+                return Optional.empty();
+            }
+        } while (!line.get().isBeginOf("VCARD"));
+        int cardLineNumber = line.get().getLineNumber();
+
+        String formattedName = null;
+        String structuredName = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<String> tags = new ArrayList<>();
+        while ((line = in.next()).isPresent() && !line.get().isEndOf("VCARD")) {
+            String value = line.get().getValue();
+            switch (line.get().getName()) {
+            case "FN":
+                formattedName = ContentLineReader.unescape(value);
+                break;
+
+            case "N":
+                // family name; given names; additional names; prefixes; suffixes
+                List<String> names = ContentLineReader.split(value, ';');
+                structuredName = names.size() < 2 ? names.get(0) : (names.get(1) + " " + names.get(0));
+                break;
+
+            case "TEL":
+                phone = phone != null
+                        ? phone
+                        : ContentLineReader.unescape(value.startsWith("tel:") ? value.substring(4) : value);
+                break;
+
+            case "EMAIL":
+                email = email != null ? email : ContentLineReader.unescape(value);
+                break;
+
+            case "ADR":
+                // post office box; extended address; street; locality; region; postal code; country
+                address = address != null ? address : ContentLineReader.split(value, ';').stream()
+                        .map(String::trim).filter(part -> !part.isEmpty()).collect(Collectors.joining(", "));
+                break;
+
+            case "CATEGORIES":
+                ContentLineReader.split(value, ',').stream().map(String::trim).filter(tag -> !tag.isEmpty())
+                        .forEach(tags::add);
+                break;
+
+            default:
+                break;
+            }
+        }
+        return Optional.of(new ContactRecord(cardLineNumber, formattedName != null ? formattedName : structuredName,
+                phone, email, address, tags.isEmpty() ? Collections.emptyList() : tags));
+    }
+}
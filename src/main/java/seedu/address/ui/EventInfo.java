@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.time.LocalDateTime;
 import java.util.logging.Logger;
 
 import javafx.beans.value.ObservableValue;
@@ -8,6 +9,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeRange;
 
 /**
  * The person info display person info
@@ -72,7 +74,7 @@ public class EventInfo extends UiPart<Region> {
             // titleNameLabel.setText(event.getName().toString());
             nameLabel.setText(event.getName().toString());
             venueLabel.setText(event.getVenue().toString());
-            startsOnLabel.setText(event.getStartDateTime().toString());
+            startsOnLabel.setText(event.getStartDateTime().toString() + describeRecurrence(event));
             endsOnLabel.setText(event.getEndDateTime().toString());
             tagLabel.setText(event.getLabel().toString());
             descriptionLabel.setText(event.getDescription().toString());
@@ -93,4 +95,17 @@ public class EventInfo extends UiPart<Region> {
             participantsLabel.setText("-");
         }
     }
+
+    /**
+     * Returns how {@code event} repeats and when it next happens, or an empty string if it does not repeat.
+     * Only the next occurrence is computed.
+     */
+    private String describeRecurrence(Event event) {
+        return event.getRecurrence()
+                .map(rule -> "\nRepeats " + rule + event.getFirstOccurrenceFrom(
+                        TimeRange.toEpochSecond(LocalDateTime.now().withNano(0)))
+                        .map(next -> "\nNext: " + next)
+                        .orElse(""))
+                .orElse("");
+    }
 }
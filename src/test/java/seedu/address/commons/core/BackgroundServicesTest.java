@@ -0,0 +1,66 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class BackgroundServicesTest {
+
+    private final BackgroundServices backgroundServices = new BackgroundServices();
+
+    @Test
+    public void start_serviceRunsOnSharedExecutor() throws Exception {
+        ServiceStub service = new ServiceStub();
+        backgroundServices.start(service);
+
+        assertTrue(service.hasRun.await(1, TimeUnit.SECONDS));
+        assertTrue(backgroundServices.isHealthy());
+        assertTrue(backgroundServices.getStatus().startsWith("stub: healthy"));
+        backgroundServices.stop();
+    }
+
+    @Test
+    public void stop_stopsServicesAndExecutor() {
+        ServiceStub service = new ServiceStub();
+        backgroundServices.start(service);
+        backgroundServices.stop();
+
+        assertFalse(service.isRunning);
+        assertFalse(backgroundServices.isHealthy());
+        assertTrue(backgroundServices.getExecutor().isShutdown());
+    }
+
+    /**
+     * A service that runs once when started.
+     */
+    private static class ServiceStub implements BackgroundService {
+        private final CountDownLatch hasRun = new CountDownLatch(1);
+        private volatile boolean isRunning;
+
+        @Override
+        public String getName() {
+            return "stub";
+        }
+
+        @Override
+        public void start(ScheduledExecutorService executor) {
+            isRunning = true;
+            executor.execute(hasRun::countDown);
+        }
+
+        @Override
+        public void stop() {
+            isRunning = false;
+        }
+
+        @Override
+        public boolean isHealthy() {
+            return isRunning;
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
+import seedu.address.testutil.TestUtil;
 
 public class FileUtilTest {
 
@@ -23,6 +35,75 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void openForReading() throws IOException {
+        Path file = TestUtil.getFilePathInSandboxFolder("openForReading.txt");
+        byte[] content = "some text\nover two lines".getBytes(StandardCharsets.UTF_8);
+        FileUtil.createIfMissing(file);
+        Files.write(file, content);
+
+        // read through a buffer
+        assertArrayEquals(content, readAll(FileUtil.openForReading(file)));
+        assertArrayEquals(content, readAll(FileUtil.openForReading(file, Long.MAX_VALUE)));
+
+        // read from memory-mapped pages
+        assertArrayEquals(content, readAll(FileUtil.openForReading(file, 0)));
+
+        // mapped stream reads bytes one at a time, and then the end of the file
+        try (InputStream in = FileUtil.openForReading(file, 0)) {
+            assertEquals('s', in.read());
+            assertEquals(content.length - 1, in.available());
+            assertEquals(content.length - 1, in.skip(Long.MAX_VALUE));
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[1], 0, 1));
+        }
+    }
+
+    @Test
+    public void openForReading_mappedFileTruncatedWhileRead_throwsIoException() throws IOException {
+        Path file = TestUtil.getFilePathInSandboxFolder("truncated.txt");
+        byte[] content = new byte[64 * 1024];
+        Arrays.fill(content, (byte) 'a');
+        FileUtil.createIfMissing(file);
+        Files.write(file, content);
+
+        try (InputStream in = FileUtil.openForReading(file, 0)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(0);
+            } catch (IOException ioe) {
+                // some systems do not let a mapped file be truncated, so it cannot change while it is read.
+                return;
+            }
+            Assert.assertThrows(IOException.class, () -> readAll(in));
+        }
+    }
+
+    @Test
+    public void openForWriting_compressed_decompressedOnReading() throws IOException {
+        Path file = TestUtil.getFilePathInSandboxFolder("compressed.txt.gz");
+        byte[] content = "some text that is compressed".getBytes(StandardCharsets.UTF_8);
+        FileUtil.createIfMissing(file);
+        try (OutputStream out = FileUtil.openForWriting(file, true)) {
+            out.write(content);
+        }
+
+        assertFalse(Arrays.equals(content, Files.readAllBytes(file)));
+        assertArrayEquals(content, readAll(FileUtil.openForReading(file, Long.MAX_VALUE)));
+        assertArrayEquals(content, readAll(FileUtil.openForReading(file, 0)));
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (InputStream stream = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] chunk = new byte[4];
+            int count;
+            while ((count = stream.read(chunk, 0, chunk.length)) != -1) {
+                out.write(chunk, 0, count);
+            }
+            return out.toByteArray();
+        }
+    }
+
     @Test
     public void getName() {
         // valid name
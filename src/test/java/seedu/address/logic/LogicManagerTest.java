@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,10 +10,13 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHOTO_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -19,6 +24,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
@@ -26,6 +32,8 @@ import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.WrongViewException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -100,6 +108,48 @@ public class LogicManagerTest {
         assertHistoryCorrect(addCommand);
     }
 
+    @Test
+    public void execute_eventsAndRemindersNotRead_throwsCommandException() {
+        DataConversionException readError = new DataConversionException(new IOException("unreadable"));
+        CompletableFuture<AddressBook> eventsAndReminders = new CompletableFuture<>();
+        eventsAndReminders.completeExceptionally(readError);
+        model.loadEventsAndRemindersLater(eventsAndReminders);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + PHOTO_DESC_AMY;
+        assertCommandException(addCommand, String.format(LogicManager.MESSAGE_EVENTS_NOT_LOADED,
+                readError.getMessage()));
+
+        // commands that only show persons do not need the events and reminders
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void applyExternalChanges_everyChangeConflicts_notCommitted() {
+        AddressBook read = new AddressBook();
+        read.addPerson(ALICE);
+        Person taggedAlice = new PersonBuilder(ALICE).withTags("colleague").build();
+        model.addPerson(taggedAlice);
+        logic.getAutoSaver().trackWrites(read, () -> { });
+
+        // the removal of Alice by the other program is left out, as Alice was edited in the app
+        ((LogicManager) logic).applyExternalChanges(AddressBookDiff.between(read, new AddressBook()));
+        assertTrue(model.hasPerson(taggedAlice));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void applyExternalChanges_changeApplied_committed() {
+        AddressBook read = new AddressBook();
+        logic.getAutoSaver().trackWrites(read, () -> { });
+        AddressBook changed = new AddressBook();
+        changed.addPerson(BENSON);
+
+        ((LogicManager) logic).applyExternalChanges(AddressBookDiff.between(read, changed));
+        assertTrue(model.hasPerson(BENSON));
+        assertTrue(model.canUndoAddressBook());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
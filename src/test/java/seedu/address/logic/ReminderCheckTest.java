@@ -0,0 +1,329 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalReminders.EVENT1;
+import static seedu.address.testutil.TypicalReminders.REMINDER1;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.ReminderCheck.ReminderState;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.reminder.Interval;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.storage.AutoSaver;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.EventBuilder;
+
+public class ReminderCheckTest {
+
+    private static final long MILLIS_SHOWN = TimeUnit.MINUTES.toMillis(1);
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final RecordingScheduler scheduler = new RecordingScheduler();
+    private final List<Runnable> fxTasks = new ArrayList<>();
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+    private AutoSaver autoSaver;
+
+    @Before
+    public void setUp() {
+        autoSaver = new AutoSaver(new StorageManager(
+                new JsonAddressBookStorage(testFolder.getRoot().toPath().resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.getRoot().toPath().resolve("prefs.json"))));
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void getDelayToNextDeadline_noReminders_maxDelay() {
+        assertEquals(ReminderCheck.MAX_DELAY_MILLIS,
+                ReminderCheck.getDelayToNextDeadline(Collections.emptyList(), System.currentTimeMillis()));
+    }
+
+    @Test
+    public void getDelayToNextDeadline_reminderNotShown_delayToFireTime() {
+        Reminder reminder = futureReminder("in two days", 2);
+        long fireAt = reminder.getFireAt(System.currentTimeMillis());
+
+        assertEquals(5000, ReminderCheck.getDelayToNextDeadline(snapshotOf(reminder), fireAt - 5000));
+    }
+
+    @Test
+    public void getDelayToNextDeadline_reminderShown_delayToExpiry() {
+        Reminder reminder = futureReminder("in two days", 2);
+        long fireAt = reminder.getFireAt(System.currentTimeMillis());
+        reminder.setShow(true);
+
+        assertEquals(MILLIS_SHOWN - 1000,
+                ReminderCheck.getDelayToNextDeadline(snapshotOf(reminder), fireAt + 1000));
+    }
+
+    @Test
+    public void getDelayToNextDeadline_severalReminders_earliestDeadline() {
+        Reminder later = futureReminder("in three days", 3);
+        Reminder earlier = futureReminder("in two days", 2);
+        Reminder notShown = futureReminder("in a day", 1);
+        notShown.setNotShow(true);
+        long now = earlier.getFireAt(System.currentTimeMillis()) - 5000;
+
+        assertEquals(5000, ReminderCheck.getDelayToNextDeadline(snapshotOf(later, earlier, notShown), now));
+    }
+
+    @Test
+    public void getDelayToNextDeadline_deadlinePassed_zero() {
+        Reminder reminder = futureReminder("in two days", 2);
+        long expireAt = reminder.getExpireAt(System.currentTimeMillis());
+
+        assertEquals(0, ReminderCheck.getDelayToNextDeadline(snapshotOf(reminder), expireAt + 1));
+    }
+
+    @Test
+    public void publishDue_nothingDue_nothingPublished() {
+        Reminder reminder = futureReminder("in two days", 2);
+        ReminderCheck check = new ReminderCheck(modelWith(reminder), autoSaver, fxTasks::add);
+
+        assertFalse(check.publishDue(snapshotOf(reminder), reminder.getFireAt(System.currentTimeMillis()) - 1));
+        assertTrue(fxTasks.isEmpty());
+    }
+
+    @Test
+    public void publishDue_severalDue_oneDrainHandedToFxThread() {
+        Reminder first = futureReminder("in two days", 2);
+        Reminder second = futureReminder("also in two days", 2);
+        ReminderCheck check = new ReminderCheck(modelWith(first, second), autoSaver, fxTasks::add);
+        long fireAt = first.getFireAt(System.currentTimeMillis());
+
+        assertTrue(check.publishDue(snapshotOf(first, second), fireAt));
+        assertTrue(check.publishDue(snapshotOf(first, second), fireAt));
+        assertEquals(1, fxTasks.size());
+
+        // once drained, the next publish hands a new drain to the FX thread
+        runFxTasks();
+        assertTrue(check.publishDue(snapshotOf(first, second), fireAt + MILLIS_SHOWN));
+        assertEquals(1, fxTasks.size());
+    }
+
+    @Test
+    public void drain_reminderDue_shown() {
+        Reminder first = futureReminder("in two days", 2);
+        Reminder second = futureReminder("also in two days", 2);
+        Model model = modelWith(first, second);
+        ReminderCheck check = new ReminderCheck(model, autoSaver, fxTasks::add);
+        check.publishDue(snapshotOf(first, second), first.getFireAt(System.currentTimeMillis()));
+
+        runFxTasks();
+        assertTrue(first.getShow());
+        assertTrue(second.getShow());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void drain_reminderShownBeforeItsTime_hidden() {
+        Reminder reminder = futureReminder("in two days", 2);
+        Model model = modelWith(reminder);
+        model.setShow(reminder, true);
+        ReminderCheck check = new ReminderCheck(model, autoSaver, fxTasks::add);
+        check.publishDue(snapshotOf(reminder), reminder.getFireAt(System.currentTimeMillis()) - 1);
+
+        runFxTasks();
+        assertFalse(reminder.getShow());
+        assertTrue(model.hasReminder(reminder));
+    }
+
+    @Test
+    public void drain_reminderExpired_deletedWithoutUndoState() {
+        Reminder reminder = futureReminder("in two days", 2);
+        Model model = modelWith(reminder);
+        model.setShow(reminder, true);
+        ReminderCheck check = new ReminderCheck(model, autoSaver, fxTasks::add);
+        check.publishDue(snapshotOf(reminder), reminder.getExpireAt(System.currentTimeMillis()));
+
+        runFxTasks();
+        assertFalse(model.hasReminder(reminder));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void drain_reminderExpiredAfterUserCommand_undoRevertsUserCommandOnly() {
+        Reminder reminder = futureReminder("in two days", 2);
+        Model model = modelWith(reminder);
+        model.setShow(reminder, true);
+        model.addPerson(ALICE);
+        model.commitAddressBook();
+        ReminderCheck check = new ReminderCheck(model, autoSaver, fxTasks::add);
+        check.publishDue(snapshotOf(reminder), reminder.getExpireAt(System.currentTimeMillis()));
+        runFxTasks();
+
+        model.undoAddressBook();
+        assertFalse(model.hasPerson(ALICE));
+        assertFalse(model.hasReminder(reminder));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void drain_reminderDeletedSincePublished_skipped() {
+        Reminder deleted = futureReminder("in two days", 2);
+        Reminder kept = futureReminder("also in two days", 2);
+        Model model = modelWith(deleted, kept);
+        ReminderCheck check = new ReminderCheck(model, autoSaver, fxTasks::add);
+        check.publishDue(snapshotOf(deleted, kept), deleted.getFireAt(System.currentTimeMillis()));
+        model.deleteReminder(deleted);
+
+        runFxTasks();
+        assertFalse(model.hasReminder(deleted));
+        assertFalse(deleted.getShow());
+        assertTrue(kept.getShow());
+    }
+
+    @Test
+    public void drain_started_checkRescheduledRightAway() {
+        Reminder reminder = futureReminder("in two days", 2);
+        ReminderCheck check = new ReminderCheck(modelWith(reminder), autoSaver, fxTasks::add);
+        check.start(scheduler);
+        scheduler.delays.clear();
+        check.publishDue(snapshotOf(reminder), reminder.getFireAt(System.currentTimeMillis()));
+
+        runFxTasks();
+        check.stop();
+        assertEquals(Collections.singletonList(0L), scheduler.delays);
+    }
+
+    @Test
+    public void run_nothingDue_rescheduledForNextDeadline() {
+        Reminder reminder = futureReminder("in two days", 2);
+        ReminderCheck check = new ReminderCheck(modelWith(reminder), autoSaver, fxTasks::add);
+        check.start(scheduler);
+        scheduler.delays.clear();
+
+        long before = System.currentTimeMillis();
+        check.run();
+        long after = System.currentTimeMillis();
+        check.stop();
+        assertTrue(fxTasks.isEmpty());
+        assertEquals(1, scheduler.delays.size());
+        long delay = scheduler.delays.get(0);
+        assertTrue(delay <= Math.min(ReminderCheck.MAX_DELAY_MILLIS, reminder.getFireAt(before) - before));
+        assertTrue(delay >= Math.min(ReminderCheck.MAX_DELAY_MILLIS, reminder.getFireAt(after) - after));
+    }
+
+    @Test
+    public void start_reminderAdded_checkRescheduledRightAway() {
+        Model model = modelWith(futureReminder("in two days", 2));
+        ReminderCheck check = new ReminderCheck(model, autoSaver, fxTasks::add);
+        check.start(scheduler);
+        scheduler.delays.clear();
+
+        model.addReminder(futureReminder("in a day", 1));
+        check.stop();
+        assertFalse(scheduler.delays.isEmpty());
+        assertEquals(0L, (long) scheduler.delays.get(scheduler.delays.size() - 1));
+    }
+
+    @Test
+    public void start_reminderExpiredWhileClosed_undoRevertsUserCommandOnly() {
+        // the event of REMINDER1 is long over, so its reminder has expired
+        Reminder expired = new Reminder(REMINDER1);
+        Model model = new ModelManager(addressBookWith(EVENT1, expired), new UserPrefs());
+        model.addPerson(ALICE);
+        model.commitAddressBook();
+
+        ReminderCheck check = new ReminderCheck(model, autoSaver, fxTasks::add);
+        check.start(scheduler);
+        check.stop();
+        assertFalse(model.hasReminder(expired));
+        assertTrue(check.getMissedDigest().isPresent());
+
+        model.undoAddressBook();
+        assertFalse(model.hasPerson(ALICE));
+        assertFalse(model.hasReminder(expired));
+        assertFalse(model.canUndoAddressBook());
+
+        model.redoAddressBook();
+        assertTrue(model.hasPerson(ALICE));
+        assertFalse(model.hasReminder(expired));
+    }
+
+    private void runFxTasks() {
+        List<Runnable> tasks = new ArrayList<>(fxTasks);
+        fxTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    /**
+     * Returns a reminder, one hour ahead, of an event named {@code name} that starts {@code days} days from now.
+     */
+    private Reminder futureReminder(String name, int days) {
+        LocalDateTime start = now.plusDays(days);
+        Event event = new EventBuilder().withName(name)
+                .withStartDateTime(start.format(DateTime.DATE_TIME_FORMATTER))
+                .withEndDateTime(start.plusHours(1).format(DateTime.DATE_TIME_FORMATTER)).build();
+        return new Reminder(event, new Interval("1", "hour"), "Reminder: You have an Event!");
+    }
+
+    private static Model modelWith(Reminder... reminders) {
+        AddressBook addressBook = new AddressBook();
+        for (Reminder reminder : reminders) {
+            addressBook.addEvent(reminder.getEvent());
+            addressBook.addReminder(reminder);
+        }
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+
+    private static AddressBook addressBookWith(Event event, Reminder reminder) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addEvent(event);
+        addressBook.addReminder(reminder);
+        return addressBook;
+    }
+
+    private static List<ReminderState> snapshotOf(Reminder... reminders) {
+        List<ReminderState> snapshot = new ArrayList<>();
+        for (Reminder reminder : reminders) {
+            snapshot.add(new ReminderState(reminder));
+        }
+        return snapshot;
+    }
+
+    /**
+     * A scheduler that records the delay of every check scheduled on it, and never runs them.
+     */
+    private static class RecordingScheduler extends ScheduledThreadPoolExecutor {
+        private final List<Long> delays = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            delays.add(unit.toMillis(delay));
+            return super.schedule(() -> { }, 1, TimeUnit.DAYS);
+        }
+    }
+}
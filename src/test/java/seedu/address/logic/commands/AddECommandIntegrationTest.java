@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static seedu.address.logic.commands.CommandTestUtil.assertEventCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertEventCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
 import static seedu.address.testutil.TypicalEvents.getTypicalAddressBook;
 
 import org.junit.Before;
@@ -14,12 +15,13 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.event.Event;
 import seedu.address.testutil.EventBuilder;
 
-
 /**
  * Contains integration tests (interaction with the Model) for {@code AddECommand}.
  */
 public class AddECommandIntegrationTest {
 
+    private static final String EVENT1_CLASH = "event1 (2020-01-01 14:00:00 at LT16)";
+
     private Model model;
     private CommandHistory commandHistory = new CommandHistory();
 
@@ -47,4 +49,28 @@ public class AddECommandIntegrationTest {
                 AddECommand.MESSAGE_DUPLICATE_EVENT);
     }
 
+    @Test
+    public void execute_clashingEvent_successWithWarning() {
+        Event clashingEvent = new EventBuilder(EVENT1).withName("Consultation").build();
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addEvent(clashingEvent);
+        expectedModel.commitAddressBook();
+
+        assertEventCommandSuccess(new AddECommand(clashingEvent), model, commandHistory,
+                String.format(AddECommand.MESSAGE_SUCCESS, clashingEvent)
+                        + String.format(ClashCheck.MESSAGE_CLASH_WARNING, EVENT1_CLASH), expectedModel);
+    }
+
+    @Test
+    public void execute_clashingEventStrictClashCheck_throwsCommandException() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStrictClashCheck(true);
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        Event clashingEvent = new EventBuilder(EVENT1).withName("Consultation").build();
+
+        assertEventCommandFailure(new AddECommand(clashingEvent), model, commandHistory,
+                String.format(ClashCheck.MESSAGE_CLASH_REFUSED, EVENT1_CLASH));
+    }
+
 }
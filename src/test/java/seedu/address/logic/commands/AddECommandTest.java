@@ -8,6 +8,10 @@ import static org.junit.Assert.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -20,10 +24,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeRange;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.testutil.EventBuilder;
@@ -131,6 +137,11 @@ public class AddECommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -141,6 +152,21 @@ public class AddECommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int applyChanges(AddressBookDiff changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadEventsAndRemindersLater(CompletableFuture<? extends ReadOnlyAddressBook> eventsAndReminders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void awaitEventsAndReminders() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -211,11 +237,26 @@ public class AddECommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addEvents(List<Event> events) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasEvent(Event event) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Event> getClashingEvents(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimeRange> getBusyTimes(Set<Person> participants, TimeRange window) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteEvent(Event event) {
             throw new AssertionError("This method should not be called.");
@@ -261,6 +302,11 @@ public class AddECommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void removeShownReminder(Reminder reminder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean isReminderPassed(Reminder reminder) {
             throw new AssertionError("This method should not be called.");
@@ -295,6 +341,11 @@ public class AddECommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void expireReminders(Collection<Reminder> reminders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setSelectedReminder(Reminder reminder) {
             throw new AssertionError("This method should not be called.");
@@ -354,6 +405,12 @@ public class AddECommandTest {
             return eventsAdded.stream().anyMatch(event::isSameEvent);
         }
 
+        @Override
+        public List<Event> getClashingEvents(Event event) {
+            requireNonNull(event);
+            return new ArrayList<>();
+        }
+
         @Override
         public void addEvent(Event event) {
             requireNonNull(event);
@@ -5,11 +5,13 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertEventCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertEventCommandSuccess;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
 import static seedu.address.testutil.TypicalEvents.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_EVENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import org.junit.Test;
 
@@ -29,6 +31,8 @@ import seedu.address.testutil.EventBuilder;
  */
 public class ConnectCommandTest {
 
+    private static final String MEETING_CLASH = "meeting (2020-01-01 14:00:00 at COM2)";
+
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
     private CommandHistory commandHistory = new CommandHistory();
 
@@ -72,6 +76,33 @@ public class ConnectCommandTest {
         assertEventCommandSuccess(connectCommand, model, commandHistory, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_contactBusyAtEventTime_successWithWarning() {
+        model = new ModelManager(getAddressBookWithMeeting(), new UserPrefs());
+        Event eventToUpdate = model.getFilteredEventList().get(INDEX_FIRST_EVENT.getZeroBased());
+        ConnectCommand connectCommand = new ConnectCommand(INDEX_FIRST_PERSON, INDEX_FIRST_EVENT);
+
+        Event updatedEvent = ConnectCommand.addContactToEvent(ALICE, eventToUpdate);
+
+        String expectedMessage = String.format(ConnectCommand.MESSAGE_CONNECT_SUCCESS, ALICE, eventToUpdate)
+                + String.format(ClashCheck.MESSAGE_CLASH_WARNING, MEETING_CLASH);
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setEvent(eventToUpdate, updatedEvent);
+        expectedModel.commitAddressBook();
+        assertEventCommandSuccess(connectCommand, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_contactBusyAtEventTimeStrictClashCheck_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStrictClashCheck(true);
+        model = new ModelManager(getAddressBookWithMeeting(), userPrefs);
+        ConnectCommand connectCommand = new ConnectCommand(INDEX_FIRST_PERSON, INDEX_FIRST_EVENT);
+
+        assertEventCommandFailure(connectCommand, model, commandHistory,
+                String.format(ClashCheck.MESSAGE_CLASH_REFUSED, MEETING_CLASH));
+    }
+
     @Test
     public void execute_invalidEventIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredEventList().size() + 1);
@@ -113,4 +144,17 @@ public class ConnectCommandTest {
 
     }
 
+    /**
+     * Returns an address book with {@code EVENT1} and a meeting of {@code ALICE} elsewhere at the same time.
+     */
+    private static AddressBook getAddressBookWithMeeting() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addEvent(EVENT1);
+        Event meeting = new EventBuilder(EVENT1).withName("meeting").withVenue("COM2").build();
+        meeting.addPerson(ALICE);
+        addressBook.addEvent(meeting);
+        return addressBook;
+    }
+
 }
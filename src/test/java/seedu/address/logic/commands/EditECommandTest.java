@@ -12,6 +12,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_VENUE_EVENT2;
 import static seedu.address.logic.commands.CommandTestUtil.assertEventCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertEventCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showEventAtIndex;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
 import static seedu.address.testutil.TypicalEvents.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_EVENT;
@@ -35,6 +36,8 @@ import seedu.address.ui.WindowViewState;
  */
 public class EditECommandTest {
 
+    private static final String EVENT1_CLASH = "event1 (2020-01-01 14:00:00 at LT16)";
+
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
     private CommandHistory commandHistory = new CommandHistory();
 
@@ -128,6 +131,39 @@ public class EditECommandTest {
         assertEventCommandFailure(editECommand, model, commandHistory, EditECommand.MESSAGE_DUPLICATE_EVENT);
     }
 
+    @Test
+    public void execute_clashingEventUnfilteredList_successWithWarning() {
+        Event eventToEdit = model.getFilteredEventList().get(INDEX_SECOND_EVENT.getZeroBased());
+        Event editedEvent = new EventBuilder(eventToEdit).withVenue(EVENT1.getVenue().toString())
+                .withStartDateTime(EVENT1.getStartDateTime().toString())
+                .withEndDateTime(EVENT1.getEndDateTime().toString()).build();
+        EditECommand editECommand = new EditECommand(INDEX_SECOND_EVENT,
+                new EditEventDescriptorBuilder(editedEvent).build());
+
+        String expectedMessage = String.format(EditECommand.MESSAGE_EDIT_EVENT_SUCCESS, editedEvent)
+                + String.format(ClashCheck.MESSAGE_CLASH_WARNING, EVENT1_CLASH);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setEvent(eventToEdit, editedEvent);
+        expectedModel.commitAddressBook();
+
+        assertEventCommandSuccess(editECommand, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_clashingEventStrictClashCheck_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStrictClashCheck(true);
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        EditECommand.EditEventDescriptor descriptor = new EditEventDescriptorBuilder()
+                .withVenue(EVENT1.getVenue().toString()).withStartDateTime(EVENT1.getStartDateTime().toString())
+                .withEndDateTime(EVENT1.getEndDateTime().toString()).build();
+        EditECommand editECommand = new EditECommand(INDEX_SECOND_EVENT, descriptor);
+
+        assertEventCommandFailure(editECommand, model, commandHistory,
+                String.format(ClashCheck.MESSAGE_CLASH_REFUSED, EVENT1_CLASH));
+    }
+
     @Test
     public void execute_invalidEventIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredEventList().size() + 1);
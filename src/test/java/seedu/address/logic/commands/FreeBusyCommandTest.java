@@ -0,0 +1,117 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeRange;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TypicalPersons;
+import seedu.address.ui.WindowViewState;
+
+public class FreeBusyCommandTest {
+
+    private static final DateTime START = new DateTime("2019-03-04 08:00:00");
+    private static final DateTime END = new DateTime("2019-03-04 18:00:00");
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_participantsWithEvents_busyAndFreeListed() throws Exception {
+        model.addEvent(event("lecture", "2019-03-04 07:00:00", "2019-03-04 10:00:00", TypicalPersons.ALICE));
+        model.addEvent(event("lunch", "2019-03-04 09:30:00", "2019-03-04 11:00:00", TypicalPersons.BENSON));
+        model.addEvent(event("tutorial", "2019-03-04 14:00:00", "2019-03-04 15:00:00", TypicalPersons.CARL));
+        Event gym = new EventBuilder().withName("gym").withStartDateTime("2019-02-25 16:00:00")
+                .withEndDateTime("2019-02-25 17:00:00").withRecurrence("weekly until 2019-04-30").build();
+        gym.addPerson(TypicalPersons.ALICE);
+        model.addEvent(gym);
+
+        FreeBusyCommand command = new FreeBusyCommand(indices(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                Collections.emptySet(), START, END);
+        String expected = String.format(FreeBusyCommand.MESSAGE_SUCCESS, 2, START, END)
+                + "\n" + FreeBusyCommand.MESSAGE_BUSY
+                + "\n  2019-03-04 08:00:00 to 2019-03-04 11:00:00"
+                + "\n  2019-03-04 16:00:00 to 2019-03-04 17:00:00"
+                + "\n" + FreeBusyCommand.MESSAGE_FREE
+                + "\n  2019-03-04 11:00:00 to 2019-03-04 16:00:00"
+                + "\n  2019-03-04 17:00:00 to 2019-03-04 18:00:00";
+        assertEquals(expected, command.execute(model, commandHistory, WindowViewState.PERSONS).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noEvents_wholeRangeFree() throws Exception {
+        FreeBusyCommand command = new FreeBusyCommand(Collections.emptySet(),
+                new HashSet<>(Arrays.asList(new Tag("owesMoney"))), START, END);
+        String expected = String.format(FreeBusyCommand.MESSAGE_SUCCESS, 1, START, END)
+                + "\n" + FreeBusyCommand.MESSAGE_BUSY
+                + "\n" + FreeBusyCommand.MESSAGE_NONE
+                + "\n" + FreeBusyCommand.MESSAGE_FREE
+                + "\n  " + START + " to " + END;
+        assertEquals(expected, command.execute(model, commandHistory, WindowViewState.PERSONS).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidIndex_failure() {
+        Index outOfBounds = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new FreeBusyCommand(indices(outOfBounds), Collections.emptySet(), START, END), model,
+                commandHistory, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_endBeforeStart_failure() {
+        assertCommandFailure(new FreeBusyCommand(indices(INDEX_FIRST_PERSON), Collections.emptySet(), END, START),
+                model, commandHistory, FreeBusyCommand.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void getGaps_busyRangesAtEdges_onlyInnerGaps() {
+        TimeRange window = new TimeRange(0, 100);
+        List<TimeRange> busy = Arrays.asList(new TimeRange(0, 10), new TimeRange(50, 100));
+        assertEquals(Arrays.asList(new TimeRange(10, 50)), FreeBusyCommand.getGaps(busy, window));
+    }
+
+    @Test
+    public void equals() {
+        FreeBusyCommand first = new FreeBusyCommand(indices(INDEX_FIRST_PERSON), Collections.emptySet(), START, END);
+
+        assertTrue(first.equals(first));
+        assertTrue(first.equals(new FreeBusyCommand(indices(INDEX_FIRST_PERSON), Collections.emptySet(), START,
+                END)));
+        assertFalse(first.equals(new FreeBusyCommand(indices(INDEX_SECOND_PERSON), Collections.emptySet(), START,
+                END)));
+        assertFalse(first.equals(null));
+    }
+
+    private static Set<Index> indices(Index... indices) {
+        return new HashSet<>(Arrays.asList(indices));
+    }
+
+    private static Event event(String name, String start, String end, Person participant) {
+        Event event = new EventBuilder().withName(name).withStartDateTime(start).withEndDateTime(end).build();
+        event.addPerson(participant);
+        return event;
+    }
+}
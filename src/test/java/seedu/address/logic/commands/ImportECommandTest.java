@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertEventCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertEventCommandSuccess;
+import static seedu.address.testutil.TestUtil.writeToSandboxFolder;
+import static seedu.address.testutil.TypicalEvents.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class ImportECommandTest {
+
+    private static final Path MISSING_FILE = Paths.get("src", "test", "data", "ImportECommandTest", "missing.ics");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new ImportECommand(null);
+    }
+
+    @Test
+    public void execute_newAndExistingEvents_newEventsAdded() throws Exception {
+        Path filePath = writeToSandboxFolder("importE.ics",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "SUMMARY:Consultation",
+                "LOCATION:COM1",
+                "DESCRIPTION:Project help",
+                "CATEGORIES:school",
+                "DTSTART:20200102T100000",
+                "DTEND:20200102T110000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:event1",
+                "LOCATION:LT16",
+                "DESCRIPTION:CS2103 lecture",
+                "CATEGORIES:important",
+                "DTSTART:20200101T140000",
+                "DTEND:20200101T160000",
+                "END:VEVENT",
+                "END:VCALENDAR");
+        Event consultation = new EventBuilder().withName("Consultation").withVenue("COM1")
+                .withDescription("Project help").withLabel("school")
+                .withStartDateTime("2020-01-02 10:00:00").withEndDateTime("2020-01-02 11:00:00").build();
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addEvents(Collections.singletonList(consultation));
+        expectedModel.commitAddressBook();
+
+        assertEventCommandSuccess(new ImportECommand(filePath), model, commandHistory,
+                String.format(ImportECommand.MESSAGE_SUCCESS, 1, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertEventCommandFailure(new ImportECommand(MISSING_FILE), model, commandHistory,
+                ImportECommand.MESSAGE_INVALID_FILE);
+    }
+
+    @Test
+    public void equals() {
+        ImportECommand importCalendarCommand = new ImportECommand(Paths.get("data", "calendar.ics"));
+
+        // same object -> returns true
+        assertTrue(importCalendarCommand.equals(importCalendarCommand));
+
+        // same values -> returns true
+        assertTrue(importCalendarCommand.equals(new ImportECommand(Paths.get("data", "calendar.ics"))));
+
+        // different types -> returns false
+        assertFalse(importCalendarCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCalendarCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(importCalendarCommand.equals(new ImportECommand(Paths.get("data", "other.ics"))));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.FreeBusyCommand;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.tag.Tag;
+
+public class FreeBusyCommandParserTest {
+
+    private static final String RANGE = " s/2019-03-04 08:00:00 e/2019-03-08 20:00:00";
+    private static final DateTime START = new DateTime("2019-03-04 08:00:00");
+    private static final DateTime END = new DateTime("2019-03-08 20:00:00");
+
+    private final FreeBusyCommandParser parser = new FreeBusyCommandParser();
+
+    @Test
+    public void parse_indicesAndTags_success() {
+        assertParseSuccess(parser, "1 3" + RANGE, new FreeBusyCommand(
+                new HashSet<>(Arrays.asList(Index.fromOneBased(1), Index.fromOneBased(3))), Collections.emptySet(),
+                START, END));
+        assertParseSuccess(parser, " t/friends" + RANGE, new FreeBusyCommand(Collections.emptySet(),
+                new HashSet<>(Arrays.asList(new Tag("friends"))), START, END));
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeBusyCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, RANGE, expectedMessage);
+        assertParseFailure(parser, "1 s/2019-03-04 08:00:00", expectedMessage);
+        assertParseFailure(parser, "1 e/2019-03-08 20:00:00", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, "0" + RANGE, ParserUtil.MESSAGE_INVALID_INDEX);
+        assertParseFailure(parser, "1 s/2019-03-04 e/2019-03-08 20:00:00", DateTime.MESSAGE_CONSTRAINTS);
+    }
+}
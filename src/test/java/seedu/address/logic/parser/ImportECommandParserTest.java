@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ImportECommand;
+
+public class ImportECommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportECommand.MESSAGE_USAGE);
+
+    private ImportECommandParser parser = new ImportECommandParser();
+
+    @Test
+    public void parse_icsFile_returnsImportECommand() {
+        assertParseSuccess(parser, " data/calendar.ics ", new ImportECommand(Paths.get("data", "calendar.ics")));
+        assertParseSuccess(parser, "calendar.ICS", new ImportECommand(Paths.get("calendar.ICS")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_notIcsFile_throwsParseException() {
+        assertParseFailure(parser, "data/contacts.vcf", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "data/calendar", MESSAGE_INVALID_FORMAT);
+    }
+}
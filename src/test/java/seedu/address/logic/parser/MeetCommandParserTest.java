@@ -5,8 +5,10 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAY
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -139,6 +141,15 @@ public class MeetCommandParserTest {
                 .withIndices(createIndexSetFrom(1))
                 .build();
         assertParseSuccess(parser, "1 block/!breakfast", expectedCommand);
+        expectedCommand = new DefaultMeetCommandBuilder()
+                .withBlock(new Block(LocalTime.of(9, 0), LocalTime.of(12, 0), false)
+                        .or(Block.afternoon(false))
+                        .onlyOn(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY))
+                        .except(Block.onDays(EnumSet.of(DayOfWeek.FRIDAY))))
+                .withIndices(createIndexSetFrom(1))
+                .build();
+        assertParseSuccess(parser, "1 block/09:00 12:00, afternoon, weekdays, !fri", expectedCommand);
+        assertParseSuccess(parser, "1 block/mon, tue, wed, thu, 09:00 12:00, afternoon", expectedCommand);
 
     }
 
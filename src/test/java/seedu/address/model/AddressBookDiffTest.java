@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalReminders.EVENT1;
+import static seedu.address.testutil.TypicalReminders.EVENT2;
+import static seedu.address.testutil.TypicalReminders.REMINDER1;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookDiffTest {
+
+    private static final String ADDRESS = "1 Changed Street";
+
+    @Test
+    public void between_sameRecords_isEmpty() {
+        AddressBook addressBook = addressBookOf(ALICE, BENSON);
+        assertTrue(AddressBookDiff.between(addressBook, new AddressBook(addressBook)).isEmpty());
+    }
+
+    @Test
+    public void between_editedPerson_isOneChange() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(ADDRESS).build();
+        AddressBookDiff diff = AddressBookDiff.between(addressBookOf(ALICE, BENSON, CARL),
+                addressBookOf(editedAlice, CARL, HOON));
+
+        assertEquals(Collections.singletonList(HOON), diff.getAddedPersons());
+        assertEquals(Collections.singletonList(BENSON), diff.getRemovedPersons());
+        assertEquals(1, diff.getChangedPersons().size());
+        assertEquals(ALICE, diff.getChangedPersons().get(0).getBefore());
+        assertEquals(editedAlice, diff.getChangedPersons().get(0).getAfter());
+        assertEquals(3, diff.size());
+    }
+
+    @Test
+    public void applyChanges_untouchedRecords_appliedInPlace() {
+        AddressBook base = addressBookOf(ALICE, BENSON, CARL);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(ADDRESS).build();
+        AddressBookDiff diff = AddressBookDiff.between(base, addressBookOf(editedAlice, BENSON, HOON));
+        AddressBook current = new AddressBook(base);
+        AtomicInteger notificationCount = new AtomicInteger();
+        current.addListener(observable -> notificationCount.incrementAndGet());
+
+        assertEquals(0, current.applyChanges(diff));
+        assertEquals(Arrays.asList(editedAlice, BENSON, HOON), current.getPersonList());
+        assertEquals(1, notificationCount.get());
+    }
+
+    @Test
+    public void applyChanges_recordChangedInBoth_keepsChangeMadeHere() {
+        AddressBook base = addressBookOf(ALICE, BENSON);
+        AddressBookDiff diff = AddressBookDiff.between(base,
+                addressBookOf(new PersonBuilder(ALICE).withAddress(ADDRESS).build()));
+        AddressBook current = new AddressBook(base);
+        Person taggedAlice = new PersonBuilder(ALICE).withTags("colleague").build();
+        current.setPerson(ALICE, taggedAlice);
+        Person taggedBenson = new PersonBuilder(BENSON).withTags("colleague").build();
+        current.setPerson(BENSON, taggedBenson);
+
+        // the edit of Alice and the removal of Benson are both left out.
+        assertEquals(2, current.applyChanges(diff));
+        assertEquals(Arrays.asList(taggedAlice, taggedBenson), current.getPersonList());
+    }
+
+    @Test
+    public void applyChanges_editedEvent_movesItsReminders() {
+        AddressBook base = new AddressBook();
+        base.addEvent(EVENT1);
+        base.addEvent(EVENT2);
+        base.addReminder(REMINDER1);
+        Event editedEvent = new EventBuilder(EVENT1).withDescription("Moved online").build();
+        AddressBook changed = new AddressBook();
+        changed.addEvent(editedEvent);
+        changed.addReminder(new Reminder(editedEvent, REMINDER1.getInterval(), REMINDER1.getMessage()));
+        AddressBook current = new AddressBook(base);
+
+        assertEquals(0, current.applyChanges(AddressBookDiff.between(base, changed)));
+        assertEquals(changed.getEventList(), current.getEventList());
+        assertEquals(changed.getReminderList(), current.getReminderList());
+    }
+
+    private static AddressBook addressBookOf(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(persons));
+        return addressBook;
+    }
+}
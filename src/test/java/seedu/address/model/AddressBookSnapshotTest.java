@@ -0,0 +1,44 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void of_addressBook_keepsListsAndStamps() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertEquals(addressBook.getEventList(), snapshot.getEventList());
+        assertEquals(addressBook.getReminderList(), snapshot.getReminderList());
+        assertTrue(snapshot.hasStamps());
+        assertEquals(addressBook.getPersonsStamp(), snapshot.getPersonsStamp());
+        assertEquals(addressBook.getEventsStamp(), snapshot.getEventsStamp());
+        assertEquals(addressBook.getRemindersStamp(), snapshot.getRemindersStamp());
+        assertSame(snapshot, AddressBookSnapshot.of(snapshot));
+    }
+
+    @Test
+    public void of_addressBookChangedAfterwards_snapshotUnchanged() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        long personsStamp = snapshot.getPersonsStamp();
+
+        addressBook.addPerson(BENSON);
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        assertEquals(personsStamp, snapshot.getPersonsStamp());
+        assertEquals(Arrays.asList(ALICE, BENSON), addressBook.getPersonList());
+    }
+}
@@ -2,15 +2,20 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalReminders.EVENT1;
+import static seedu.address.testutil.TypicalReminders.REMINDER1;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.Rule;
@@ -26,6 +31,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.model.reminder.ReminderList;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -115,6 +121,44 @@ public class AddressBookTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void setPerson_personTakingPartInEvent_eventAndRemindersFollowEditedPerson() {
+        Event event = new EventBuilder(EVENT1).build();
+        event.addPerson(ALICE, BENSON);
+        Reminder reminder = new Reminder(event, REMINDER1.getInterval(), REMINDER1.getMessage());
+        reminder.setShow(true);
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON));
+        addressBook.addEvent(event);
+        addressBook.addReminder(reminder);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        addressBook.setPerson(ALICE, editedAlice);
+
+        Event editedEvent = addressBook.getEventList().get(0);
+        assertEquals(new HashSet<>(Arrays.asList(editedAlice, BENSON)), editedEvent.getPersons());
+        assertSame(editedEvent, addressBook.getReminderList().get(0).getEvent());
+        assertTrue(addressBook.getReminderList().get(0).getShow());
+        // the event held before the edit is left as it was.
+        assertTrue(event.hasPerson(ALICE));
+    }
+
+    @Test
+    public void removeEvent_eventWithReminders_remindersRemoved() {
+        Event other = new EventBuilder().withName("other").build();
+        Reminder otherReminder = new Reminder(other, REMINDER1.getInterval(), REMINDER1.getMessage());
+        addressBook.addEvent(EVENT1);
+        addressBook.addEvent(other);
+        addressBook.addReminder(new Reminder(REMINDER1));
+        addressBook.addReminder(otherReminder);
+        long remindersStamp = addressBook.getRemindersStamp();
+
+        addressBook.removeEvent(EVENT1);
+
+        assertEquals(Collections.singletonList(other), addressBook.getEventList());
+        assertEquals(Collections.singletonList(otherReminder), addressBook.getReminderList());
+        assertTrue(addressBook.getRemindersStamp() != remindersStamp);
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
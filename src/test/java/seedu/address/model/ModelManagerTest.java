@@ -3,23 +3,28 @@ package seedu.address.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -103,6 +108,44 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void awaitEventsAndReminders_loadedAfterCommit_keptOnUndo() throws Exception {
+        CompletableFuture<AddressBook> eventsAndReminders = new CompletableFuture<>();
+        modelManager.loadEventsAndRemindersLater(eventsAndReminders);
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+
+        AddressBook loaded = new AddressBook();
+        loaded.addEvent(EVENT1);
+        eventsAndReminders.complete(loaded);
+        modelManager.awaitEventsAndReminders();
+        assertTrue(modelManager.hasEvent(EVENT1));
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertTrue(modelManager.hasEvent(EVENT1));
+
+        // events and reminders are only added once
+        modelManager.awaitEventsAndReminders();
+        assertEquals(1, modelManager.getAddressBook().getEventList().size());
+    }
+
+    @Test
+    public void awaitEventsAndReminders_readFailed_throwsOnEveryCall() {
+        CompletableFuture<AddressBook> eventsAndReminders = new CompletableFuture<>();
+        eventsAndReminders.completeExceptionally(new DataConversionException(new IOException("unreadable")));
+        modelManager.loadEventsAndRemindersLater(eventsAndReminders);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                modelManager.awaitEventsAndReminders();
+                fail("DataConversionException was not thrown");
+            } catch (DataConversionException dce) {
+                assertTrue(modelManager.getAddressBook().getEventList().isEmpty());
+            }
+        }
+    }
+
     @Test
     public void deletePerson_personIsSelectedAndFirstPersonInFilteredPersonList_selectionCleared() {
         modelManager.addPerson(ALICE);
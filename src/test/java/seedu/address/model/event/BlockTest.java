@@ -5,8 +5,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Optional;
 
 import org.junit.Test;
 
@@ -91,4 +95,51 @@ public class BlockTest {
         assertEquals(block.getFirst(), LocalTime.of(23, 45));
     }
 
+    @Test
+    public void compositeWithinTest() {
+        // Weekdays 9-12 or 14-17, not Fridays. 2019-04-01 is a Monday.
+        Block block = new Block(LocalTime.of(9, 0), LocalTime.of(12, 0), false)
+                .or(new Block(LocalTime.of(14, 0), LocalTime.of(17, 0), false))
+                .onlyOn(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY))
+                .except(Block.onDays(EnumSet.of(DayOfWeek.FRIDAY)));
+        assertTrue(block.isWithinBlock(LocalDateTime.of(2019, 4, 1, 9, 0),
+                LocalDateTime.of(2019, 4, 1, 12, 0)));
+        assertTrue(block.isWithinBlock(LocalDateTime.of(2019, 4, 4, 14, 30),
+                LocalDateTime.of(2019, 4, 4, 16, 0)));
+        assertFalse(block.isWithinBlock(LocalDateTime.of(2019, 4, 1, 11, 0),
+                LocalDateTime.of(2019, 4, 1, 14, 30)));
+        assertFalse(block.isWithinBlock(LocalDateTime.of(2019, 4, 5, 9, 0),
+                LocalDateTime.of(2019, 4, 5, 10, 0)));
+        assertFalse(block.isWithinBlock(LocalDateTime.of(2019, 4, 6, 9, 0),
+                LocalDateTime.of(2019, 4, 6, 10, 0)));
+    }
+
+    @Test
+    public void nextValidStartTest() {
+        Block block = new Block(LocalTime.of(9, 0), LocalTime.of(12, 0), false)
+                .or(new Block(LocalTime.of(14, 0), LocalTime.of(17, 0), false))
+                .except(Block.onDays(EnumSet.of(DayOfWeek.FRIDAY)));
+
+        // Already valid.
+        assertEquals(Optional.of(LocalDateTime.of(2019, 4, 1, 9, 30)),
+                block.nextValidStart(LocalDateTime.of(2019, 4, 1, 9, 30), Duration.ofHours(1)));
+        // Morning is too short, so jump to the afternoon.
+        assertEquals(Optional.of(LocalDateTime.of(2019, 4, 1, 14, 0)),
+                block.nextValidStart(LocalDateTime.of(2019, 4, 1, 11, 30), Duration.ofHours(1)));
+        // Thursday evening, so skip Friday entirely.
+        assertEquals(Optional.of(LocalDateTime.of(2019, 4, 6, 9, 0)),
+                block.nextValidStart(LocalDateTime.of(2019, 4, 4, 18, 0), Duration.ofHours(2)));
+        // No window is long enough.
+        assertFalse(block.nextValidStart(LocalDateTime.of(2019, 4, 1, 9, 0), Duration.ofHours(4)).isPresent());
+    }
+
+    @Test
+    public void nextValidStartAcrossMidnightTest() {
+        Block block = new Block(LocalTime.of(22, 0), LocalTime.of(2, 0), false);
+        assertEquals(Optional.of(LocalDateTime.of(2019, 4, 1, 22, 0)),
+                block.nextValidStart(LocalDateTime.of(2019, 4, 1, 1, 0), Duration.ofHours(2)));
+        assertEquals(Optional.of(LocalDateTime.of(2019, 4, 1, 23, 0)),
+                block.nextValidStart(LocalDateTime.of(2019, 4, 1, 23, 0), Duration.ofHours(3)));
+    }
+
 }
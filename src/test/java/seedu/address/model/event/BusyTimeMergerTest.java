@@ -0,0 +1,109 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class BusyTimeMergerTest {
+
+    private static final Set<Person> ALICE_AND_BENSON = new HashSet<>(Arrays.asList(TypicalPersons.ALICE,
+            TypicalPersons.BENSON));
+
+    @Test
+    public void merge_noEvents_returnsEmptyList() {
+        assertTrue(BusyTimeMerger.merge(new ArrayList<>(), ALICE_AND_BENSON).isEmpty());
+    }
+
+    @Test
+    public void merge_eventsWithoutParticipants_ignored() {
+        List<Event> events = Arrays.asList(event("2019-01-01 10:00:00", "2019-01-01 11:00:00",
+                TypicalPersons.CARL));
+        assertTrue(BusyTimeMerger.merge(events, ALICE_AND_BENSON).isEmpty());
+    }
+
+    @Test
+    public void merge_overlappingAndTouchingEvents_joined() {
+        List<Event> events = Arrays.asList(
+                event("2019-01-01 12:00:00", "2019-01-01 13:00:00", TypicalPersons.BENSON),
+                event("2019-01-01 10:00:00", "2019-01-01 11:00:00", TypicalPersons.ALICE),
+                event("2019-01-01 10:30:00", "2019-01-01 12:00:00", TypicalPersons.BENSON),
+                event("2019-01-01 15:00:00", "2019-01-01 16:00:00", TypicalPersons.ALICE));
+
+        List<TimeRange> expected = Arrays.asList(
+                range("2019-01-01T10:00", "2019-01-01T13:00"),
+                range("2019-01-01T15:00", "2019-01-01T16:00"));
+        assertEquals(expected, BusyTimeMerger.merge(events, ALICE_AND_BENSON));
+        assertEquals(expected, BusyTimeMerger.mergeSequentially(events, ALICE_AND_BENSON));
+    }
+
+    @Test
+    public void merge_manyEvents_parallelMatchesSequential() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < BusyTimeMerger.SEQUENTIAL_THRESHOLD * 4; i++) {
+            LocalDateTime start = LocalDateTime.of(2019, 1, 1, 0, 0).plusMinutes(i * 37L % 10000);
+            Person participant = i % 3 == 0 ? TypicalPersons.CARL : TypicalPersons.ALICE;
+            events.add(event(start.format(DateTime.DATE_TIME_FORMATTER),
+                    start.plusMinutes(20 + i % 50).format(DateTime.DATE_TIME_FORMATTER), participant));
+        }
+        List<TimeRange> sequential = BusyTimeMerger.mergeSequentially(events, ALICE_AND_BENSON);
+
+        Collections.shuffle(events);
+        assertEquals(sequential, BusyTimeMerger.merge(events, ALICE_AND_BENSON));
+    }
+
+    @Test
+    public void merge_recurringEvent_expandedOnlyWithinWindow() {
+        Event weekly = new EventBuilder().withStartDateTime("2019-01-07 10:00:00")
+                .withEndDateTime("2019-01-07 11:00:00").withRecurrence("weekly until 2019-12-31").build();
+        weekly.addPerson(TypicalPersons.ALICE);
+        TimeRange window = range("2019-02-01T00:00", "2019-02-15T00:00");
+
+        List<TimeRange> expected = Arrays.asList(
+                range("2019-02-04T10:00", "2019-02-04T11:00"),
+                range("2019-02-11T10:00", "2019-02-11T11:00"));
+        assertEquals(expected, BusyTimeMerger.merge(Arrays.asList(weekly), ALICE_AND_BENSON, window));
+        assertEquals(expected, BusyTimeMerger.mergeSequentially(Arrays.asList(weekly), ALICE_AND_BENSON, window));
+    }
+
+    @Test
+    public void union_disjointLists_sortedAndJoined() {
+        List<TimeRange> first = Arrays.asList(new TimeRange(0, 10), new TimeRange(20, 30));
+        List<TimeRange> second = Arrays.asList(new TimeRange(5, 15), new TimeRange(40, 50));
+        assertEquals(Arrays.asList(new TimeRange(0, 15), new TimeRange(20, 30), new TimeRange(40, 50)),
+                BusyTimeMerger.union(first, second));
+    }
+
+    @Test
+    public void unionAll_manyLists_sortedAndJoined() {
+        List<TimeRange> first = Arrays.asList(new TimeRange(0, 10), new TimeRange(60, 70));
+        List<TimeRange> second = Arrays.asList(new TimeRange(5, 15), new TimeRange(40, 50));
+        List<TimeRange> third = Arrays.asList(new TimeRange(15, 20), new TimeRange(45, 55));
+        assertEquals(Arrays.asList(new TimeRange(0, 20), new TimeRange(40, 55), new TimeRange(60, 70)),
+                BusyTimeMerger.unionAll(Arrays.asList(first, second, Collections.emptyList(), third)));
+        assertEquals(Collections.emptyList(), BusyTimeMerger.unionAll(Collections.emptyList()));
+    }
+
+    private static Event event(String start, String end, Person participant) {
+        Event event = new EventBuilder().withStartDateTime(start).withEndDateTime(end).build();
+        event.addPerson(participant);
+        return event;
+    }
+
+    private static TimeRange range(String start, String end) {
+        return new TimeRange(TimeRange.toEpochSecond(LocalDateTime.parse(start)),
+                TimeRange.toEpochSecond(LocalDateTime.parse(end)));
+    }
+}
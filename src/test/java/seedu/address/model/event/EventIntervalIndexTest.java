@@ -0,0 +1,87 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class EventIntervalIndexTest {
+
+    private final EventIntervalIndex index = new EventIntervalIndex();
+
+    @Test
+    public void findClashes_sameParticipantOverlapping_found() {
+        Event existing = event("lecture", "LT19", "2019-03-04 10:00:00", "2019-03-04 12:00:00", TypicalPersons.ALICE);
+        index.add(existing);
+
+        Event candidate = event("lunch", "Deck", "2019-03-04 11:00:00", "2019-03-04 13:00:00", TypicalPersons.ALICE);
+        assertEquals(Arrays.asList(existing), index.findClashes(candidate));
+    }
+
+    @Test
+    public void findClashes_sameVenueOverlapping_found() {
+        Event existing = event("lecture", "LT19", "2019-03-04 10:00:00", "2019-03-04 18:00:00", TypicalPersons.ALICE);
+        index.add(existing);
+        index.add(event("short", "LT19", "2019-03-04 08:00:00", "2019-03-04 09:00:00", TypicalPersons.CARL));
+
+        Event candidate = event("talk", "LT19", "2019-03-04 17:00:00", "2019-03-04 19:00:00", TypicalPersons.BENSON);
+        assertEquals(Arrays.asList(existing), index.findClashes(candidate));
+    }
+
+    @Test
+    public void findClashes_touchingOrUnrelated_notFound() {
+        index.add(event("lecture", "LT19", "2019-03-04 10:00:00", "2019-03-04 12:00:00", TypicalPersons.ALICE));
+        index.add(event("tutorial", "COM1", "2019-03-04 12:30:00", "2019-03-04 13:30:00", TypicalPersons.CARL));
+
+        Event candidate = event("lunch", "Deck", "2019-03-04 12:00:00", "2019-03-04 13:00:00", TypicalPersons.ALICE);
+        assertTrue(index.findClashes(candidate).isEmpty());
+    }
+
+    @Test
+    public void findClashes_removedEvent_notFound() {
+        Event existing = event("lecture", "LT19", "2019-03-04 10:00:00", "2019-03-04 12:00:00", TypicalPersons.ALICE);
+        index.add(existing);
+        index.remove(existing);
+
+        Event candidate = event("lunch", "LT19", "2019-03-04 11:00:00", "2019-03-04 13:00:00", TypicalPersons.ALICE);
+        assertEquals(Collections.emptyList(), index.findClashes(candidate));
+    }
+
+    @Test
+    public void findClashes_repeatingEvents_comparedByOccurrence() {
+        Event weekly = new EventBuilder().withName("lecture").withVenue("LT19")
+                .withStartDateTime("2019-03-04 10:00:00").withEndDateTime("2019-03-04 12:00:00")
+                .withRecurrence("weekly until 2019-04-30 except 2019-03-18").build();
+        weekly.addPerson(TypicalPersons.ALICE);
+        index.add(weekly);
+
+        assertEquals(Arrays.asList(weekly), index.findClashes(
+                event("lunch", "Deck", "2019-03-11 11:00:00", "2019-03-11 13:00:00", TypicalPersons.ALICE)));
+        assertTrue(index.findClashes(
+                event("lunch", "Deck", "2019-03-18 11:00:00", "2019-03-18 13:00:00", TypicalPersons.ALICE)).isEmpty());
+    }
+
+    @Test
+    public void findSameEvent() {
+        Event existing = event("lecture", "LT19", "2019-03-04 10:00:00", "2019-03-04 12:00:00", TypicalPersons.ALICE);
+        index.add(existing);
+
+        assertTrue(index.findSameEvent(new EventBuilder(existing).withDescription("moved").build()).isPresent());
+        assertFalse(index.findSameEvent(new EventBuilder(existing).withVenue("LT27").build()).isPresent());
+    }
+
+    private static Event event(String name, String venue, String start, String end, Person participant) {
+        Event event = new EventBuilder().withName(name).withVenue(venue).withStartDateTime(start)
+                .withEndDateTime(end).build();
+        event.addPerson(participant);
+        return event;
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.EventBuilder;
+
+public class RecurrenceTest {
+
+    private static final TimeRange FIRST = range("2019-03-04T10:00", "2019-03-04T12:00");
+
+    @Test
+    public void constructor_invalidRule_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Recurrence("monthly until 2019-04-30"));
+    }
+
+    @Test
+    public void isValidRecurrence() {
+        assertFalse(Recurrence.isValidRecurrence(""));
+        assertFalse(Recurrence.isValidRecurrence("weekly"));
+        assertFalse(Recurrence.isValidRecurrence("weekly until 2019-02-30"));
+        assertFalse(Recurrence.isValidRecurrence("weekly until 2019-04-30 except"));
+
+        assertTrue(Recurrence.isValidRecurrence("daily until 2019-04-30"));
+        assertTrue(Recurrence.isValidRecurrence("weekly  until 2019-04-30 except 2019-03-11 2019-03-18"));
+        assertTrue(Recurrence.isValidRecurrence("fortnightly until 2019-04-30"));
+    }
+
+    @Test
+    public void equals_sameRuleDifferentSpacing_returnsTrue() {
+        assertEquals(new Recurrence("weekly until 2019-04-30 except 2019-03-18 2019-03-11"),
+                new Recurrence("weekly   until 2019-04-30 except 2019-03-11 2019-03-18"));
+    }
+
+    @Test
+    public void getOccurrences_onlyWithinPeriodAndNotSkipped() {
+        Recurrence recurrence = new Recurrence("weekly until 2019-04-30 except 2019-03-18");
+        assertEquals(Arrays.asList(range("2019-03-11T10:00", "2019-03-11T12:00"),
+                range("2019-03-25T10:00", "2019-03-25T12:00")),
+                recurrence.getOccurrences(FIRST, epoch("2019-03-05T00:00"), epoch("2019-03-25T10:00")));
+    }
+
+    @Test
+    public void getOccurrences_touchingOccurrence_included() {
+        Recurrence recurrence = new Recurrence("daily until 2019-03-10");
+        assertEquals(Arrays.asList(range("2019-03-05T10:00", "2019-03-05T12:00")),
+                recurrence.getOccurrences(FIRST, epoch("2019-03-05T12:00"), epoch("2019-03-06T09:00")));
+    }
+
+    @Test
+    public void getOccurrences_lastOccurrenceOnUntilDate() {
+        Recurrence recurrence = new Recurrence("daily until 2019-03-06");
+        assertEquals(3, recurrence.getOccurrences(FIRST, Long.MIN_VALUE, Long.MAX_VALUE).size());
+    }
+
+    @Test
+    public void getFirstOccurrenceFrom() {
+        Recurrence recurrence = new Recurrence("fortnightly until 2019-04-30 except 2019-03-18");
+        assertEquals(Optional.of(FIRST), recurrence.getFirstOccurrenceFrom(FIRST, Long.MIN_VALUE));
+        assertEquals(Optional.of(range("2019-04-01T10:00", "2019-04-01T12:00")),
+                recurrence.getFirstOccurrenceFrom(FIRST, epoch("2019-03-04T10:01")));
+        assertEquals(Optional.empty(), recurrence.getFirstOccurrenceFrom(FIRST, epoch("2019-04-30T00:00")));
+    }
+
+    @Test
+    public void event_hasOccurrenceStartingBetween() {
+        Event event = new EventBuilder().withStartDateTime("2019-03-04 10:00:00")
+                .withEndDateTime("2019-03-04 12:00:00").withRecurrence("weekly until 2019-04-30").build();
+        assertTrue(event.hasOccurrenceStartingBetween(epoch("2019-04-29T00:00"), epoch("2019-04-30T00:00")));
+        assertFalse(event.hasOccurrenceStartingBetween(epoch("2019-04-30T00:00"), epoch("2019-05-07T00:00")));
+    }
+
+    private static long epoch(String dateTime) {
+        return TimeRange.toEpochSecond(LocalDateTime.parse(dateTime));
+    }
+
+    private static TimeRange range(String start, String end) {
+        return new TimeRange(epoch(start), epoch(end));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalEvents.EVENT3;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.event.exceptions.DuplicateEventException;
+import seedu.address.testutil.EventBuilder;
+
+public class UniqueEventListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueEventList uniqueEventList = new UniqueEventList();
+
+    @Test
+    public void addAll_newEvents_addedInOrder() {
+        uniqueEventList.add(EVENT1);
+        uniqueEventList.addAll(Arrays.asList(EVENT2, EVENT3));
+        assertEquals(Arrays.asList(EVENT1, EVENT2, EVENT3), uniqueEventList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(EVENT2), uniqueEventList.getClashingEvents(
+                new EventBuilder(EVENT2).withName("clash").build()));
+    }
+
+    @Test
+    public void addAll_eventWithSameIdentityInList_throwsDuplicateEventException() {
+        uniqueEventList.add(EVENT1);
+        Event editedEvent1 = new EventBuilder(EVENT1).withDescription("another description").build();
+        thrown.expect(DuplicateEventException.class);
+        uniqueEventList.addAll(Arrays.asList(EVENT2, editedEvent1));
+    }
+
+    @Test
+    public void addAll_sameEventTwice_throwsDuplicateEventException() {
+        thrown.expect(DuplicateEventException.class);
+        uniqueEventList.addAll(Arrays.asList(EVENT1, EVENT2, EVENT1));
+    }
+}
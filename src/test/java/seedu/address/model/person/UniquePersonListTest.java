@@ -51,6 +51,21 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void addAll_newPersons_addedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Collections.singletonList(BOB));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_personWithSameIdentityInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.addAll(Arrays.asList(BOB, editedAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -177,6 +192,21 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setPersons_listWithSameNameAndEmail_throwsDuplicatePersonException() {
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone("99999999").build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, aliceWithOtherPhone);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPersons(listWithDuplicatePersons);
+    }
+
+    @Test
+    public void setPersons_listWithSameNameOnly_replacesOwnListWithProvidedList() {
+        Person otherAlice = new PersonBuilder(ALICE).withPhone("99999999").withEmail("other@example.com").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, otherAlice));
+        assertEquals(Arrays.asList(ALICE, otherAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -2,7 +2,12 @@ package seedu.address.model.reminder;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
 import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -27,6 +32,38 @@ public class ReminderListTest {
         list.add(reminder);
     }
 
+    @Test
+    public void removeAll_existingReminders_removed() {
+        Reminder other = new Reminder(EVENT2, interval1, "Reminder message");
+        ReminderList list = new ReminderList();
+        list.add(reminder);
+        list.add(other);
+
+        list.removeAll(Arrays.asList(reminder));
+        assertEquals(Collections.singletonList(other), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_missingReminder_throwsNotFoundException() {
+        thrown.expect(NotFoundException.class);
+
+        new ReminderList().removeAll(Arrays.asList(reminder));
+    }
+
+    @Test
+    public void removeAll_someRemindersMissing_listUnchanged() {
+        Reminder missing = new Reminder(EVENT2, interval1, "Reminder message");
+        ReminderList list = new ReminderList();
+        list.add(reminder);
+
+        try {
+            list.removeAll(Arrays.asList(reminder, missing));
+            fail("NotFoundException was not thrown");
+        } catch (NotFoundException nfe) {
+            assertEquals(Collections.singletonList(reminder), list.asUnmodifiableObservableList());
+        }
+    }
+
     @Test
     public void equals_checkCorrectness() {
         ReminderList list1 = new ReminderList();
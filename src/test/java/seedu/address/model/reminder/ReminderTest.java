@@ -1,10 +1,14 @@
 package seedu.address.model.reminder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import static seedu.address.testutil.TypicalEvents.EVENT1;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Objects;
 
 import org.junit.BeforeClass;
@@ -94,6 +98,31 @@ public class ReminderTest {
         assertEquals(expected, reminder.toString());
     }
 
+    @Test
+    public void fireAtAndExpireAt_yearInterval_noOverflow() {
+        Reminder reminder = new Reminder(event1, new Interval("30", "year"), message1);
+        long fireAt = toMillis(LocalDateTime.of(1990, 1, 1, 14, 0));
+
+        assertEquals(fireAt, reminder.getFireAt(0));
+        assertEquals(fireAt + 60 * 1000, reminder.getExpireAt(0));
+        assertEquals(2L * 365 * 24 * 60 * 60 * 1000, reminder.changeIntervalIntoMillis(new Interval("2", "year")));
+    }
+
+    @Test
+    public void isShownAtAndIsExpiredAt() {
+        Reminder reminder = new Reminder(event1, interval1, message1);
+        long fireAt = toMillis(LocalDateTime.of(2020, 1, 1, 13, 58));
+
+        assertFalse(reminder.isShownAt(fireAt - 1));
+        assertTrue(reminder.isShownAt(fireAt));
+        assertFalse(reminder.isExpiredAt(fireAt + 60 * 1000 - 1));
+        assertTrue(reminder.isExpiredAt(fireAt + 60 * 1000));
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
     @Test
     public void hashCode_testing() {
         Reminder reminder = new Reminder(event1, interval1, message1);
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.reminder.Interval;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TestUtil;
+import seedu.address.testutil.TypicalEvents;
+import seedu.address.testutil.TypicalPersons;
+
+public class AddressBookExporterTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+
+    @Test
+    public void exportTo_json_readableAsAddressBook() throws Exception {
+        AddressBook addressBook = TypicalEvents.getTypicalAddressBook();
+        addressBook.addReminder(new Reminder(TypicalEvents.EVENT1, new Interval("2", "min"),
+                "Reminder: You have an Event!"));
+        Path filePath = TestUtil.getFilePathInSandboxFolder("exported.json");
+
+        exporterOf(addressBook).exportTo(filePath, ExportFormat.JSON, person -> person.getTags().contains(FRIENDS));
+
+        ReadOnlyAddressBook exported = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.BENSON, TypicalPersons.DANIEL),
+                exported.getPersonList());
+        assertEquals(addressBook.getEventList(), exported.getEventList());
+        assertEquals(addressBook.getReminderList(), exported.getReminderList());
+    }
+
+    @Test
+    public void exportTo_csv_filteredPersonsWritten() throws Exception {
+        Path filePath = TestUtil.getFilePathInSandboxFolder("exported.csv");
+
+        exporterOf(TypicalPersons.getTypicalAddressBook())
+                .exportTo(filePath, ExportFormat.CSV, person -> person.getTags().contains(FRIENDS));
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList(AddressBookExporter.CSV_HEADER,
+                "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",friends",
+                "Benson Meier,98765432,johnd@example.com,\"311, Clementi Ave 2, #02-25\",friends owesMoney",
+                "Daniel Meier,87652533,cornelia@example.com,10th street,friends"), lines);
+    }
+
+    @Test
+    public void exportTo_vCard_onePerPerson() throws Exception {
+        Path filePath = TestUtil.getFilePathInSandboxFolder("exported.vcf");
+
+        exporterOf(TypicalPersons.getTypicalAddressBook()).exportTo(filePath, ExportFormat.VCARD, person -> true);
+
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        assertEquals(TypicalPersons.getTypicalPersons().size(), content.split("BEGIN:VCARD\r\n", -1).length - 1);
+        assertTrue(content.contains("FN:Alice Pauline\r\n"));
+        assertTrue(content.contains("ADR:;;123\\, Jurong West Ave 6\\, #08-111;;;;\r\n"));
+        assertTrue(content.contains("CATEGORIES:friends,owesMoney\r\n"));
+    }
+
+    @Test
+    public void exportTo_iCalendar_eventsWithRecurrence() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        Event event = new EventBuilder().withStartDateTime("2019-03-04 10:00:00")
+                .withEndDateTime("2019-03-04 12:00:00")
+                .withRecurrence("fortnightly until 2019-04-29 except 2019-03-18").build();
+        addressBook.addEvent(event);
+        Path filePath = TestUtil.getFilePathInSandboxFolder("exported.ics");
+
+        exporterOf(addressBook).exportTo(filePath, ExportFormat.ICALENDAR, person -> true);
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertEquals("BEGIN:VCALENDAR", lines.get(0));
+        assertEquals("END:VCALENDAR", lines.get(lines.size() - 1));
+        assertTrue(lines.contains("DTSTART:20190304T100000"));
+        assertTrue(lines.contains("DTEND:20190304T120000"));
+        assertTrue(lines.contains("RRULE:FREQ=WEEKLY;INTERVAL=2;UNTIL=20190429T235959"));
+        assertTrue(lines.contains("EXDATE:20190318T100000"));
+    }
+
+    @Test
+    public void toCsvField() {
+        assertEquals("plain", AddressBookExporter.toCsvField("plain"));
+        assertEquals("\"a, b\"", AddressBookExporter.toCsvField("a, b"));
+        assertEquals("\"say \"\"hi\"\"\"", AddressBookExporter.toCsvField("say \"hi\""));
+    }
+
+    @Test
+    public void ofFileName() {
+        assertEquals(Optional.of(ExportFormat.CSV), ExportFormat.ofFileName("contacts.CSV"));
+        assertEquals(Optional.of(ExportFormat.ICALENDAR), ExportFormat.ofFileName("events.ics"));
+        assertFalse(ExportFormat.ofFileName("contacts").isPresent());
+    }
+
+    private static AddressBookExporter exporterOf(AddressBook addressBook) {
+        return new AddressBookExporter(addressBook.getPersonList(), addressBook.getEventList(),
+                addressBook.getReminderList());
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+
+public class AddressBookStorageConverterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path jsonFilePath;
+    private UserPrefs userPrefs;
+
+    @Before
+    public void setUp() {
+        jsonFilePath = testFolder.getRoot().toPath().resolve("addressbook.json");
+        userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+    }
+
+    @Test
+    public void toChosenFormat_binaryChosenAfterJson_jsonConverted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        userPrefs.setBinaryStorage(true);
+        AddressBookStorage storage = AddressBookStorageConverter.toChosenFormat(userPrefs);
+
+        assertTrue(storage instanceof BinaryAddressBookStorage);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(DataFileFormat.BINARY, DataFileFormat.readLastKept(jsonFilePath, DataFileFormat.JSON));
+    }
+
+    @Test
+    public void toChosenFormat_jsonChosenAgainAfterBinary_binaryConvertedBack() throws Exception {
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        userPrefs.setBinaryStorage(true);
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        AddressBookStorageConverter.toChosenFormat(userPrefs).saveAddressBook(changed);
+
+        userPrefs.setBinaryStorage(false);
+        AddressBookStorage storage = AddressBookStorageConverter.toChosenFormat(userPrefs);
+
+        assertTrue(storage instanceof JsonAddressBookStorage);
+        assertEquals(changed, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void toChosenFormat_binaryChosenAgainAfterSharded_shardsConverted() throws Exception {
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        userPrefs.setBinaryStorage(true);
+        AddressBookStorageConverter.toChosenFormat(userPrefs);
+        userPrefs.setBinaryStorage(false);
+        userPrefs.setShardedStorage(true);
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(IDA);
+        AddressBookStorageConverter.toChosenFormat(userPrefs).saveAddressBook(changed);
+
+        // the binary file left from before is stale, and is written over with the shards
+        userPrefs.setBinaryStorage(true);
+        AddressBookStorage storage = AddressBookStorageConverter.toChosenFormat(userPrefs);
+
+        assertTrue(storage instanceof BinaryAddressBookStorage);
+        assertEquals(changed, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void toChosenFormat_binaryFileFromBeforeFormatsWereRecorded_binaryKept() throws Exception {
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath)).saveAddressBook(changed);
+
+        userPrefs.setBinaryStorage(true);
+        AddressBookStorage storage = AddressBookStorageConverter.toChosenFormat(userPrefs);
+
+        assertEquals(changed, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void toChosenFormat_lastKeptFormatUnreadable_lastKeptFormatUsed() throws Exception {
+        userPrefs.setBinaryStorage(true);
+        AddressBookStorageConverter.toChosenFormat(userPrefs);
+        Files.write(BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath),
+                "not binary".getBytes(StandardCharsets.UTF_8));
+
+        userPrefs.setBinaryStorage(false);
+        AddressBookStorage storage = AddressBookStorageConverter.toChosenFormat(userPrefs);
+
+        assertTrue(storage instanceof BinaryAddressBookStorage);
+        assertFalse(Files.exists(jsonFilePath));
+        assertEquals(DataFileFormat.BINARY, DataFileFormat.readLastKept(jsonFilePath, DataFileFormat.JSON));
+    }
+
+    @Test
+    public void toChosenFormat_noData_chosenFormatRecorded() throws Exception {
+        userPrefs.setShardedStorage(true);
+        AddressBookStorage storage = AddressBookStorageConverter.toChosenFormat(userPrefs);
+
+        assertTrue(storage instanceof ShardedAddressBookStorage);
+        assertFalse(storage.readAddressBook().isPresent());
+        assertEquals(DataFileFormat.SHARDED, DataFileFormat.readLastKept(jsonFilePath, DataFileFormat.JSON));
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AutoSaverTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private CountingAddressBookStorage addressBookStorage;
+    private AutoSaver autoSaver;
+
+    @Before
+    public void setUp() {
+        addressBookStorage = new CountingAddressBookStorage(testFolder.getRoot().toPath().resolve("ab"));
+        Storage storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.getRoot().toPath().resolve("prefs")));
+        autoSaver = new AutoSaver(storage);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void save_notStarted_writtenImmediately() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        autoSaver.save(original);
+
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(original, new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_burstOfChanges_latestCopyWrittenOnceOnStop() throws Exception {
+        autoSaver.start(executor);
+        AddressBook addressBook = new AddressBook();
+        autoSaver.save(addressBook);
+        addressBook.addPerson(ALICE);
+        autoSaver.save(addressBook);
+        autoSaver.stop();
+
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(addressBook, new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_backgroundWriteFails_failureReportedOnce() throws Exception {
+        addressBookStorage.isFailing = true;
+        autoSaver.start(executor);
+        autoSaver.save(new AddressBook());
+        autoSaver.stop();
+
+        assertFalse(autoSaver.isHealthy());
+        assertTrue(autoSaver.takeFailure().isPresent());
+        assertFalse(autoSaver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void readExternalChanges_writesNotTracked_throwsIllegalStateException() throws Exception {
+        thrown.expect(IllegalStateException.class);
+        autoSaver.readExternalChanges();
+    }
+
+    @Test
+    public void readExternalChanges_ownWrite_noChanges() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        autoSaver.save(addressBook);
+        AtomicInteger writeCount = new AtomicInteger();
+        autoSaver.trackWrites(addressBook, writeCount::incrementAndGet);
+
+        addressBook.addPerson(ALICE);
+        autoSaver.save(addressBook);
+
+        assertEquals(1, writeCount.get());
+        assertTrue(autoSaver.readExternalChanges().get().isEmpty());
+    }
+
+    @Test
+    public void readExternalChanges_fileChangedByOtherProgram_changesReturnedOnce() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        autoSaver.save(addressBook);
+        autoSaver.trackWrites(addressBook, () -> { });
+
+        AddressBook changed = new AddressBook();
+        changed.addPerson(ALICE);
+        new JsonAddressBookStorage(addressBookStorage.getAddressBookFilePath()).saveAddressBook(changed);
+
+        AddressBookDiff changes = autoSaver.readExternalChanges().get();
+        assertEquals(Collections.singletonList(ALICE), changes.getAddedPersons());
+        assertEquals(1, changes.size());
+        // the file read is compared against the next time.
+        assertTrue(autoSaver.readExternalChanges().get().isEmpty());
+    }
+
+    @Test
+    public void readExternalChanges_fileRemoved_emptyResult() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        autoSaver.save(addressBook);
+        autoSaver.trackWrites(addressBook, () -> { });
+        Files.delete(addressBookStorage.getAddressBookFilePath());
+
+        assertFalse(autoSaver.readExternalChanges().isPresent());
+    }
+
+    @Test
+    public void saveIfChanged_sameAsFileRead_notWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        autoSaver.save(addressBook);
+        autoSaver.trackWrites(addressBook, () -> { });
+        autoSaver.readExternalChanges();
+
+        autoSaver.saveIfChanged(new AddressBook(addressBook));
+        assertEquals(1, addressBookStorage.saveCount);
+
+        addressBook.removePerson(ALICE);
+        autoSaver.saveIfChanged(addressBook);
+        assertEquals(2, addressBookStorage.saveCount);
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts its writes, and fails them when asked to.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private int saveCount;
+        private boolean isFailing;
+
+        CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalReminders.EVENT1;
+import static seedu.address.testutil.TypicalReminders.REMINDER1;
+import static seedu.address.testutil.TypicalReminders.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.testutil.EventBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void toBinaryFilePath_jsonFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.toBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.toBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("notBinary.bin");
+        Files.write(filePath, "{ \"persons\" : [] }".getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("truncated.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+
+        binaryStorage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = binaryStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryStorage.saveAddressBook(original);
+        readBack = binaryStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_eventWithParticipants_participantsKept() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.setPersons(Arrays.asList(ALICE, BENSON, HOON));
+        Event event = new EventBuilder(EVENT1).build();
+        event.addPerson(ALICE, HOON);
+        original.addEvent(event);
+        original.addReminder(new Reminder(event, REMINDER1.getInterval(), REMINDER1.getMessage()));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+
+        binaryStorage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = binaryStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(event.getPersons(), readBack.getEventList().get(0).getPersons());
+        assertEquals(event.getPersons(), readBack.getReminderList().get(0).getEvent().getPersons());
+    }
+
+    @Test
+    public void convert_jsonToBinary_sameData() throws Exception {
+        Path jsonFilePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        BinaryAddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath));
+
+        // no json file to convert
+        assertFalse(AddressBookStorageConverter.convert(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+        assertTrue(AddressBookStorageConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(jsonStorage.readAddressBook().get(), binaryStorage.readAddressBook().get());
+        assertTrue(Files.size(binaryStorage.getAddressBookFilePath()) < Files.size(jsonFilePath));
+    }
+}
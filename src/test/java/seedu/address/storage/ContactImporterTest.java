@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TestUtil.writeToSandboxFolder;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class ContactImporterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void isContactFile() {
+        assertTrue(ContactImporter.isContactFile(Paths.get("data", "contacts.csv")));
+        assertTrue(ContactImporter.isContactFile(Paths.get("contacts.VCF")));
+        assertFalse(ContactImporter.isContactFile(Paths.get("contacts.json")));
+        assertFalse(ContactImporter.isContactFile(Paths.get("events.ics")));
+    }
+
+    @Test
+    public void importFrom_csv_columnsMappedAndBadRowsReported() throws Exception {
+        Path filePath = writeToSandboxFolder("contacts.csv",
+                "Full Name,Notes,E-mail,Mobile,Home Address,Groups",
+                "Amy Bee,,amy@example.com,(+65) 9123-4567,\"1 Main St,",
+                "#01-01\",friends colleagues",
+                "",
+                "Bad Phone,,bad@example.com,12a,somewhere,",
+                "Carl Kurz,,heinz@example.com,95352563,wall street,",
+                "Amy Bee,,amy@example.com,91234567,elsewhere,");
+
+        ContactImporter.Result result = new ContactImporter(Collections.singletonList(TypicalPersons.CARL))
+                .importFrom(filePath);
+
+        Person amy = new PersonBuilder().withName("Amy Bee").withPhone("6591234567").withEmail("amy@example.com")
+                .withAddress("1 Main St, #01-01").withTags("friends", "colleagues").build();
+        assertEquals(Collections.singletonList(amy), result.getPersons());
+        assertEquals(2, result.getDuplicateCount());
+        assertEquals(1, result.getInvalidCount());
+        assertEquals(Collections.singletonList("Line 5: " + Phone.MESSAGE_CONSTRAINTS), result.getErrors());
+    }
+
+    @Test
+    public void importFrom_csvWithoutPhoneColumn_throwsIllegalValueException() throws Exception {
+        Path filePath = writeToSandboxFolder("noPhone.csv", "name,email,address", "Amy Bee,amy@example.com,somewhere");
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(CsvContactReader.MESSAGE_MISSING_COLUMN, CsvContactReader.PHONE));
+        new ContactImporter(Collections.emptyList()).importFrom(filePath);
+    }
+
+    @Test
+    public void importFrom_csvOfManyChunksOnExecutor_sameOrder() throws Exception {
+        List<String> lines = new ArrayList<>(Collections.singletonList("name,phone,email,address"));
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < ContactImporter.VALIDATION_CHUNK_SIZE * 2 + 10; i++) {
+            lines.add("Person " + i + "," + (10000000 + i) + ",person" + i + "@example.com,street " + i);
+            expected.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000000 + i))
+                    .withEmail("person" + i + "@example.com").withAddress("street " + i).withTags().build());
+        }
+        lines.add("Person 0,999,person0@example.com,street 0");
+        Path filePath = writeToSandboxFolder("many.csv", lines.toArray(new String[0]));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ContactImporter.Result result;
+        try {
+            result = new ContactImporter(Collections.emptyList(), executor).importFrom(filePath);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(expected, result.getPersons());
+        assertEquals(1, result.getDuplicateCount());
+    }
+
+    @Test
+    public void importFrom_vCard_propertiesRead() throws Exception {
+        Path filePath = writeToSandboxFolder("contacts.vcf",
+                "BEGIN:VCARD",
+                "VERSION:3.0",
+                "N:Bee;Amy;;;",
+                "item1.TEL;TYPE=cell:9123 4567",
+                "TEL;TYPE=work:61234567",
+                "EMAIL:amy@exam",
+                " ple.com",
+                "ADR;TYPE=home:;;1 Main St\\, #01-01;Singapore;;123456;",
+                "CATEGORIES:friends,colleagues",
+                "END:VCARD",
+                "BEGIN:VCARD",
+                "VERSION:3.0",
+                "FN:No Email",
+                "TEL:123456",
+                "ADR:;;somewhere;;;;",
+                "END:VCARD");
+
+        ContactImporter.Result result = new ContactImporter(Collections.emptyList()).importFrom(filePath);
+
+        Person amy = new PersonBuilder().withName("Amy Bee").withPhone("91234567").withEmail("amy@example.com")
+                .withAddress("1 Main St, #01-01, Singapore, 123456").withTags("friends", "colleagues").build();
+        assertEquals(Collections.singletonList(amy), result.getPersons());
+        assertEquals(1, result.getInvalidCount());
+        assertTrue(result.getErrors().get(0).startsWith("Line 11: "));
+    }
+
+    @Test
+    public void split_escapedSeparator_notSplit() {
+        assertEquals(Arrays.asList("a;b", "c\\d", ""), ContentLineReader.split("a\\;b;c\\\\d;", ';'));
+        assertEquals("line one\nline two", ContentLineReader.unescape("line one\\nline two"));
+    }
+}
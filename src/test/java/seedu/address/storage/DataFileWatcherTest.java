@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
+
+public class DataFileWatcherTest {
+
+    private static final long CHANGE_TIMEOUT_SECONDS = 10;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final BlockingQueue<AddressBookDiff> changesSeen = new LinkedBlockingQueue<>();
+    private final AddressBook addressBook = new AddressBook();
+    private Path dataFilePath;
+    private AutoSaver autoSaver;
+    private DataFileWatcher watcher;
+
+    @Before
+    public void setUp() throws Exception {
+        dataFilePath = testFolder.getRoot().toPath().resolve("addressbook.json");
+        Storage storage = new StorageManager(new JsonAddressBookStorage(dataFilePath),
+                new JsonUserPrefsStorage(testFolder.getRoot().toPath().resolve("prefs.json")));
+        autoSaver = new AutoSaver(storage);
+        addressBook.addPerson(ALICE);
+        autoSaver.save(addressBook);
+        watcher = new DataFileWatcher(addressBook, autoSaver, dataFilePath, changesSeen::add);
+    }
+
+    @After
+    public void tearDown() {
+        watcher.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void isDataFile_filesOfEveryStorageFormat_returnsTrue() {
+        assertTrue(watcher.isDataFile(Paths.get("addressbook.json")));
+        assertTrue(watcher.isDataFile(Paths.get("addressbook.json.journal")));
+        assertTrue(watcher.isDataFile(Paths.get("addressbook.bin")));
+        assertTrue(watcher.isDataFile(Paths.get("addressbook.persons.json")));
+        assertTrue(watcher.isDataFile(Paths.get("addressbook.events.json")));
+        assertTrue(watcher.isDataFile(Paths.get("addressbook.reminders.json")));
+    }
+
+    @Test
+    public void isDataFile_otherFilesSharingName_returnsFalse() {
+        assertFalse(watcher.isDataFile(Paths.get("addressbook-backup.json")));
+        assertFalse(watcher.isDataFile(Paths.get("addressbook.json.bak")));
+        assertFalse(watcher.isDataFile(Paths.get("addressbook.notes.json")));
+        assertFalse(watcher.isDataFile(Paths.get("addressbook2.json")));
+        assertFalse(watcher.isDataFile(Paths.get("prefs.json")));
+    }
+
+    @Test
+    public void start_fileChangedByOtherProgram_changesPassedOn() throws Exception {
+        watcher.start(executor);
+        assertTrue(watcher.isHealthy());
+
+        AddressBook changed = new AddressBook(addressBook);
+        changed.addPerson(BENSON);
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(changed);
+
+        AddressBookDiff changes = changesSeen.poll(CHANGE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(Collections.singletonList(BENSON), changes.getAddedPersons());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void stop_started_notHealthy() {
+        watcher.start(executor);
+        watcher.stop();
+        assertFalse(watcher.isHealthy());
+    }
+}
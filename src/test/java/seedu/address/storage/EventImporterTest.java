@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TestUtil.writeToSandboxFolder;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class EventImporterTest {
+
+    private static final LocalDate IMPORT_DATE = LocalDate.of(2019, 4, 1);
+
+    @Test
+    public void isEventFile() {
+        assertTrue(EventImporter.isEventFile(Paths.get("data", "calendar.ics")));
+        assertTrue(EventImporter.isEventFile(Paths.get("calendar.ICS")));
+        assertFalse(EventImporter.isEventFile(Paths.get("contacts.vcf")));
+    }
+
+    @Test
+    public void importFrom_properties_mappedToEvents() throws Exception {
+        Event existing = new EventBuilder().withName("Lunch").withVenue(EventRecord.DEFAULT_VENUE)
+                .withStartDateTime("2019-04-03 12:00:00").withEndDateTime("2019-04-03 13:00:00").build();
+        Path filePath = writeToSandboxFolder("properties.ics",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "SUMMARY:Team sync: Q3",
+                "LOCATION:COM1\\, level 2",
+                "DESCRIPTION:Agenda:\\nplans",
+                "  for Q3",
+                "CATEGORIES:Work-Items,Meetings",
+                "DTSTART;TZID=Asia/Singapore:20190401T100000",
+                "DTEND:20190401T030000Z",
+                "BEGIN:VALARM",
+                "DESCRIPTION:Reminder",
+                "END:VALARM",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:Holiday",
+                "DTSTART;VALUE=DATE:20190402",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:No start",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:Lunch",
+                "DTSTART:20190403T120000",
+                "DURATION:PT1H",
+                "END:VEVENT",
+                "END:VCALENDAR");
+
+        EventImporter.Result result = new EventImporter(Collections.singletonList(existing), IMPORT_DATE,
+                ZoneOffset.UTC).importFrom(filePath);
+
+        Event teamSync = new EventBuilder().withName("Team sync Q3").withVenue("COM1, level 2")
+                .withDescription("Agenda: plans for Q3").withLabel("WorkItems")
+                .withStartDateTime("2019-04-01 02:00:00").withEndDateTime("2019-04-01 03:00:00").build();
+        Event holiday = new EventBuilder().withName("Holiday").withVenue(EventRecord.DEFAULT_VENUE)
+                .withDescription(EventRecord.DEFAULT_DESCRIPTION).withLabel(EventRecord.DEFAULT_LABEL)
+                .withStartDateTime("2019-04-02 00:00:00").withEndDateTime("2019-04-02 23:59:59").build();
+        assertEquals(Arrays.asList(teamSync, holiday), result.getEvents());
+        assertEquals(1, result.getDuplicateCount());
+        assertEquals(Collections.singletonList("Line 18: " + String.format(EventRecord.MESSAGE_MISSING_PROPERTY,
+                "DTSTART")), result.getErrors());
+    }
+
+    @Test
+    public void importFrom_dailyWeeklyOrFortnightlyRules_keptAsRecurrences() throws Exception {
+        Path filePath = writeToSandboxFolder("recurrences.ics",
+                "BEGIN:VEVENT",
+                "SUMMARY:Standup",
+                "DTSTART:20190401T090000",
+                "DTEND:20190401T091500",
+                "RRULE:FREQ=DAILY;UNTIL=20190405T085959Z",
+                "EXDATE:20190402T090000,20190403T090000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:Review",
+                "DTSTART:20190401T140000",
+                "RRULE:FREQ=WEEKLY;INTERVAL=2;COUNT=3",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:Lecture",
+                "DTSTART:20190102T100000",
+                "RRULE:FREQ=WEEKLY;BYDAY=WE",
+                "END:VEVENT");
+
+        EventImporter.Result result = new EventImporter(Collections.emptyList(), IMPORT_DATE, ZoneOffset.UTC)
+                .importFrom(filePath);
+
+        assertEquals(Arrays.asList("daily until 2019-04-04 except 2019-04-02 2019-04-03",
+                "fortnightly until 2019-04-29", "weekly until 2020-04-01"),
+                result.getEvents().stream().map(event -> event.getRecurrence().get().value)
+                        .collect(Collectors.toList()));
+        assertEquals(0, result.getPartialCount());
+    }
+
+    @Test
+    public void importFrom_otherSimpleRules_expandedIntoOccurrences() throws Exception {
+        Path filePath = writeToSandboxFolder("expanded.ics",
+                "BEGIN:VEVENT",
+                "SUMMARY:Rent",
+                "DTSTART:20190131T080000",
+                "RRULE:FREQ=MONTHLY;COUNT=3",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:Gym",
+                "DTSTART:20190401T180000",
+                "RRULE:FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20190410",
+                "EXDATE;VALUE=DATE:20190408",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:Board meeting",
+                "DTSTART:20190401T180000",
+                "RRULE:FREQ=MONTHLY;BYDAY=1MO",
+                "END:VEVENT");
+
+        EventImporter.Result result = new EventImporter(Collections.emptyList(), IMPORT_DATE, ZoneOffset.UTC)
+                .importFrom(filePath);
+
+        assertEquals(Arrays.asList("Rent 2019-01-31 08:00:00", "Rent 2019-03-31 08:00:00",
+                "Rent 2019-05-31 08:00:00", "Gym 2019-04-01 18:00:00", "Gym 2019-04-03 18:00:00",
+                "Gym 2019-04-10 18:00:00", "Board meeting 2019-04-01 18:00:00"), toNamesAndStarts(result));
+        assertEquals(1, result.getPartialCount());
+    }
+
+    @Test
+    public void importFrom_ruleWithoutEnd_expandedWithinWindow() throws Exception {
+        Path filePath = writeToSandboxFolder("window.ics",
+                "BEGIN:VEVENT",
+                "SUMMARY:Review",
+                "DTSTART:20100115T100000",
+                "RRULE:FREQ=MONTHLY",
+                "END:VEVENT");
+
+        EventImporter.Result result = new EventImporter(Collections.emptyList(), IMPORT_DATE, ZoneOffset.UTC)
+                .importFrom(filePath);
+
+        List<String> occurrences = toNamesAndStarts(result);
+        assertEquals(25, occurrences.size());
+        assertEquals(Arrays.asList("Review 2010-01-15 10:00:00", "Review 2018-04-15 10:00:00"),
+                occurrences.subList(0, 2));
+        assertEquals("Review 2020-03-15 10:00:00", occurrences.get(24));
+    }
+
+    private static List<String> toNamesAndStarts(EventImporter.Result result) {
+        return result.getEvents().stream().map(event -> event.getName() + " " + event.getStartDateTime())
+                .collect(Collectors.toList());
+    }
+}
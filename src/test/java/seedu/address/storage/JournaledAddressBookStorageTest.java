@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalReminders.EVENT1;
+import static seedu.address.testutil.TypicalReminders.REMINDER1;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private JournaledAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        storage = new JournaledAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_afterFirstSave_appendsChangesToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        // snapshot is untouched, and one record is appended per save
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_noChange_journalNotWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_reminderShownInPlace_appendsChangeToJournal() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addEvent(EVENT1);
+        original.addReminder(REMINDER1);
+        storage.saveAddressBook(original);
+
+        original.setShow(original.getReminderList().get(0), true);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertTrue(readBack.getReminderList().get(0).getShow());
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingOwnWrite_appendsOnlyChanges() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // reading the file again, as when checking for changes made by other programs, does not reset the journal
+        storage.readAddressBook();
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        List<String> records = Files.readAllLines(storage.getJournalFilePath());
+        assertEquals(1, records.size());
+        assertFalse(records.get(0).contains(ALICE.getName().fullName));
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingChangesByOtherProgram_writesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(IDA);
+        new JournaledAddressBookStorage(filePath).saveAddressBook(changed);
+
+        storage.readAddressBook();
+        changed.addPerson(HOON);
+        storage.saveAddressBook(changed);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(changed, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenLastRecord_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), "{\"sequence\":2,\"li".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_recordsInSnapshot_notAppliedAgain() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        byte[] journal = Files.readAllBytes(storage.getJournalFilePath());
+
+        // the journal is folded into the snapshot, and then restored as if the app stopped before emptying it
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        reopened.saveAddressBook(reopened.readAddressBook().get());
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        Files.write(storage.getJournalFilePath(), journal);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+}
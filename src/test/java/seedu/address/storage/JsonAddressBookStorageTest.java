@@ -2,14 +2,18 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,6 +23,7 @@ import org.junit.rules.TemporaryFolder;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.TypicalEvents;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -98,6 +103,56 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_notPrettyPrinted_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(filePath, true, true).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertEquals((byte) 0x1f, bytes[0]);
+        assertEquals((byte) 0x8b, bytes[1]);
+
+        // compression is recognised on reading, whichever storage reads the file
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBookLazily_personsFirst_eventsAndRemindersLater() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        AddressBook original = TypicalEvents.getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        List<Runnable> deferred = new ArrayList<>();
+        LazyAddressBook readBack = jsonAddressBookStorage.readAddressBookLazily(deferred::add).get();
+        assertEquals(original.getPersonList(), readBack.getPersons().getPersonList());
+        assertTrue(readBack.getPersons().getEventList().isEmpty());
+        assertFalse(readBack.getEventsAndReminders().isDone());
+
+        deferred.forEach(Runnable::run);
+        assertEquals(original.getEventList(), readBack.getEventsAndReminders().join().getEventList());
+    }
+
+    @Test
+    public void readAddressBookLazily_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("NonExistentFile.json");
+        assertFalse(new JsonAddressBookStorage(filePath).readAddressBookLazily(Runnable::run).isPresent());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
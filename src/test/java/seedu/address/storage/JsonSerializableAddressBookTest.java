@@ -1,9 +1,17 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,6 +20,12 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Interval;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -41,6 +55,31 @@ public class JsonSerializableAddressBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_manyChunks_sameOrder() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 3000; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        AddressBook converted = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(original.getPersonList(), converted.getPersonList());
+    }
+
+    @Test
+    public void toModelType_duplicatePersonsInDifferentChunks_throwsIllegalValueException() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 2000; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        JsonSerializableAddressBook dataWithDuplicate = new JsonSerializableAddressBook(original);
+        dataWithDuplicate.getPersons().add(new JsonAdaptedPerson(original.getPersonList().get(0)));
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        dataWithDuplicate.toModelType();
+    }
+
     @Test
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
@@ -50,4 +89,82 @@ public class JsonSerializableAddressBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_eventsAndReminders_linkedByReference() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(TypicalPersons.ALICE);
+        original.addPerson(TypicalPersons.BENSON);
+        Event event = new EventBuilder().build();
+        event.addPerson(TypicalPersons.BENSON);
+        original.addEvent(event);
+        original.addReminder(new Reminder(event, new Interval("2", "min"), "Reminder: You have an Event!"));
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        AddressBook converted = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+
+        Event convertedEvent = converted.getEventList().get(0);
+        assertEquals(event, convertedEvent);
+        assertSame(converted.getPersonList().get(1), convertedEvent.getPersons().iterator().next());
+        assertSame(convertedEvent, converted.getReminderList().get(0).getEvent());
+    }
+
+    @Test
+    public void toModelType_manyChunksOnBusyExecutor_convertedInOrder() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        AddressBook original = new AddressBook();
+        original.setPersons(persons);
+        // the only thread of the executor is kept busy, so the chunks are all left to the calling thread.
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            AddressBook converted = new JsonSerializableAddressBook(original)
+                    .toModelType(Collections.emptyList(), executor);
+            assertEquals(persons, converted.getPersonList());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void toModelType_eventDeletedBeforeSaving_reloadedWithoutItsReminders() throws Exception {
+        AddressBook original = new AddressBook();
+        Event deleted = new EventBuilder().withName("deleted").build();
+        Event kept = new EventBuilder().withName("kept").build();
+        original.addEvent(deleted);
+        original.addEvent(kept);
+        original.addReminder(new Reminder(deleted, new Interval("2", "min"), "Reminder: You have an Event!"));
+        original.addReminder(new Reminder(kept, new Interval("2", "min"), "Reminder: You have an Event!"));
+        original.removeEvent(deleted);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        AddressBook reloaded = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+
+        assertEquals(original, reloaded);
+        assertEquals(1, reloaded.getReminderList().size());
+        assertSame(reloaded.getEventList().get(0), reloaded.getReminderList().get(0).getEvent());
+    }
+
+    @Test
+    public void toModelType_reminderOfUnknownEvent_leftOut() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addReminder(new Reminder(new EventBuilder().build(), new Interval("2", "min"),
+                "Reminder: You have an Event!"));
+
+        AddressBook converted = new JsonSerializableAddressBook(original).toModelType();
+
+        assertTrue(converted.getReminderList().isEmpty());
+    }
 }
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.storage.ShardedAddressBookStorage.EVENTS_SHARD;
+import static seedu.address.storage.ShardedAddressBookStorage.PERSONS_SHARD;
+import static seedu.address.storage.ShardedAddressBookStorage.REMINDERS_SHARD;
+import static seedu.address.storage.ShardedAddressBookStorage.getShardFilePath;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalReminders.REMINDER1;
+import static seedu.address.testutil.TypicalReminders.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class ShardedAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void getShardFilePath_jsonFile_shardNamedBeforeExtension() {
+        assertEquals(Paths.get("data", "addressbook.persons.json"),
+                getShardFilePath(Paths.get("data", "addressbook.json"), PERSONS_SHARD));
+        assertEquals(Paths.get("data", "addressbook.events"),
+                getShardFilePath(Paths.get("data", "addressbook"), EVENTS_SHARD));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("NonExistentFile.json");
+        assertFalse(new ShardedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(filePath);
+
+        shardedStorage.saveAddressBook(original);
+        assertTrue(Files.exists(getShardFilePath(filePath, PERSONS_SHARD)));
+        assertTrue(Files.exists(getShardFilePath(filePath, EVENTS_SHARD)));
+        assertTrue(Files.exists(getShardFilePath(filePath, REMINDERS_SHARD)));
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getReminderList(), readBack.getReminderList());
+
+        // Modify data, overwrite existing shards, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.removeReminder(REMINDER1);
+        shardedStorage.saveAddressBook(original);
+        readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getReminderList(), readBack.getReminderList());
+    }
+
+    @Test
+    public void saveAddressBook_remindersChanged_onlyReminderShardWritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(filePath);
+        shardedStorage.saveAddressBook(original);
+        Files.delete(getShardFilePath(filePath, PERSONS_SHARD));
+        Files.delete(getShardFilePath(filePath, EVENTS_SHARD));
+
+        // a copy, like the one saved in the background, keeps the stamps of the unchanged parts
+        AddressBook copy = new AddressBook(original);
+        copy.removeReminder(REMINDER1);
+        shardedStorage.saveAddressBook(copy);
+        assertFalse(Files.exists(getShardFilePath(filePath, PERSONS_SHARD)));
+        assertFalse(Files.exists(getShardFilePath(filePath, EVENTS_SHARD)));
+
+        // nothing is written when nothing changed
+        Files.delete(getShardFilePath(filePath, REMINDERS_SHARD));
+        shardedStorage.saveAddressBook(new AddressBook(copy));
+        assertFalse(Files.exists(getShardFilePath(filePath, REMINDERS_SHARD)));
+
+        // every shard is written for a file other than the data file
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("Other.json");
+        shardedStorage.saveAddressBook(copy, otherFilePath);
+        assertEquals(copy.getReminderList(),
+                new ShardedAddressBookStorage(otherFilePath).readAddressBook().get().getReminderList());
+    }
+
+    @Test
+    public void readAddressBook_unchanged_nothingWritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(shardedStorage.readAddressBook().get());
+        Files.delete(getShardFilePath(filePath, PERSONS_SHARD));
+        shardedStorage.saveAddressBook(readBack);
+        assertFalse(Files.exists(getShardFilePath(filePath, PERSONS_SHARD)));
+    }
+}
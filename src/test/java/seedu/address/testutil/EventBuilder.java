@@ -8,6 +8,7 @@ import seedu.address.model.event.Description;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.Label;
 import seedu.address.model.event.Name;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Venue;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.ReminderList;
@@ -33,6 +34,7 @@ public class EventBuilder {
     private Label label;
     private Set<Person> persons;
     private ReminderList reminders;
+    private Recurrence recurrence;
 
     public EventBuilder() {
         name = new Name(DEFAULT_NAME);
@@ -57,6 +59,7 @@ public class EventBuilder {
         label = eventToCopy.getLabel();
         persons = eventToCopy.getPersons();
         reminders = eventToCopy.getReminders();
+        recurrence = eventToCopy.getRecurrence().orElse(null);
     }
 
     /**
@@ -107,8 +110,19 @@ public class EventBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Recurrence} of the {@code Event} that we are building.
+     */
+    public EventBuilder withRecurrence(String rule) {
+        this.recurrence = new Recurrence(rule);
+        return this;
+    }
+
 
     public Event build() {
+        if (recurrence != null) {
+            return new Event(name, description, venue, startDateTime, endDateTime, label, persons, recurrence);
+        }
         return new Event(name, description, venue, startDateTime, endDateTime, label, persons, reminders);
     }
 
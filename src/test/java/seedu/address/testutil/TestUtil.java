@@ -1,9 +1,11 @@
 package seedu.address.testutil;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
@@ -32,6 +34,15 @@ public class TestUtil {
         return SANDBOX_FOLDER.resolve(fileName);
     }
 
+    /**
+     * Writes {@code lines} to the file {@code fileName} in the sandbox folder, and returns its path.
+     */
+    public static Path writeToSandboxFolder(String fileName, String... lines) throws IOException {
+        Path filePath = getFilePathInSandboxFolder(fileName);
+        Files.write(filePath, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return filePath;
+    }
+
     /**
      * Returns the middle index of the person in the {@code model}'s person list.
      */